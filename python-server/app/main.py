@@ -89,6 +89,14 @@ class Query(BaseModel):
 class QuestionResponse(BaseModel):
     question_id: Optional[int] = None
     similarity: Optional[float] = None
+
+# 임베딩 요청/응답 형식 (Java 서버의 벡터 인덱스에서 사용)
+class EmbedRequest(BaseModel):
+    texts: List[str]
+
+class EmbedResponse(BaseModel):
+    dimension: int
+    vectors: List[List[float]]
 # 추가끝
 
 # 기본 경로
@@ -113,4 +121,13 @@ def search_questions(query: Query):
             return {"question_id": question_id, "similarity": float(similarity)}
     
     return {"question_id": None, "similarity": None}
-# 추가끝
\ No newline at end of file
+# 추가끝
+
+# 임베딩 API 엔드포인트
+# 정규화된 벡터를 반환하므로 내적이 곧 코사인 유사도
+@app.post("/api/python/embed", response_model=EmbedResponse)
+def embed_texts(request: EmbedRequest):
+    if not request.texts:
+        return {"dimension": model.get_sentence_embedding_dimension(), "vectors": []}
+    vectors = model.encode(request.texts, normalize_embeddings=True).astype("float32")
+    return {"dimension": int(vectors.shape[1]), "vectors": vectors.tolist()}
@@ -0,0 +1,64 @@
+package com.ssafy.odab.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+
+/**
+ * 부하 테스트 요청에 넣을 토큰, 이미지
+ */
+final class LoadTestFixtures {
+
+    private LoadTestFixtures() {
+    }
+
+    /**
+     * 서버와 같은 jwt.secret 으로 access token 을 직접 만듦 (카카오 로그인을 거치지 않음).
+     * -Djwt.secret 이 없으면 JWT_SECRET 환경 변수 사용
+     */
+    static String accessToken(int userId) {
+        String secret = System.getProperty("jwt.secret", System.getenv("JWT_SECRET"));
+        if (secret == null) {
+            throw new IllegalStateException("jwt.secret 또는 JWT_SECRET 이 필요합니다.");
+        }
+        Key key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject(String.valueOf(userId))
+                .claim("userName", "loadtest-" + userId)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 24 * 60 * 60 * 1000L))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    // 휴대폰 사진 대신 문제 한 줄을 그린 PNG
+    static byte[] problemImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.BLACK);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, height / 12));
+        graphics.drawString("x^2 - 5x + 6 = 0", width / 10, height / 2);
+        graphics.dispose();
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ssafy.odab.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * 문제 업로드 → 풀이 → 채점 → 복습/메인 페이지 흐름 부하 테스트.
+ *
+ * 실행 순서
+ * 1. ./gradlew mockClaude -Dmock.latency-ms=800 -Dmock.error-rate=0.02   (Claude, 임베딩, S3 대역)
+ * 2. ./gradlew bootRun --args='--spring.profiles.active=loadtest'       (DB, Redis 는 로컬)
+ * 3. loadtest-users.sql 로 회원(기본 1~200번)을 넣고
+ * 4. ./gradlew gatlingRun -Dloadtest.users=100 -Djwt.secret=...
+ * 결과(처리량, p50/p95/p99)는 build/reports/gatling 에 저장됨
+ *
+ * 설정 (시스템 프로퍼티)
+ * - loadtest.base-url (http://localhost:8080)
+ * - loadtest.users (100)          : 동시에 흐름을 진행하는 사용자 수
+ * - loadtest.first-user-id (1)    : 토큰을 만들 회원 id 시작값. users 개 만큼 사용
+ * - loadtest.ramp-seconds (30), loadtest.hold-seconds (300)
+ * - loadtest.solve-p99-ms (30000) : 풀이 요청 p99 가 이보다 길면 실패
+ */
+public class SolveFlowSimulation extends Simulation {
+    private static final String BASE_URL = System.getProperty("loadtest.base-url", "http://localhost:8080");
+    private static final int USERS = Integer.getInteger("loadtest.users", 100);
+    private static final int FIRST_USER_ID = Integer.getInteger("loadtest.first-user-id", 1);
+    private static final Duration RAMP = Duration.ofSeconds(Long.getLong("loadtest.ramp-seconds", 30));
+    private static final Duration HOLD = Duration.ofSeconds(Long.getLong("loadtest.hold-seconds", 300));
+    private static final int SOLVE_P99_MS = Integer.getInteger("loadtest.solve-p99-ms", 30000);
+
+    private static final byte[] PROBLEM_IMAGE = LoadTestFixtures.problemImage(1280, 960);
+    private static final String ANSWER_BODY = "{\"answerImg\":\""
+            + Base64.getEncoder().encodeToString(LoadTestFixtures.problemImage(640, 480))
+            + "\",\"answerText\":\"5\"}";
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json");
+
+    private final List<Map<String, Object>> users = IntStream.range(FIRST_USER_ID, FIRST_USER_ID + USERS)
+            .mapToObj(userId -> Map.<String, Object>of("authorization", "Bearer " + LoadTestFixtures.accessToken(userId)))
+            .toList();
+
+    private final ScenarioBuilder solveFlow = scenario("upload-solve-verify-review")
+            .feed(listFeeder(users).circular())
+            .exec(http("upload")
+                    .post("/api/claude/text")
+                    .header("Authorization", "#{authorization}")
+                    .bodyPart(ByteArrayBodyPart("imageData", PROBLEM_IMAGE).fileName("problem.png").contentType("image/png"))
+                    .asMultipartForm()
+                    .check(status().is(200), jsonPath("$.questionText").saveAs("questionText")))
+            .exec(http("solve")
+                    .post("/api/claude")
+                    .header("Authorization", "#{authorization}")
+                    .bodyPart(StringBodyPart("userAsk", "#{questionText}"))
+                    .bodyPart(ByteArrayBodyPart("imageData", PROBLEM_IMAGE).fileName("problem.png").contentType("image/png"))
+                    .asMultipartForm()
+                    .check(status().is(200), jsonPath("$.questionId").ofInt().saveAs("questionId")))
+            .exec(http("verify")
+                    .patch("/api/v1/question/#{questionId}/answer")
+                    .header("Authorization", "#{authorization}")
+                    .body(StringBody(ANSWER_BODY))
+                    .asJson()
+                    .check(status().is(200), jsonPath("$.correct").exists()))
+            .exec(http("review")
+                    .get("/api/v1/learning/review")
+                    .header("Authorization", "#{authorization}")
+                    .check(status().is(200)))
+            .exec(http("main")
+                    .get("/api/v1/main")
+                    .header("Authorization", "#{authorization}")
+                    .check(status().is(200)));
+
+    {
+        setUp(solveFlow.injectClosed(
+                rampConcurrentUsers(1).to(USERS).during(RAMP),
+                constantConcurrentUsers(USERS).during(HOLD)))
+                .protocols(httpProtocol)
+                .assertions(
+                        global().failedRequests().percent().lt(1.0),
+                        details("solve").responseTime().percentile(99.0).lt(SOLVE_P99_MS));
+    }
+}
@@ -0,0 +1,74 @@
+package com.ssafy.odab.loadtest.mock;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.odab.mcpLLM.dto.ClaudeResponseApiDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 녹화해 둔 Claude 응답 묶음.
+ * 요청 본문에 match 가 들어 있는 첫 번째 녹화를 고르고, 요청의 assistant 메시지 수(= 몇 번째 턴인지)로 응답을 고름.
+ * 요청만 보고 고르므로 서버가 대화 상태를 들고 있지 않아도 됨
+ */
+public class ClaudeRecordings {
+    private static final TypeReference<List<Recording>> RECORDINGS_TYPE = new TypeReference<>() {};
+
+    private final List<Recording> recordings;
+
+    private ClaudeRecordings(List<Recording> recordings) {
+        if (recordings.isEmpty()) {
+            throw new IllegalArgumentException("녹화된 응답이 없습니다.");
+        }
+        this.recordings = recordings;
+    }
+
+    /**
+     * path 가 null 이면 classpath 의 claude-mock/recordings.json
+     */
+    public static ClaudeRecordings load(ObjectMapper objectMapper, Path path) throws IOException {
+        if (path != null) {
+            try (InputStream in = Files.newInputStream(path)) {
+                return new ClaudeRecordings(objectMapper.readValue(in, RECORDINGS_TYPE));
+            }
+        }
+        try (InputStream in = ClaudeRecordings.class.getResourceAsStream("/claude-mock/recordings.json")) {
+            if (in == null) {
+                throw new IOException("claude-mock/recordings.json 을 찾을 수 없습니다.");
+            }
+            return new ClaudeRecordings(objectMapper.readValue(in, RECORDINGS_TYPE));
+        }
+    }
+
+    public ClaudeResponseApiDto responseFor(String body, JsonNode request) {
+        Recording recording = recordings.stream()
+                .filter(candidate -> candidate.getMatch() == null || body.contains(candidate.getMatch()))
+                .findFirst()
+                .orElse(recordings.get(recordings.size() - 1));
+        int turn = 0;
+        for (JsonNode message : request.path("messages")) {
+            if ("assistant".equals(message.path("role").asText())) {
+                turn++;
+            }
+        }
+        List<ClaudeResponseApiDto> responses = recording.getResponses();
+        return responses.get(Math.min(turn, responses.size() - 1));
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Recording {
+        private String name;
+        private String match;   // null 이면 모든 요청에 맞음 (마지막에 둠)
+        private List<ClaudeResponseApiDto> responses;
+    }
+}
@@ -0,0 +1,263 @@
+package com.ssafy.odab.loadtest.mock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.odab.mcpLLM.dto.ClaudeResponseApiDto;
+import com.ssafy.odab.mcpLLM.dto.ClaudeStreamEventDto;
+import com.ssafy.odab.mcpLLM.dto.EmbedRequest;
+import com.ssafy.odab.mcpLLM.dto.EmbedResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 오프라인 부하 테스트용 외부 API 대역. 서버(loadtest 프로필)가 호출하는 세 가지를 흉내냄
+ * - POST /v1/messages       : Claude messages API. 녹화된 응답(ClaudeRecordings)을 stream 이면 SSE 이벤트로 나눠서 보냄
+ * - POST /api/python/embed  : bge-m3 임베딩 서버. 텍스트마다 같은 단위 벡터를 돌려줌
+ * - PUT  /{bucket}/{key}    : S3 putObject. 본문은 버리고 MD5 ETag 만 돌려줌 (SDK 가 ETag 로 무결성을 확인함)
+ *
+ * 설정 (시스템 프로퍼티)
+ * - mock.port (8089)
+ * - mock.latency-ms (800)      : 첫 응답까지 걸리는 시간
+ * - mock.token-delay-ms (20)   : SSE 이벤트 사이 간격
+ * - mock.error-rate (0.0)      : 이 확률로 mock.error-status 로 실패함 (재시도 경로 측정)
+ * - mock.error-status (529)    : 529 overloaded / 429 rate limit 등
+ * - mock.recordings            : 녹화 파일 경로. 없으면 classpath 의 claude-mock/recordings.json
+ * - mock.embedding-dimension (1024)
+ */
+public class MockClaudeServer {
+    private static final Logger logger = LoggerFactory.getLogger(MockClaudeServer.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int CHUNK_LENGTH = 12; // delta 하나에 담을 글자 수 (토큰 몇 개 분량)
+
+    private final ClaudeRecordings recordings;
+    private final Duration latency;
+    private final Duration tokenDelay;
+    private final double errorRate;
+    private final int errorStatus;
+    private final int embeddingDimension;
+
+    public MockClaudeServer(ClaudeRecordings recordings, Duration latency, Duration tokenDelay,
+                            double errorRate, int errorStatus, int embeddingDimension) {
+        this.recordings = recordings;
+        this.latency = latency;
+        this.tokenDelay = tokenDelay;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.embeddingDimension = embeddingDimension;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String recordingsPath = System.getProperty("mock.recordings");
+        MockClaudeServer server = new MockClaudeServer(
+                ClaudeRecordings.load(OBJECT_MAPPER, recordingsPath == null ? null : Path.of(recordingsPath)),
+                Duration.ofMillis(Long.getLong("mock.latency-ms", 800)),
+                Duration.ofMillis(Long.getLong("mock.token-delay-ms", 20)),
+                Double.parseDouble(System.getProperty("mock.error-rate", "0.0")),
+                Integer.getInteger("mock.error-status", 529),
+                Integer.getInteger("mock.embedding-dimension", 1024));
+        DisposableServer disposableServer = server.start(Integer.getInteger("mock.port", 8089));
+        logger.info("mock Claude 서버 시작: port={}", disposableServer.port());
+        disposableServer.onDispose().block();
+    }
+
+    public DisposableServer start(int port) {
+        return HttpServer.create()
+                .port(port)
+                .route(routes -> routes
+                        .post("/v1/messages", this::messages)
+                        .post("/api/python/embed", this::embed)
+                        // S3 key 에는 / 가 들어가므로 경로 대신 method 로 받음
+                        .route(request -> request.method() == HttpMethod.PUT, this::putObject))
+                .bindNow();
+    }
+
+    private Mono<Void> messages(HttpServerRequest request, HttpServerResponse response) {
+        return request.receive().aggregate().asString(StandardCharsets.UTF_8)
+                .flatMap(body -> {
+                    if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                        return Mono.delay(latency).then(error(response));
+                    }
+                    JsonNode json = readTree(body);
+                    ClaudeResponseApiDto recorded = recordings.responseFor(body, json);
+                    if (json.path("stream").asBoolean(false)) {
+                        return response.header("content-type", "text/event-stream")
+                                .sendString(Flux.fromIterable(toStreamEvents(recorded))
+                                        .map(this::toSse)
+                                        .delaySubscription(latency)
+                                        .delayElements(tokenDelay))
+                                .then();
+                    }
+                    return Mono.delay(latency)
+                            .then(response.header("content-type", "application/json")
+                                    .sendString(Mono.just(writeJson(recorded)))
+                                    .then());
+                });
+    }
+
+    private Mono<Void> error(HttpServerResponse response) {
+        String type = errorStatus == 429 ? "rate_limit_error" : "overloaded_error";
+        return response.status(errorStatus)
+                .header("content-type", "application/json")
+                .sendString(Mono.just("{\"type\":\"error\",\"error\":{\"type\":\"" + type + "\",\"message\":\"mock " + type + "\"}}"))
+                .then();
+    }
+
+    private Mono<Void> embed(HttpServerRequest request, HttpServerResponse response) {
+        return request.receive().aggregate().asString(StandardCharsets.UTF_8)
+                .flatMap(body -> {
+                    EmbedRequest embedRequest = readValue(body, EmbedRequest.class);
+                    float[][] vectors = embedRequest.getTexts().stream()
+                            .map(this::unitVector)
+                            .toArray(float[][]::new);
+                    EmbedResponse embedResponse = new EmbedResponse();
+                    embedResponse.setDimension(embeddingDimension);
+                    embedResponse.setVectors(vectors);
+                    return response.header("content-type", "application/json")
+                            .sendString(Mono.just(writeJson(embedResponse)))
+                            .then();
+                });
+    }
+
+    private Mono<Void> putObject(HttpServerRequest request, HttpServerResponse response) {
+        MessageDigest md5 = md5();
+        return request.receive()
+                .doOnNext(buffer -> md5.update(buffer.nioBuffer()))
+                .then(Mono.defer(() -> response.header("ETag", "\"" + HexFormat.of().formatHex(md5.digest()) + "\"")
+                        .send()));
+    }
+
+    /**
+     * 녹화된 응답 하나를 실제 API 와 같은 순서의 스트림 이벤트로 나눔
+     */
+    private List<ClaudeStreamEventDto> toStreamEvents(ClaudeResponseApiDto recorded) {
+        List<ClaudeStreamEventDto> events = new ArrayList<>();
+
+        ClaudeResponseApiDto message = new ClaudeResponseApiDto();
+        message.setId(recorded.getId());
+        message.setType("message");
+        message.setRole("assistant");
+        message.setModel(recorded.getModel());
+        message.setContent(List.of());
+        message.setUsage(recorded.getUsage());
+        ClaudeStreamEventDto start = event("message_start", null);
+        start.setMessage(message);
+        events.add(start);
+
+        List<ClaudeResponseApiDto.Content> contents = recorded.getContent();
+        for (int index = 0; index < contents.size(); index++) {
+            ClaudeResponseApiDto.Content content = contents.get(index);
+            ClaudeResponseApiDto.Content block = new ClaudeResponseApiDto.Content();
+            block.setType(content.getType());
+            block.setId(content.getId());
+            block.setName(content.getName());
+            ClaudeStreamEventDto blockStart = event("content_block_start", index);
+            blockStart.setContent_block(block);
+            events.add(blockStart);
+
+            boolean toolUse = "tool_use".equals(content.getType());
+            String payload = toolUse ? writeJson(content.getInput()) : content.getText();
+            for (int from = 0; payload != null && from < payload.length(); from += CHUNK_LENGTH) {
+                String chunk = payload.substring(from, Math.min(payload.length(), from + CHUNK_LENGTH));
+                ClaudeStreamEventDto.Delta delta = new ClaudeStreamEventDto.Delta();
+                delta.setType(toolUse ? "input_json_delta" : "text_delta");
+                if (toolUse) {
+                    delta.setPartial_json(chunk);
+                } else {
+                    delta.setText(chunk);
+                }
+                ClaudeStreamEventDto blockDelta = event("content_block_delta", index);
+                blockDelta.setDelta(delta);
+                events.add(blockDelta);
+            }
+            events.add(event("content_block_stop", index));
+        }
+
+        ClaudeStreamEventDto.Delta stop = new ClaudeStreamEventDto.Delta();
+        stop.setStop_reason(recorded.getStop_reason());
+        ClaudeStreamEventDto messageDelta = event("message_delta", null);
+        messageDelta.setDelta(stop);
+        messageDelta.setUsage(recorded.getUsage());
+        events.add(messageDelta);
+        events.add(event("message_stop", null));
+        return events;
+    }
+
+    private ClaudeStreamEventDto event(String type, Integer index) {
+        ClaudeStreamEventDto event = new ClaudeStreamEventDto();
+        event.setType(type);
+        event.setIndex(index);
+        return event;
+    }
+
+    private String toSse(ClaudeStreamEventDto event) {
+        return "event: " + event.getType() + "\ndata: " + writeJson(event) + "\n\n";
+    }
+
+    // 같은 텍스트는 항상 같은 벡터 (검색 결과가 실행마다 바뀌지 않도록)
+    private float[] unitVector(String text) {
+        Random random = new Random(text.hashCode());
+        float[] vector = new float[embeddingDimension];
+        double norm = 0;
+        for (int i = 0; i < embeddingDimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < embeddingDimension; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JsonNode readTree(String body) {
+        try {
+            return OBJECT_MAPPER.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 JSON 파싱 실패", e);
+        }
+    }
+
+    private static <T> T readValue(String body, Class<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 JSON 파싱 실패", e);
+        }
+    }
+
+    private static String writeJson(Object value) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 JSON 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- 부하 테스트용 회원 200명 (user_id 1~200). 이미 있는 id 는 건너뜀
+INSERT IGNORE INTO users (user_id, kakao_id, user_name, grade, status, created_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 200)
+SELECT n, 900000000 + n, CONCAT('loadtest-', n), 4, TRUE, NOW() FROM seq;
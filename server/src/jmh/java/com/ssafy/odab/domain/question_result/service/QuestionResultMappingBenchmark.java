@@ -0,0 +1,86 @@
+package com.ssafy.odab.domain.question_result.service;
+
+import com.ssafy.odab.domain.concept.repository.MajorConceptRepository;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionPageResponseDto;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionDto.WrongQuestionSolution;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionSubconcept;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionRowDto;
+import com.ssafy.odab.domain.question_result.repository.QuestionResultRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오답노트 조회에서 DB 를 뺀 DTO 조립 비용. repository 는 미리 만든 조회 결과를 돌려주는 stub 으로 바꿈
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionResultMappingBenchmark {
+
+    @Param({"20", "200"})
+    private int questionCount;
+
+    private QuestionResultServiceImpl questionResultService;
+
+    @Setup
+    public void setUp() {
+        List<WrongQuestionRowDto> rows = new ArrayList<>();
+        Map<Integer, List<WrongQuestionSubconcept>> subConcepts = new LinkedHashMap<>();
+        Map<Integer, List<WrongQuestionSolution>> solutions = new LinkedHashMap<>();
+        LocalDateTime registedAt = LocalDateTime.of(2025, 5, 1, 9, 0);
+        for (int id = questionCount; id > 0; id--) {
+            rows.add(new WrongQuestionRowDto(id, "https://odab.s3.ap-northeast-2.amazonaws.com/question/" + id + ".jpg",
+                    "다음 이차방정식의 두 근의 합을 구하시오. x^2 - " + id + "x + 6 = 0", String.valueOf(id),
+                    registedAt.minusHours(id)));
+            subConcepts.put(id, List.of(new WrongQuestionSubconcept(id % 40 + 1, "이차방정식의 근과 계수의 관계"),
+                    new WrongQuestionSubconcept(id % 40 + 2, "인수분해")));
+            List<WrongQuestionSolution> steps = new ArrayList<>();
+            for (byte step = 1; step <= 4; step++) {
+                steps.add(new WrongQuestionSolution(id * 10 + step, step, step + "단계: 근과 계수의 관계를 이용해 정리한다."));
+            }
+            solutions.put(id, steps);
+        }
+
+        QuestionResultRepository questionResultRepository = stub(QuestionResultRepository.class, Map.of(
+                "findWrongQuestions", rows,
+                "findSubConceptsByQuestionIds", subConcepts,
+                "findSolutionsByQuestionIds", solutions));
+        MajorConceptRepository majorConceptRepository = stub(MajorConceptRepository.class, Map.of(
+                "findAllWithSubConceptsByGrade", List.of()));
+
+        questionResultService = new QuestionResultServiceImpl(null, questionResultRepository, majorConceptRepository,
+                null, null);
+        ReflectionTestUtils.setField(questionResultService, "defaultPageSize", 10);
+        ReflectionTestUtils.setField(questionResultService, "maxPageSize", 50);
+    }
+
+    @Benchmark
+    public WrongQuestionResponseDto wrongAnswersByGrade() {
+        return questionResultService.findWrongAnswersByGrade((byte) 4, 1);
+    }
+
+    @Benchmark
+    public WrongQuestionPageResponseDto wrongAnswerPageByGrade() {
+        return questionResultService.findWrongAnswerPageByGrade((byte) 4, 1, null, 50);
+    }
+
+    // 메서드 이름으로 정해둔 결과를 돌려주는 repository
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Object> results) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (results.containsKey(method.getName())) {
+                return results.get(method.getName());
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
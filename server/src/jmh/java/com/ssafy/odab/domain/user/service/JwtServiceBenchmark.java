@@ -0,0 +1,45 @@
+package com.ssafy.odab.domain.user.service;
+
+import com.ssafy.odab.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 수행하는 access token 검증 + userId 추출 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", "odab-benchmark-secret-key-must-be-at-least-256-bits");
+        ReflectionTestUtils.setField(jwtService, "accessTokenValidity", 3600L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenValidity", 1209600L);
+        jwtService.init();
+
+        accessToken = jwtService.createAccessToken(User.builder()
+                .id(1)
+                .kakaoId(1234567890L)
+                .userName("벤치마크")
+                .build());
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtService.validateAccessToken(accessToken);
+    }
+
+    // 컨트롤러에서 getUserId() 가 하는 일 (검증 후 다시 파싱)
+    @Benchmark
+    public Integer getUserIdFromToken() {
+        return jwtService.getUserIdFromToken(accessToken);
+    }
+}
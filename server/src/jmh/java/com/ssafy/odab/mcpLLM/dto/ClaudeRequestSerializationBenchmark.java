@@ -0,0 +1,94 @@
+package com.ssafy.odab.mcpLLM.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화 40개(sequentialThinking tool_use / tool_result 포함)를 담은 요청 직렬화 비용.
+ * 대화가 길어질수록 매 요청마다 앞의 대화 전체를 다시 직렬화함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClaudeRequestSerializationBenchmark {
+
+    @Param({"40"})
+    private int messageCount;
+
+    private ObjectMapper objectMapper;
+    private ClaudeRequestApiDto request;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+
+        List<ClaudeRequestApiDto.Message> messages = new ArrayList<>();
+        for (int i = 0; i < messageCount; i++) {
+            String toolUseId = "toolu_" + (i / 2);
+            if (i % 2 == 0) {
+                messages.add(ClaudeRequestApiDto.Message.builder()
+                        .role("assistant")
+                        .content(List.of(ClaudeRequestApiDto.ToolUseContent.builder()
+                                .type("tool_use")
+                                .id(toolUseId)
+                                .name("sequentialThinking")
+                                .input(Map.of(
+                                        "thought", "풀이 " + i + "단계: 양변을 정리하고 근의 공식을 적용해 두 근을 구한다.",
+                                        "thoughtNumber", i / 2 + 1,
+                                        "totalThoughts", messageCount / 2,
+                                        "nextThoughtNeeded", i < messageCount - 2))
+                                .build()))
+                        .build());
+            } else {
+                messages.add(ClaudeRequestApiDto.Message.builder()
+                        .role("user")
+                        .content(List.of(ClaudeRequestApiDto.ToolResultContent.builder()
+                                .type("tool_result")
+                                .tool_use_id(toolUseId)
+                                .content(List.of(Map.of(
+                                        "type", "text",
+                                        "text", "{\n  \"thoughtNumber\" : " + (i / 2 + 1)
+                                                + ",\n  \"totalThoughts\" : " + messageCount / 2
+                                                + ",\n  \"nextThoughtNeeded\" : true,\n  \"branches\" : [ ],\n"
+                                                + "  \"thoughtHistoryLength\" : " + (i / 2 + 1) + "\n}")))
+                                .build()))
+                        .build());
+            }
+        }
+
+        request = ClaudeRequestApiDto.builder()
+                .model("claude-3-7-sonnet-20250219")
+                .max_tokens(4096)
+                .system(List.of(ClaudeRequestApiDto.TextContent.builder()
+                        .type("text")
+                        .text("너는 학생의 수학 풀이를 단계별로 채점하는 선생님이야. 반드시 sequentialThinking 도구로 생각을 기록해.")
+                        .cache_control(ClaudeRequestApiDto.CacheControl.ephemeral())
+                        .build()))
+                .tools(List.of(ClaudeRequestApiDto.Tool.builder()
+                        .name("sequentialThinking")
+                        .description("문제를 단계별로 생각하기 위한 도구")
+                        .input_schema(ClaudeRequestApiDto.InputSchema.builder()
+                                .type("object")
+                                .properties(Map.of(
+                                        "thought", ClaudeRequestApiDto.Property.builder().type("string").description("현재 생각").build(),
+                                        "thoughtNumber", ClaudeRequestApiDto.Property.builder().type("integer").minimum(1).build(),
+                                        "totalThoughts", ClaudeRequestApiDto.Property.builder().type("integer").minimum(1).build(),
+                                        "nextThoughtNeeded", ClaudeRequestApiDto.Property.builder().type("boolean").build()))
+                                .required(List.of("thought", "thoughtNumber", "totalThoughts", "nextThoughtNeeded"))
+                                .build())
+                        .build()))
+                .messages(messages)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(request);
+    }
+}
@@ -0,0 +1,102 @@
+package com.ssafy.odab.mcpLLM.image;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.odab.mcpLLM.dto.ClaudeRequestApiDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 5MB 이미지 base64 인코딩, 요청 본문 직렬화 비용과 전처리(축소, 재인코딩) 비용.
+ * 결과 문자열 크기만큼 할당이 생기므로 -prof gc 결과도 같이 봄
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageEncodeBenchmark {
+
+    @Param({"5242880"})
+    private int imageBytes;
+
+    private ImageEncode imageEncode;
+    private Path imagePath;
+    private MockMultipartFile multipartFile;
+    private MockMultipartFile photoFile;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws IOException {
+        // 로컬 파일, MultipartFile 경로만 측정하므로 S3 클라이언트는 쓰지 않음
+        imageEncode = new ImageEncode(null,
+                new ImagePreprocessor(true, 1568, 1_150_000, 50_000_000, true, 0.85f));
+
+        // 압축된 이미지처럼 무작위 바이트로 채움
+        byte[] content = new byte[imageBytes];
+        new Random(42).nextBytes(content);
+        imagePath = Files.createTempFile("odab-bench-", ".jpg");
+        Files.write(imagePath, content);
+        multipartFile = new MockMultipartFile("file", "problem.jpg", "image/jpeg", content);
+        objectMapper = new ObjectMapper();
+        photoFile = new MockMultipartFile("file", "photo.jpg", "image/jpeg", noisyPhoto(4000, 3000));
+    }
+
+    // 휴대폰 사진 크기의 디코딩 가능한 JPEG (노이즈가 많아 압축이 잘 안 됨)
+    private static byte[] noisyPhoto(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(imagePath);
+    }
+
+    @Benchmark
+    public String encodeLocalFile() throws IOException {
+        return imageEncode.encodeImageToBase64(imagePath.toString());
+    }
+
+    @Benchmark
+    public String encodeMultipartFile() throws IOException {
+        return imageEncode.encodeImageToBase64(multipartFile);
+    }
+
+    @Benchmark
+    public PreparedImage preparePhoto() throws IOException {
+        return imageEncode.prepareImage(photoFile);
+    }
+
+    // 요청 본문까지: base64 String 을 만든 뒤 직렬화 (이전 방식)
+    @Benchmark
+    public byte[] serializeBase64String() throws IOException {
+        String data = imageEncode.encodeImageToBase64(multipartFile);
+        return objectMapper.writeValueAsBytes(Map.of("type", "base64", "media_type", "image/jpeg", "data", data));
+    }
+
+    // 요청 본문까지: byte[] 를 Jackson 이 본문에 바로 base64 로 씀
+    @Benchmark
+    public byte[] serializeImageBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(ClaudeRequestApiDto.Source.builder()
+                .type("base64")
+                .media_type("image/jpeg")
+                .data(multipartFile.getBytes())
+                .build());
+    }
+}
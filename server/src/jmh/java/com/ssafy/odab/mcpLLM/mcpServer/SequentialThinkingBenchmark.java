@@ -0,0 +1,49 @@
+package com.ssafy.odab.mcpLLM.mcpServer;
+
+import com.ssafy.odab.mcpLLM.dto.ClaudeRequestApiDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * sequentialThinking tool 한 번 호출 비용 (입력 검증 + 세션 기록 + 응답 JSON).
+ * 응답 JSON 직렬화(prettyPrintJson)는 이 안에 포함됨. formatThought 는 debug 로그에서만 불리므로 따로 재지 않음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SequentialThinkingBenchmark {
+
+    private static final String THOUGHT = "주어진 이차방정식 x^2 - 5x + 6 = 0 을 인수분해하면 (x - 2)(x - 3) = 0 이므로 "
+            + "x = 2 또는 x = 3 이다. 학생의 풀이에서는 근과 계수의 관계를 이용해 두 근의 합을 5, 곱을 6 으로 구했고 "
+            + "최종 답안과 일치하는지 확인해야 한다.";
+
+    private SequentialThinkingServer server;
+    private Map<String, Object> input;
+    private int sessionSeq;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 대화마다 최대 50개 생각을 기록하는 운영 설정 그대로
+        server = new SequentialThinkingServer(10, 1000, 50, 10);
+
+        input = new LinkedHashMap<>();
+        input.put("thought", THOUGHT);
+        input.put("thoughtNumber", 3);
+        input.put("totalThoughts", 5);
+        input.put("nextThoughtNeeded", true);
+    }
+
+    // 세션 하나에 생각이 계속 쌓이지 않도록 iteration 마다 새 세션을 씀
+    @Setup(Level.Iteration)
+    public void newSession() {
+        sessionSeq++;
+    }
+
+    @Benchmark
+    public ClaudeRequestApiDto.ToolResultContent processThought() {
+        return server.processThought("bench-" + sessionSeq, "toolu_bench", input);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssafy.odab.mcpLLM.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채점 응답에서 라벨 4개를 뽑는 비용 (verifyAnswer 한 번 분량)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExtractFromResponseBenchmark {
+
+    private String response;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        // 실제 응답처럼 풀이 설명이 앞에 길게 붙음
+        for (int i = 0; i < 20; i++) {
+            builder.append("풀이 ").append(i + 1).append("단계: 양변에 같은 수를 더하고 정리하면 식이 간단해진다.\n");
+        }
+        builder.append("추출된 답변: x = 2 또는 x = 3\n")
+                .append("완전 일치 여부: 완전 일치\n")
+                .append("불일치 이유: 없음\n")
+                .append("최종 판정: 정답");
+        response = builder.toString();
+    }
+
+    @Benchmark
+    public void extractAll(Blackhole blackhole) {
+        blackhole.consume(ResponseLabels.extract(response, "추출된 답변:"));
+        blackhole.consume(ResponseLabels.extract(response, "완전 일치 여부:"));
+        blackhole.consume(ResponseLabels.extract(response, "불일치 이유:"));
+        blackhole.consume(ResponseLabels.extract(response, "최종 판정:"));
+    }
+
+    @Benchmark
+    public String extractMissingLabel() {
+        return ResponseLabels.extract(response, "없는 라벨:");
+    }
+}
@@ -3,12 +3,24 @@ package com.ssafy.odab.common.config;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * 버킷에는 아래 lifecycle 규칙이 있어야 함 (로컬 MinIO 는 docker-compose.minio.yml 의 minio-init 이 추가함).
+ * presigned PUT 은 올리는 크기를 서명에 넣을 수 없어서 max-bytes 보다 큰 객체나 confirm 하지 않은 객체가
+ * {dir}/direct/ 에 남음. confirm 하면 {dir}/confirmed/ 로 복사하고 원본을 지우므로 direct/ 는 1일 뒤 만료시킴.
+ * <pre>
+ * aws s3api put-bucket-lifecycle-configuration --bucket {bucket} --lifecycle-configuration '{"Rules": [
+ *   {"ID": "expire-product-direct", "Filter": {"Prefix": "product/direct/"}, "Status": "Enabled", "Expiration": {"Days": 1}},
+ *   {"ID": "expire-profile-direct", "Filter": {"Prefix": "profile/direct/"}, "Status": "Enabled", "Expiration": {"Days": 1}}]}'
+ * </pre>
+ * (이 명령은 버킷의 기존 규칙을 모두 바꾸므로 다른 규칙이 있으면 함께 넣어야 함)
+ */
 @Configuration
 public class S3Config {
     @Value("${cloud.aws.credentials.access-key}")
@@ -20,14 +32,23 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 비어 있으면 AWS. 부하 테스트 등에서 S3 호환 서버로 보낼 때만 지정 (path-style 로 접근)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AmazonS3 amazonS3() {
         BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
 
-        return (AmazonS3) AmazonS3ClientBuilder
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder
                 .standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
-                .build();
+                .withCredentials(new AWSStaticCredentialsProvider(awsCreds));
+        if (endpoint.isBlank()) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        }
+        return builder.build();
     }
 }
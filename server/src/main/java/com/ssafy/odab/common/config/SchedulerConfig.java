@@ -0,0 +1,34 @@
+package com.ssafy.odab.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@EnableScheduling
+public class SchedulerConfig {
+
+    /**
+     * Reactor 파이프라인 안에서 JPA(블로킹) 작업을 실행할 스케줄러.
+     * 스레드 수를 커넥션 풀 크기에 맞춰서 커넥션을 기다리며 멈춰있는 스레드가 생기지 않게 함.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jpaScheduler(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        return Schedulers.newBoundedElastic(poolSize, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "jpa");
+    }
+
+    /**
+     * 요청과 분리해서 S3 에 올리는 스케줄러 (S3ServiceImpl 의 *Async 메서드).
+     * newBoundedElastic 의 대기열 크기는 스레드마다 따로 적용됨 (전체로는 threads x queueSize 까지 쌓일 수 있음).
+     * 메모리에 들고 있는 업로드 수는 S3ServiceImpl 이 s3.upload.queue-size 로 따로 제한함.
+     * 종료할 때는 S3ServiceImpl 이 먼저 정리되면서 남은 업로드를 기다린 뒤 dispose 됨
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler s3UploadScheduler(@Value("${s3.upload.threads:4}") int threads,
+                                       @Value("${s3.upload.queue-size:1000}") int queueSize) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "s3-upload");
+    }
+}
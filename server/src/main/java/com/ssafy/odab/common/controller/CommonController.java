@@ -2,13 +2,12 @@ package com.ssafy.odab.common.controller;
 
 import com.ssafy.odab.common.service.CommonService;
 import com.ssafy.odab.domain.question.dto.ConceptQuestionResponseDto;
-import java.util.HashMap;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.ssafy.odab.domain.user.service.JwtService;
 @RestController
@@ -20,31 +19,24 @@ public class CommonController {
 
     //학년별 개념 조회 
     @GetMapping("{grade}/grade")
-    public ResponseEntity<?> getGradeConceptDetail(@PathVariable("grade") Byte grade) {
+    public ResponseEntity<byte[]> getGradeConceptDetail(@PathVariable("grade") Byte grade) {
         Integer userId = jwtService.getUserId();
-        var data = commonService.getGradeConceptDetail(grade, userId);
-        Map<String, Object> response = new HashMap<>();
-        response.put("httpStatus", 200);
-        response.put("message", "학년별 개념 조회 성공");
-        response.put("data", data);
-        return ResponseEntity.ok(response);
+        return commonService.getGradeConceptDetail(grade, userId).toResponseEntity();
     }
     
     //개념별 문제 조회
     @GetMapping("{subConceptId}/concept")
-    public ResponseEntity<ConceptQuestionResponseDto> getConceptQuestionList(@PathVariable("subConceptId") Integer subConceptId) {
-        return ResponseEntity.ok(commonService.getConceptQuestionList(subConceptId));
+    public ResponseEntity<ConceptQuestionResponseDto> getConceptQuestionList(
+            @PathVariable("subConceptId") Integer subConceptId,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(commonService.getConceptQuestionList(subConceptId, page, size));
     }
 
     // 전체 개념 조회
     @GetMapping("concept")
-    public ResponseEntity<?> getAllConcepts() {
-        Object data = commonService.getAllConcepts();
-        Map<String, Object> response = new HashMap<>();
-        response.put("httpStatus", 200);
-        response.put("message", "성공적으로 조회되었습니다.");
-        response.put("data", data);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getAllConcepts() {
+        return commonService.getAllConcepts().toResponseEntity();
     }
     
     // 개념별 내용 조회
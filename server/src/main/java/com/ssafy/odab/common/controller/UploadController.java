@@ -0,0 +1,48 @@
+package com.ssafy.odab.common.controller;
+
+import com.ssafy.odab.common.dto.PresignedUploadRequestDto;
+import com.ssafy.odab.common.dto.PresignedUploadResponseDto;
+import com.ssafy.odab.common.dto.UploadConfirmRequestDto;
+import com.ssafy.odab.common.dto.UploadConfirmResponseDto;
+import com.ssafy.odab.common.service.PresignedUploadService;
+import com.ssafy.odab.domain.user.service.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이미지를 S3 에 바로 올리기 위한 presigned URL 발급, 업로드 확인.
+ * 1. POST presign 으로 uploadUrl, headers, key 를 받음
+ * 2. uploadUrl 로 headers 를 붙여 이미지를 PUT
+ * 3. POST confirm 으로 확인한 뒤 key 를 문제 풀이(imageKey), 채점(answerImgKey), 프로필(key) API 에 넘김
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/upload/")
+public class UploadController {
+    private final PresignedUploadService presignedUploadService;
+    private final JwtService jwtService;
+
+    @PostMapping("presign")
+    public ResponseEntity<PresignedUploadResponseDto> presign(@RequestBody PresignedUploadRequestDto requestDto) {
+        Integer userId = jwtService.getUserId();
+        try {
+            return ResponseEntity.ok(presignedUploadService.issue(userId, requestDto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("confirm")
+    public ResponseEntity<UploadConfirmResponseDto> confirm(@RequestBody UploadConfirmRequestDto requestDto) {
+        Integer userId = jwtService.getUserId();
+        try {
+            return ResponseEntity.ok(presignedUploadService.confirm(userId, requestDto.getKey()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
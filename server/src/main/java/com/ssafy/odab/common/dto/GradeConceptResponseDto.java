@@ -1,5 +1,6 @@
 package com.ssafy.odab.common.dto;
 
+import com.ssafy.odab.domain.concept.catalog.ConceptTaxonomy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +15,23 @@ import java.util.List;
 public class GradeConceptResponseDto { //학년별 개념 조회 
     private List<MajorConceptDto> majorConceptList;
 
+    public static GradeConceptResponseDto from(List<ConceptTaxonomy.MajorNode> majorConcepts) {
+        return GradeConceptResponseDto.builder()
+                .majorConceptList(majorConcepts.stream()
+                        .map(major -> MajorConceptDto.builder()
+                                .majorConceptId(major.id())
+                                .majorConceptType(major.conceptType())
+                                .subConceptList(major.subConcepts().stream()
+                                        .map(sub -> SubConceptDto.builder()
+                                                .subConceptId(sub.id())
+                                                .subConceptType(sub.conceptType())
+                                                .build())
+                                        .toList())
+                                .build())
+                        .toList())
+                .build();
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor
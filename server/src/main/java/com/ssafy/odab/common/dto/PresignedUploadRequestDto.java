@@ -0,0 +1,16 @@
+package com.ssafy.odab.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadRequestDto {
+    private String purpose;       // question, answer, profile
+    private String contentType;   // image/jpeg 등. 업로드할 때 같은 Content-Type 헤더를 보내야 함
+    private Long contentLength;   // 선택. 주면 미리 크기를 확인함
+}
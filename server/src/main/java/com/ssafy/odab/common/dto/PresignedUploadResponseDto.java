@@ -0,0 +1,25 @@
+package com.ssafy.odab.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 uploadUrl 로 headers 를 붙여 PUT 한 뒤, key 로 confirm 하고 다른 API 에 key 를 넘김
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadResponseDto {
+    private String key;
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers;
+    private String fileUrl;       // 업로드가 끝난 뒤의 이미지 URL
+    private Instant expiresAt;
+}
@@ -0,0 +1,14 @@
+package com.ssafy.odab.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadConfirmRequestDto {
+    private String key;
+}
@@ -0,0 +1,17 @@
+package com.ssafy.odab.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadConfirmResponseDto {
+    private String key;
+    private String fileUrl;
+    private String mediaType;     // 실제 바이트(magic number) 기준
+    private Long size;
+}
@@ -0,0 +1,60 @@
+package com.ssafy.odab.common.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도까지 실패한 백그라운드 업로드(S3ServiceImpl *Async).
+ * Redis 의 업로드 상태는 하루 뒤 만료되므로 실패한 key 는 여기에 따로 남겨서 나중에 찾거나 다시 올릴 수 있게 함.
+ * 같은 key 가 나중에 올라가면 지움
+ */
+@Entity
+@Table(name = "s3_upload_failure",
+        uniqueConstraints = @UniqueConstraint(name = "uk_s3_upload_failure_key", columnNames = "object_key"))
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class S3UploadFailure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "s3_upload_failure_id")
+    private Long id;
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    @Column(name = "dir_name", nullable = false, length = 50)
+    private String dirName;
+
+    @Column(name = "error_message", nullable = true, length = 1000)
+    private String errorMessage;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    public static S3UploadFailure of(String objectKey, String dirName, String errorMessage) {
+        return S3UploadFailure.builder()
+                .objectKey(objectKey)
+                .dirName(dirName)
+                .errorMessage(truncate(errorMessage))
+                .failedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void updateFailure(String errorMessage) {
+        this.errorMessage = truncate(errorMessage);
+        this.failedAt = LocalDateTime.now();
+    }
+
+    private static String truncate(String errorMessage) {
+        return errorMessage == null || errorMessage.length() <= 1000 ? errorMessage : errorMessage.substring(0, 1000);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.odab.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나에서 실행된 SQL 수를 엔드포인트별로 기록함 (http.server.jpa.queries{method, uri}).
+ * Mono 를 반환하는 API 는 jpaScheduler 에서 실행된 SQL 이 빠지므로 jpa.statements{context=background} 와 같이 봄
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaQueryCountFilter extends OncePerRequestFilter {
+    private final JpaQueryCounter jpaQueryCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        jpaQueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = jpaQueryCounter.stop();
+            // 매핑된 패턴 기준으로 묶음 (/api/v1/question/{questionId}/answer). 매핑이 없으면 UNKNOWN
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("http.server.jpa.queries")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .register(meterRegistry)
+                    .record(count);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ssafy.odab.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Hibernate 가 실행하는 SQL 수를 셈.
+ * - jpa.statements : 전체 SQL 수. context=request(요청 스레드) / background(jpaScheduler, 스케줄러 등)
+ * - 요청 스레드에서 실행된 수는 JpaQueryCountFilter 가 엔드포인트별로 기록함
+ */
+@Component
+public class JpaQueryCounter implements StatementInspector, HibernatePropertiesCustomizer {
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private final Counter requestStatements;
+    private final Counter backgroundStatements;
+
+    public JpaQueryCounter(MeterRegistry meterRegistry) {
+        this.requestStatements = Counter.builder("jpa.statements")
+                .tag("context", "request")
+                .register(meterRegistry);
+        this.backgroundStatements = Counter.builder("jpa.statements")
+                .tag("context", "background")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = CURRENT.get();
+        if (count == null) {
+            backgroundStatements.increment();
+        } else {
+            count[0]++;
+            requestStatements.increment();
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 세기 시작함. 반드시 stop 으로 끝내야 함
+     */
+    void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    int stop() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
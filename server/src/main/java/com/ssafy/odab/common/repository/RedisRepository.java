@@ -1,5 +1,6 @@
 package com.ssafy.odab.common.repository;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -19,4 +20,16 @@ public interface RedisRepository {
 
     boolean delete(String key);
 
+    <T> void save(String key, T value, Duration ttl);
+
+    /**
+     * 값이 없거나 type 이 아니면 null
+     */
+    <T> T get(String key, Class<T> type);
+
+    /**
+     * 1 증가시킨 값. 키가 없으면 1
+     */
+    long increment(String key);
+
 }
@@ -0,0 +1,23 @@
+package com.ssafy.odab.common.repository;
+
+import com.ssafy.odab.common.entity.S3UploadFailure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface S3UploadFailureRepository extends JpaRepository<S3UploadFailure, Long> {
+
+    // uk_s3_upload_failure_key 로 조회
+    Optional<S3UploadFailure> findByObjectKey(String objectKey);
+
+    boolean existsByObjectKey(String objectKey);
+
+    @Transactional
+    @Modifying
+    @Query("delete from S3UploadFailure f where f.objectKey = :objectKey")
+    int deleteByObjectKey(@Param("objectKey") String objectKey);
+}
@@ -1,17 +1,17 @@
 package com.ssafy.odab.common.service;
 
-import com.ssafy.odab.common.dto.GradeConceptResponseDto;
+import com.ssafy.odab.domain.concept.catalog.CachedJson;
 import com.ssafy.odab.domain.question.dto.ConceptQuestionResponseDto;
 
 import java.util.Map;
 
 public interface CommonService {
     //학년별 개념 조회
-    GradeConceptResponseDto getGradeConceptDetail(Byte grade, Integer userId);
-    // 개념별 문제 조회
-    ConceptQuestionResponseDto getConceptQuestionList(Integer subConceptId);
+    CachedJson getGradeConceptDetail(Byte grade, Integer userId);
+    // 개념별 문제 조회 (page, size 가 null 이면 첫 페이지, 기본 크기)
+    ConceptQuestionResponseDto getConceptQuestionList(Integer subConceptId, Integer page, Integer size);
     // 전체 개념 조회
-    Object getAllConcepts();
+    CachedJson getAllConcepts();
     // 개념별 내용 조회
     Map<String, Object> getSubConceptContent(Integer subConceptId);
 } 
\ No newline at end of file
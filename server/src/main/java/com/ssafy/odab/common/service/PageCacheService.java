@@ -0,0 +1,19 @@
+package com.ssafy.odab.common.service;
+
+import java.util.function.Supplier;
+
+/**
+ * 회원별 페이지 응답(JSON) 캐시. 회원의 학습 기록이 바뀌거나 날짜가 바뀌면 새로 만듦
+ */
+public interface PageCacheService {
+
+    /**
+     * 캐시된 응답 JSON. 없으면 loader 로 만들어서 저장하고 돌려줌
+     */
+    byte[] getOrLoad(String page, Integer userId, Supplier<Object> loader);
+
+    /**
+     * 회원의 모든 페이지 캐시를 무효화함
+     */
+    void evict(Integer userId);
+}
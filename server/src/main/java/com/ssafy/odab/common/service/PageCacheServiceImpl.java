@@ -0,0 +1,109 @@
+package com.ssafy.odab.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.odab.common.repository.RedisRepository;
+import com.ssafy.odab.domain.question_result.entity.QuestionResultSavedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 키: page:{page}:{userId}:v{version}:{날짜}
+ * - version 은 회원별 카운터(page:version:{userId}). 풀이가 저장되면 1 올려서 이전 응답을 한 번에 버림.
+ *   버전을 읽은 뒤 예전 데이터로 만든 응답은 이전 버전 키에 저장되므로 다시 읽히지 않음.
+ * - 날짜가 바뀌면 "오늘의 복습" 이 바뀌므로 날짜를 키에 넣고, 자정까지만 유지함.
+ * Redis 장애시에는 캐시 없이 매번 만듦
+ */
+@Service
+public class PageCacheServiceImpl implements PageCacheService {
+    private static final Logger logger = LoggerFactory.getLogger(PageCacheServiceImpl.class);
+    private static final String KEY_PREFIX = "page:";
+    private static final String VERSION_KEY_PREFIX = "page:version:";
+    // 버전 키가 캐시보다 먼저 사라지면 예전 응답이 다시 보이므로 캐시 최대 수명(하루)보다 길게 둠
+    private static final Duration VERSION_TTL = Duration.ofDays(2);
+
+    private final RedisRepository redisRepository;
+    private final ObjectMapper objectMapper;
+    private final ZoneId zone;
+
+    public PageCacheServiceImpl(RedisRepository redisRepository, ObjectMapper objectMapper,
+                                @Value("${page-cache.zone:Asia/Seoul}") String zone) {
+        this.redisRepository = redisRepository;
+        this.objectMapper = objectMapper;
+        this.zone = ZoneId.of(zone);
+    }
+
+    @Override
+    public byte[] getOrLoad(String page, Integer userId, Supplier<Object> loader) {
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        String key = null;
+        try {
+            key = KEY_PREFIX + page + ":" + userId + ":v" + version(userId) + ":" + now.toLocalDate();
+            String cached = redisRepository.get(key, String.class);
+            if (cached != null) {
+                return cached.getBytes(StandardCharsets.UTF_8);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("페이지 캐시 조회 실패 [{}:{}]: {}", page, userId, e.getMessage());
+        }
+
+        String json = toJson(loader.get());
+        if (key != null) {
+            try {
+                redisRepository.save(key, json, untilMidnight(now));
+            } catch (RuntimeException e) {
+                logger.warn("페이지 캐시 저장 실패 [{}:{}]: {}", page, userId, e.getMessage());
+            }
+        }
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void evict(Integer userId) {
+        try {
+            String versionKey = VERSION_KEY_PREFIX + userId;
+            redisRepository.increment(versionKey);
+            redisRepository.setExpire(versionKey, VERSION_TTL.toSeconds(), TimeUnit.SECONDS);
+        } catch (RuntimeException e) {
+            logger.warn("페이지 캐시 무효화 실패 [{}]: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 문제 업로드(sendMathProblem), 채점(verifyAnswer) 등으로 풀이 기록이 저장되면 커밋 후 무효화.
+     * 커밋 전에 무효화하면 그 사이에 예전 데이터로 만든 응답이 새 버전으로 저장될 수 있음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuestionResultSaved(QuestionResultSavedEvent event) {
+        evict(event.userId());
+    }
+
+    private long version(Integer userId) {
+        Number version = redisRepository.get(VERSION_KEY_PREFIX + userId, Number.class);
+        return version == null ? 0 : version.longValue();
+    }
+
+    private Duration untilMidnight(ZonedDateTime now) {
+        ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(zone);
+        return Duration.between(now, midnight);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("페이지 응답 직렬화 실패", e);
+        }
+    }
+}
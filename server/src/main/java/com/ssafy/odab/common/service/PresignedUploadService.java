@@ -0,0 +1,30 @@
+package com.ssafy.odab.common.service;
+
+import com.ssafy.odab.common.dto.PresignedUploadRequestDto;
+import com.ssafy.odab.common.dto.PresignedUploadResponseDto;
+import com.ssafy.odab.common.dto.UploadConfirmResponseDto;
+
+/**
+ * 클라이언트가 이미지를 서버를 거치지 않고 S3 에 바로 올리게 함.
+ * key 는 {dir}/direct/{userId}/{uuid}{확장자} 이고, 다른 회원의 key 는 쓸 수 없음.
+ * confirm 하면 서버만 쓰는 {dir}/confirmed/{userId}/... 로 복사하고, 이후에는 복사본만 씀.
+ * 블로킹 호출(S3)이므로 Reactor 파이프라인에서는 boundedElastic 위에서 호출해야 함.
+ */
+public interface PresignedUploadService {
+
+    PresignedUploadResponseDto issue(Integer userId, PresignedUploadRequestDto requestDto);
+
+    /**
+     * 업로드된 객체를 서버 key 로 복사하고 복사본의 크기와 형식(magic number)을 확인함.
+     * 이미지가 아니거나 너무 크면 지우고 IllegalArgumentException
+     */
+    UploadConfirmResponseDto confirm(Integer userId, String key);
+
+    /**
+     * 확인된 복사본의 URL. 아직 confirm 하지 않았으면 여기서 확인함
+     */
+    String confirmedUrl(Integer userId, String key);
+
+    // Claude 로 보내기 위해 확인된 복사본을 읽음. 아직 confirm 하지 않았으면 여기서 확인함
+    byte[] read(Integer userId, String key);
+}
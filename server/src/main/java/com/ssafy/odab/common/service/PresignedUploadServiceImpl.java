@@ -0,0 +1,257 @@
+package com.ssafy.odab.common.service;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.ssafy.odab.common.dto.PresignedUploadRequestDto;
+import com.ssafy.odab.common.dto.PresignedUploadResponseDto;
+import com.ssafy.odab.common.dto.UploadConfirmResponseDto;
+import com.ssafy.odab.common.repository.RedisRepository;
+import com.ssafy.odab.mcpLLM.image.ImagePreprocessor;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+public class PresignedUploadServiceImpl implements PresignedUploadService {
+    private static final Logger logger = LoggerFactory.getLogger(PresignedUploadServiceImpl.class);
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp",
+            "image/bmp", ".bmp");
+    private static final Duration UPLOAD_STATE_TTL = Duration.ofDays(1);
+    // magic number 확인에 필요한 앞부분 (ImagePreprocessor.detectMediaType 은 12바이트를 봄)
+    private static final int MAGIC_BYTES = 16;
+
+    private final AmazonS3 amazonS3;
+    private final RedisRepository redisRepository;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${s3.presign.expiration-minutes:2}")
+    private long expirationMinutes;
+
+    @Value("${s3.presign.max-bytes:10485760}")
+    private long maxBytes;
+
+    @Override
+    public PresignedUploadResponseDto issue(Integer userId, PresignedUploadRequestDto requestDto) {
+        UploadPurpose purpose = UploadPurpose.from(requestDto.getPurpose());
+        String contentType = requestDto.getContentType();
+        String extension = contentType == null ? null : EXTENSIONS.get(contentType);
+        if (extension == null) {
+            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다. 허용된 형식: JPEG, PNG, GIF, BMP, WEBP");
+        }
+        // 요청의 contentLength 는 서명되지 않으므로 안내용으로만 확인함. 실제 크기는 confirm 에서 확인하고,
+        // confirm 하지 않은 객체는 direct/ 의 lifecycle 규칙으로 지워짐 (S3Config)
+        if (requestDto.getContentLength() != null && requestDto.getContentLength() > maxBytes) {
+            throw new IllegalArgumentException("파일이 너무 큽니다. 최대 " + maxBytes + "바이트");
+        }
+
+        String key = purpose.getDirName() + "/direct/" + userId + "/" + UUID.randomUUID() + extension;
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(expirationMinutes));
+        // 서명에 Content-Type(과 ACL)이 들어가므로 클라이언트는 같은 헤더로 올려야 함
+        GeneratePresignedUrlRequest presignRequest = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(Headers.CONTENT_TYPE, contentType);
+        if (purpose.isPublicRead()) {
+            String acl = CannedAccessControlList.PublicRead.toString();
+            presignRequest.putCustomRequestHeader(Headers.S3_CANNED_ACL, acl);
+            headers.put(Headers.S3_CANNED_ACL, acl);
+        }
+        String uploadUrl = amazonS3.generatePresignedUrl(presignRequest).toString();
+        saveUploadState(key, S3UploadState.PENDING);
+
+        return PresignedUploadResponseDto.builder()
+                .key(key)
+                .uploadUrl(uploadUrl)
+                .method("PUT")
+                .headers(headers)
+                .fileUrl(amazonS3.getUrl(bucket, key).toString())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 클라이언트가 올린 객체를 서버만 쓰는 {dir}/confirmed/... 로 복사한 뒤 복사본을 확인함.
+     * presigned URL 이 아직 유효해도 확인한 뒤에 원본을 바꿔서 검사를 우회할 수 없음
+     */
+    @Override
+    public UploadConfirmResponseDto confirm(Integer userId, String key) {
+        checkOwner(userId, key);
+        String confirmedKey = confirmedKey(key);
+        if (uploadState(key) != S3UploadState.DONE) {
+            copyToConfirmed(key, confirmedKey);
+        }
+        ObjectMetadata metadata = metadata(confirmedKey);
+        long size = metadata.getContentLength();
+        if (size > maxBytes) {
+            reject(key, confirmedKey);
+            throw new IllegalArgumentException("파일이 너무 큽니다. 최대 " + maxBytes + "바이트");
+        }
+        String mediaType = ImagePreprocessor.detectMediaType(readHead(confirmedKey));
+        if (mediaType == null) {
+            reject(key, confirmedKey);
+            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
+        }
+        saveUploadState(key, S3UploadState.DONE);
+
+        return UploadConfirmResponseDto.builder()
+                .key(key)
+                .fileUrl(amazonS3.getUrl(bucket, confirmedKey).toString())
+                .mediaType(mediaType)
+                .size(size)
+                .build();
+    }
+
+    @Override
+    public String confirmedUrl(Integer userId, String key) {
+        checkOwner(userId, key);
+        if (uploadState(key) != S3UploadState.DONE) {
+            return confirm(userId, key).getFileUrl();
+        }
+        return amazonS3.getUrl(bucket, confirmedKey(key)).toString();
+    }
+
+    @Override
+    public byte[] read(Integer userId, String key) {
+        checkOwner(userId, key);
+        if (uploadState(key) != S3UploadState.DONE) {
+            confirm(userId, key);
+        }
+        String confirmedKey = confirmedKey(key);
+        try (S3Object s3Object = getObject(new GetObjectRequest(bucket, confirmedKey));
+             S3ObjectInputStream inputStream = s3Object.getObjectContent()) {
+            long size = s3Object.getObjectMetadata().getContentLength();
+            if (size > maxBytes) {
+                inputStream.abort();
+                throw new IllegalArgumentException("파일이 너무 큽니다. 최대 " + maxBytes + "바이트");
+            }
+            byte[] content = inputStream.readNBytes((int) size);
+            if (content.length != size) {
+                throw new IOException("S3 객체를 끝까지 읽지 못했습니다: " + confirmedKey);
+            }
+            return content;
+        } catch (IOException e) {
+            throw new UncheckedIOException("S3 객체 읽기 실패: " + confirmedKey, e);
+        }
+    }
+
+    // 회원 본인 폴더의 key 만 허용함
+    private void checkOwner(Integer userId, String key) {
+        Pattern pattern = Pattern.compile("^(product|profile)/direct/" + userId + "/[0-9a-f-]{36}\\.[a-z]{3,4}$");
+        if (key == null || !pattern.matcher(key).matches()) {
+            throw new IllegalArgumentException("업로드 key 가 올바르지 않습니다.");
+        }
+    }
+
+    // {dir}/direct/{userId}/... -> {dir}/confirmed/{userId}/... (presigned URL 을 발급하지 않는 경로)
+    private static String confirmedKey(String key) {
+        return key.replaceFirst("/direct/", "/confirmed/");
+    }
+
+    /**
+     * 원본을 서버 key 로 복사하고 원본은 지움. 원본이 없으면 이전에 복사해 둔 것을 씀 (Redis 상태가 만료된 경우)
+     */
+    private void copyToConfirmed(String key, String confirmedKey) {
+        CopyObjectRequest copyRequest = new CopyObjectRequest(bucket, key, bucket, confirmedKey);
+        if (UploadPurpose.isPublicReadDir(key.substring(0, key.indexOf('/')))) {
+            copyRequest.withCannedAccessControlList(CannedAccessControlList.PublicRead);
+        }
+        try {
+            amazonS3.copyObject(copyRequest);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404 && amazonS3.doesObjectExist(bucket, confirmedKey)) {
+                return;
+            }
+            if (e.getStatusCode() == 404) {
+                throw new IllegalArgumentException("업로드된 파일이 없습니다: " + key);
+            }
+            throw e;
+        }
+        amazonS3.deleteObject(bucket, key);
+    }
+
+    private ObjectMetadata metadata(String key) {
+        try {
+            return amazonS3.getObjectMetadata(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new IllegalArgumentException("업로드된 파일이 없습니다: " + key);
+            }
+            throw e;
+        }
+    }
+
+    private S3Object getObject(GetObjectRequest request) {
+        try {
+            return amazonS3.getObject(request);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new IllegalArgumentException("업로드된 파일이 없습니다: " + request.getKey());
+            }
+            throw e;
+        }
+    }
+
+    // 앞부분만 range 로 읽음
+    private byte[] readHead(String key) {
+        try (S3Object s3Object = getObject(new GetObjectRequest(bucket, key).withRange(0, MAGIC_BYTES - 1));
+             S3ObjectInputStream inputStream = s3Object.getObjectContent()) {
+            return inputStream.readNBytes(MAGIC_BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException("S3 객체 읽기 실패: " + key, e);
+        }
+    }
+
+    private void reject(String key, String confirmedKey) {
+        amazonS3.deleteObject(bucket, confirmedKey);
+        amazonS3.deleteObject(bucket, key);
+        saveUploadState(key, S3UploadState.FAILED);
+    }
+
+    private S3UploadState uploadState(String key) {
+        try {
+            String state = redisRepository.get(S3UploadState.redisKey(key), String.class);
+            return state == null ? null : S3UploadState.valueOf(state);
+        } catch (RuntimeException e) {
+            logger.warn("업로드 상태 조회 실패 {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    // 상태 기록은 부가 정보라 Redis 오류로 업로드를 막지 않음
+    private void saveUploadState(String key, S3UploadState state) {
+        try {
+            redisRepository.save(S3UploadState.redisKey(key), state.name(), UPLOAD_STATE_TTL);
+        } catch (RuntimeException e) {
+            logger.warn("업로드 상태 저장 실패 {}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -7,4 +7,19 @@ public interface S3Service {
     void deleteFile(String fileUrl);
 
     String uploadBase64File(String base64Img, String dirName);
-}
\ No newline at end of file
+
+    /**
+     * 내용으로 정해지는 최종 URL 을 바로 돌려주고, 업로드는 백그라운드에서 재시도하며 진행함
+     */
+    String uploadFileAsync(MultipartFile file, String dirName);
+
+    // 이미 읽어 둔 바이트를 올림. originalFileName 은 확장자에만 씀
+    String uploadFileAsync(byte[] content, String contentType, String originalFileName, String dirName);
+
+    String uploadBase64FileAsync(String base64Img, String dirName);
+
+    /**
+     * *Async 로 올린 파일의 업로드 상태. 기록이 없으면(만료 포함) null
+     */
+    S3UploadState getUploadState(String fileUrl);
+}
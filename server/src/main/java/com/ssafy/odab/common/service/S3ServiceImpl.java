@@ -2,37 +2,73 @@ package com.ssafy.odab.common.service;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.ssafy.odab.common.entity.S3UploadFailure;
+import com.ssafy.odab.common.repository.RedisRepository;
+import com.ssafy.odab.common.repository.S3UploadFailureRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
-import java.util.UUID;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
 
     private final AmazonS3 amazonS3;
+    private final MeterRegistry meterRegistry;
+    private final RedisRepository redisRepository;
+    private final Scheduler s3UploadScheduler;
+    private final S3UploadFailureRepository uploadFailureRepository;
+    // s3UploadScheduler 에 넘겼지만 아직 끝나지 않은 업로드. 종료할 때 이것이 빌 때까지 기다림
+    private final Set<PendingUpload> pendingUploads = ConcurrentHashMap.newKeySet();
+    // pendingUploads 의 크기. 재시도 중인 것까지 포함해서 s3.upload.queue-size 를 넘지 않게 함
+    private final AtomicInteger queuedUploads = new AtomicInteger();
+    private volatile boolean shuttingDown;
+    private static final Logger logger = LoggerFactory.getLogger(S3ServiceImpl.class);
+    private static final Duration UPLOAD_STATE_TTL = Duration.ofDays(1);
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    @Override
-    public String uploadFile(MultipartFile file, String dirName) {
-        String fileName = createFileName(file.getOriginalFilename());
-        String fileUrl = dirName + "/" + fileName;
+    // 백그라운드로 넘길 수 있는 업로드 수 (전체). 이만큼의 이미지 바이트까지만 메모리에 들고 있음
+    @Value("${s3.upload.queue-size:1000}")
+    private int maxQueuedUploads;
 
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType(file.getContentType());
-        metadata.setContentLength(file.getSize());
+    @Value("${s3.upload.retries:3}")
+    private int uploadRetries;
 
+    @Value("${s3.upload.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds;
+
+    @Override
+    public String uploadFile(MultipartFile file, String dirName) {
         try {
-            amazonS3.putObject(bucket, fileUrl, file.getInputStream(), metadata);
-            return amazonS3.getUrl(bucket, fileUrl).toString();
+            return upload(file.getBytes(), file.getContentType(), dirName, extension(file.getOriginalFilename()));
         } catch (IOException e) {
             throw new RuntimeException("파일 업로드 실패", e);
         }
@@ -44,22 +80,262 @@ public class S3ServiceImpl implements S3Service {
         amazonS3.deleteObject(bucket, fileName);
     }
 
-    private String createFileName(String originalFileName) {
-        return UUID.randomUUID().toString() + "_" + originalFileName;
+    @Override
+    public String uploadFileAsync(MultipartFile file, String dirName) {
+        try {
+            // 요청이 끝나면 업로드 임시 파일이 지워지므로 바이트는 지금 읽어 둠
+            return uploadFileAsync(file.getBytes(), file.getContentType(), file.getOriginalFilename(), dirName);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 업로드 실패", e);
+        }
+    }
+
+    @Override
+    public String uploadFileAsync(byte[] content, String contentType, String originalFileName, String dirName) {
+        return uploadAsync(content, contentType, dirName, extension(originalFileName));
     }
 
     @Override
-    public String uploadBase64File(String base64Img, String dirName) {
+    public String uploadBase64FileAsync(String base64Img, String dirName) {
         byte[] imageBytes = Base64.getDecoder().decode(base64Img);
         String contentType = ".png";
+        return uploadAsync(imageBytes, contentType, dirName, contentType);
+    }
+
+    @Override
+    public S3UploadState getUploadState(String fileUrl) {
+        String key = keyOf(fileUrl);
+        String state = redisRepository.get(S3UploadState.redisKey(key), String.class);
+        if (state != null) {
+            return S3UploadState.valueOf(state);
+        }
+        // Redis 상태가 만료된 뒤에도 실패 기록은 남아있음
+        return uploadFailureRepository.existsByObjectKey(key) ? S3UploadState.FAILED : null;
+    }
+
+    /**
+     * 내용의 SHA-256 으로 key 를 만듦 (dirName/{hash}{확장자}).
+     * 같은 사진을 여러 학생이 올려도 객체는 하나만 저장되고, 이미 있으면 다시 올리지 않음
+     */
+    private String upload(byte[] content, String contentType, String dirName, String extension) {
+        String fileUrl = dirName + "/" + sha256(content) + extension;
+        store(content, contentType, dirName, fileUrl);
+        return amazonS3.getUrl(bucket, fileUrl).toString();
+    }
+
+    /**
+     * key 가 내용으로 정해지므로 URL 은 업로드 전에 알 수 있음. URL 만 바로 돌려주고
+     * 업로드는 s3UploadScheduler 에서 재시도(지수 backoff)하며 진행, 결과는 Redis 에 상태로 남김.
+     * 넘겨둔 업로드가 s3.upload.queue-size 개이거나 서버가 종료 중이면 넘기지 않고 요청 스레드에서 바로 올림 (실패하면 예외).
+     * s3UploadScheduler 의 대기열은 스레드마다 따로 있어 전체 상한이 되지 않으므로 여기서 셈
+     */
+    private String uploadAsync(byte[] content, String contentType, String dirName, String extension) {
+        String fileUrl = dirName + "/" + sha256(content) + extension;
+        saveUploadState(fileUrl, S3UploadState.PENDING);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        if (!shuttingDown) {
+            PendingUpload pending = new PendingUpload(dirName, fileUrl);
+            if (addPending(pending)) {
+                try {
+                    s3UploadScheduler.schedule(() -> uploadInBackground(content, contentType, dirName, fileUrl, sample, pending));
+                    return amazonS3.getUrl(bucket, fileUrl).toString();
+                } catch (RejectedExecutionException e) {
+                    removePending(pending);
+                }
+            }
+            logger.warn("S3 업로드 대기열이 가득 차서 바로 올림: {}", fileUrl);
+        }
+        try {
+            store(content, contentType, dirName, fileUrl);
+        } catch (RuntimeException e) {
+            finishUpload(sample, dirName, fileUrl, e);
+            throw e;
+        }
+        finishUpload(sample, dirName, fileUrl, null);
+        return amazonS3.getUrl(bucket, fileUrl).toString();
+    }
+
+    // s3UploadScheduler 스레드에서 첫 시도를 하고, 재시도도 같은 스케줄러에서 함
+    private void uploadInBackground(byte[] content, String contentType, String dirName, String fileUrl,
+                                    Timer.Sample sample, PendingUpload pending) {
+        Mono.fromRunnable(() -> store(content, contentType, dirName, fileUrl))
+                .retryWhen(Retry.backoff(uploadRetries, Duration.ofMillis(500))
+                        .scheduler(s3UploadScheduler)
+                        .doBeforeRetry(signal -> logger.warn("S3 업로드 재시도 {} ({}회): {}",
+                                fileUrl, signal.totalRetries() + 1, signal.failure().getMessage())))
+                .doFinally(signal -> removePending(pending))
+                .subscribe(null,
+                        error -> {
+                            logger.error("S3 업로드 실패: {}", fileUrl, error);
+                            finishUpload(sample, dirName, fileUrl, error);
+                        },
+                        () -> finishUpload(sample, dirName, fileUrl, null));
+    }
+
+    /**
+     * 새 업로드는 요청 스레드에서 올리게 하고, 넘겨둔 업로드가 끝날 때까지 s3.upload.shutdown-timeout-seconds 만큼 기다림.
+     * s3UploadScheduler 는 이 빈이 정리된 뒤에 dispose 됨. 그때까지 못 끝낸 업로드는 실패로 기록함
+     */
+    @PreDestroy
+    public void drainUploads() {
+        shuttingDown = true;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(shutdownTimeoutSeconds);
+        synchronized (pendingUploads) {
+            while (!pendingUploads.isEmpty()) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                try {
+                    pendingUploads.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        for (PendingUpload pending : pendingUploads) {
+            logger.warn("종료 전에 끝나지 않은 S3 업로드: {}", pending.fileUrl);
+            saveUploadState(pending.fileUrl, S3UploadState.FAILED);
+            recordFailure(pending.dirName, pending.fileUrl, new IllegalStateException("서버 종료 전에 업로드가 끝나지 않았습니다."));
+        }
+    }
+
+    private boolean addPending(PendingUpload pending) {
+        if (queuedUploads.incrementAndGet() > maxQueuedUploads) {
+            queuedUploads.decrementAndGet();
+            return false;
+        }
+        pendingUploads.add(pending);
+        return true;
+    }
+
+    private void removePending(PendingUpload pending) {
+        if (pendingUploads.remove(pending)) {
+            queuedUploads.decrementAndGet();
+        }
+        if (shuttingDown) {
+            synchronized (pendingUploads) {
+                pendingUploads.notifyAll();
+            }
+        }
+    }
 
-        String fileName = UUID.randomUUID() + contentType;
-        String fileUrl = dirName + "/" + fileName;
+    // 이미 있으면 올리지 않음. 재시도할 때마다 새 스트림으로 올림
+    private void store(byte[] content, String contentType, String dirName, String fileUrl) {
+        if (amazonS3.doesObjectExist(bucket, fileUrl)) {
+            Counter.builder("s3.upload.deduplicated")
+                    .tag("dir", dirName)
+                    .register(meterRegistry)
+                    .increment();
+            return;
+        }
 
         ObjectMetadata metadata = new ObjectMetadata();
         metadata.setContentType(contentType);
-        metadata.setContentLength(imageBytes.length);
-        amazonS3.putObject(bucket, fileUrl, new ByteArrayInputStream(imageBytes), metadata);
-        return amazonS3.getUrl(bucket, fileUrl).toString();
+        metadata.setContentLength(content.length);
+        putObject(dirName, fileUrl, new ByteArrayInputStream(content), metadata);
+    }
+
+    // s3.upload.async(요청부터 완료까지, 재시도 포함) 를 결과별로 기록. error 가 null 이면 성공
+    private void finishUpload(Timer.Sample sample, String dirName, String fileUrl, Throwable error) {
+        S3UploadState state = error == null ? S3UploadState.DONE : S3UploadState.FAILED;
+        sample.stop(Timer.builder("s3.upload.async")
+                .tag("dir", dirName)
+                .tag("result", state.name().toLowerCase())
+                .register(meterRegistry));
+        saveUploadState(fileUrl, state);
+        if (error == null) {
+            clearFailure(fileUrl);
+        } else {
+            recordFailure(dirName, fileUrl, error);
+        }
+    }
+
+    // 실패는 Redis 상태가 만료된 뒤에도 찾을 수 있게 DB 에 남김
+    private void recordFailure(String dirName, String key, Throwable error) {
+        try {
+            S3UploadFailure failure = uploadFailureRepository.findByObjectKey(key).orElse(null);
+            if (failure == null) {
+                uploadFailureRepository.save(S3UploadFailure.of(key, dirName, error.getMessage()));
+            } else {
+                failure.updateFailure(error.getMessage());
+                uploadFailureRepository.save(failure);
+            }
+        } catch (RuntimeException e) {
+            logger.error("S3 업로드 실패 기록 저장 실패 {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void clearFailure(String key) {
+        try {
+            uploadFailureRepository.deleteByObjectKey(key);
+        } catch (RuntimeException e) {
+            logger.warn("S3 업로드 실패 기록 삭제 실패 {}: {}", key, e.getMessage());
+        }
+    }
+
+    // 상태 기록은 부가 정보라 Redis 오류로 업로드를 막지 않음
+    private void saveUploadState(String key, S3UploadState state) {
+        try {
+            redisRepository.save(S3UploadState.redisKey(key), state.name(), UPLOAD_STATE_TTL);
+        } catch (RuntimeException e) {
+            logger.warn("S3 업로드 상태 저장 실패 {}: {}", key, e.getMessage());
+        }
+    }
+
+    // getUrl 이 만든 URL 에서 key 만 꺼냄 (path-style 이면 앞의 bucket 도 뺌)
+    private String keyOf(String fileUrl) {
+        String path = URI.create(fileUrl).getPath().substring(1);
+        return path.startsWith(bucket + "/") ? path.substring(bucket.length() + 1) : path;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 원래 파일 이름의 확장자 (.jpg 등). 없거나 이상하면 빈 문자열
+    private static String extension(String originalFileName) {
+        if (originalFileName == null || originalFileName.lastIndexOf('.') < 0) {
+            return "";
+        }
+        String extension = originalFileName.substring(originalFileName.lastIndexOf('.')).toLowerCase();
+        return extension.matches("\\.[a-z0-9]{1,5}") ? extension : "";
+    }
+
+    @Override
+    public String uploadBase64File(String base64Img, String dirName) {
+        byte[] imageBytes = Base64.getDecoder().decode(base64Img);
+        String contentType = ".png";
+        return upload(imageBytes, contentType, dirName, contentType);
+    }
+
+    // s3.upload(시간), s3.upload.bytes(크기) 를 폴더별로 기록
+    private void putObject(String dirName, String key, InputStream inputStream, ObjectMetadata metadata) {
+        Timer.builder("s3.upload")
+                .tag("dir", dirName)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(() -> amazonS3.putObject(bucket, key, inputStream, metadata));
+        DistributionSummary.builder("s3.upload.bytes")
+                .tag("dir", dirName)
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(metadata.getContentLength());
+    }
+
+    // 같은 내용을 동시에 올려도 따로 세도록 equals 를 쓰지 않음
+    private static final class PendingUpload {
+        private final String dirName;
+        private final String fileUrl;
+
+        private PendingUpload(String dirName, String fileUrl) {
+            this.dirName = dirName;
+            this.fileUrl = fileUrl;
+        }
     }
-} 
\ No newline at end of file
+}
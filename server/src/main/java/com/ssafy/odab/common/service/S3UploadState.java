@@ -0,0 +1,13 @@
+package com.ssafy.odab.common.service;
+
+/**
+ * S3 업로드 상태. Redis 의 s3:upload:{key} 에 저장됨
+ * 백그라운드 업로드(S3ServiceImpl *Async)와 presigned 업로드(PresignedUploadService) 가 같이 씀
+ */
+public enum S3UploadState {
+    PENDING, DONE, FAILED;
+
+    public static String redisKey(String key) {
+        return "s3:upload:" + key;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssafy.odab.common.service;
+
+/**
+ * presigned 업로드 용도별 S3 폴더. 프로필 이미지는 ImageService 처럼 public-read 로 올림
+ */
+public enum UploadPurpose {
+    QUESTION("product", false),
+    ANSWER("product", false),
+    PROFILE("profile", true);
+
+    private final String dirName;
+    private final boolean publicRead;
+
+    UploadPurpose(String dirName, boolean publicRead) {
+        this.dirName = dirName;
+        this.publicRead = publicRead;
+    }
+
+    public String getDirName() {
+        return dirName;
+    }
+
+    public boolean isPublicRead() {
+        return publicRead;
+    }
+
+    // 이 폴더의 객체를 public-read 로 두는지 (confirm 에서 복사할 때 씀)
+    public static boolean isPublicReadDir(String dirName) {
+        for (UploadPurpose value : values()) {
+            if (value.dirName.equals(dirName) && value.publicRead) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static UploadPurpose from(String purpose) {
+        for (UploadPurpose value : values()) {
+            if (value.name().equalsIgnoreCase(purpose)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("업로드 용도가 올바르지 않습니다: " + purpose);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.odab.domain.concept.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 미리 직렬화한 JSON 응답과 그 내용으로 만든 strong ETag.
+ * 내용이 같으면 서버가 달라도 ETag 가 같으므로 클라이언트는 If-None-Match 로 304 를 받음
+ */
+public record CachedJson(byte[] body, String etag) {
+
+    public static CachedJson of(ObjectMapper objectMapper, Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return new CachedJson(body, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("개념 응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * If-None-Match 가 같으면 Spring 이 본문 없이 304 로 바꿔서 보냄.
+     * no-cache 라서 클라이언트는 매번 ETag 로 다시 확인함 (개념 수정이 바로 반영됨)
+     */
+    public ResponseEntity<byte[]> toResponseEntity() {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,226 @@
+package com.ssafy.odab.domain.concept.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.odab.domain.concept.dto.ConceptDto;
+import com.ssafy.odab.domain.concept.entity.GradeLevel;
+import com.ssafy.odab.domain.concept.entity.MajorConcept;
+import com.ssafy.odab.domain.concept.entity.SubConcept;
+import com.ssafy.odab.domain.concept.repository.MajorConceptRepository;
+import com.ssafy.odab.domain.concept.repository.SubConceptRepository;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 학년/대개념/소개념 목록을 메모리에 들고 있는 카탈로그.
+ * 개념 데이터는 거의 바뀌지 않으므로 한 번 읽어서 불변 스냅샷으로 만들고,
+ * 프롬프트에 넣을 개념 목록 문자열도 미리 만들어 둠 (학년별 + 전체).
+ * 개념 목록 API 의 JSON 응답도 스냅샷마다 한 번만 직렬화해서 ETag 와 함께 재사용하므로 평소에는 DB 를 읽지 않음.
+ * 주기적으로, 또는 관리자 요청(ConceptCatalogEndpoint)으로 다시 읽어서 스냅샷을 통째로 교체함.
+ */
+@Component
+public class ConceptCatalog {
+    private static final Logger logger = LoggerFactory.getLogger(ConceptCatalog.class);
+    private static final Comparator<Integer> NULLS_LAST = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final SubConceptRepository subConceptRepository;
+    private final MajorConceptRepository majorConceptRepository;
+    private final ObjectMapper objectMapper;
+    private volatile Snapshot snapshot;
+
+    public ConceptCatalog(SubConceptRepository subConceptRepository, MajorConceptRepository majorConceptRepository,
+                          ObjectMapper objectMapper) {
+        this.subConceptRepository = subConceptRepository;
+        this.majorConceptRepository = majorConceptRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // 첫 조회 때 다시 시도함
+            logger.error("개념 카탈로그 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${concept.catalog.refresh-interval-ms:3600000}",
+            initialDelayString = "${concept.catalog.refresh-interval-ms:3600000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * DB 에서 다시 읽어서 스냅샷을 교체함 (블로킹)
+     */
+    public synchronized Snapshot refresh() {
+        Snapshot loaded = Snapshot.of(subConceptRepository.findAllWithMajorConceptAndGrade(),
+                majorConceptRepository.findAllWithGradeLevel());
+        snapshot = loaded;
+        logger.info("개념 카탈로그 적재 완료: 학년 {}개, 대개념 {}개, 소개념 {}개",
+                loaded.getGradeLevels().size(), loaded.getMajorConcepts().size(), loaded.getSubConcepts().size());
+        return loaded;
+    }
+
+    /**
+     * 현재 스냅샷. 아직 적재되지 않았으면 이 자리에서 읽음 (블로킹)
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return snapshot != null ? snapshot : refresh();
+        }
+    }
+
+    /**
+     * 프롬프트용 소개념 목록. grade 가 있으면 그 학년 이하의 개념만 넣음 (null 이면 전체)
+     */
+    public String conceptPrompt(Integer grade) {
+        return snapshot().conceptPrompt(grade);
+    }
+
+    public ConceptTaxonomy taxonomy() {
+        return snapshot().getTaxonomy();
+    }
+
+    /**
+     * key 에 해당하는 JSON 응답. 현재 스냅샷에서 처음 요청될 때 body 로 만들어 직렬화하고 이후에는 그대로 돌려줌.
+     * 같은 key 는 항상 같은 모양의 응답이어야 함
+     */
+    public CachedJson json(String key, Function<ConceptTaxonomy, Object> body) {
+        Snapshot current = snapshot();
+        return current.jsonByKey.computeIfAbsent(key,
+                k -> CachedJson.of(objectMapper, body.apply(current.getTaxonomy())));
+    }
+
+    /**
+     * 한 번 만들어지면 바뀌지 않는 개념 목록
+     */
+    @Getter
+    public static final class Snapshot {
+        private final List<ConceptDto.GradeLevelDto> gradeLevels;
+        private final List<ConceptDto.MajorConceptDto> majorConcepts;
+        private final List<ConceptDto.SubConceptDto> subConcepts;
+        private final LocalDateTime loadedAt;
+        private final String fullPrompt;
+        private final Map<Integer, String> promptByGrade;
+        private final ConceptTaxonomy taxonomy;
+        // 직렬화된 응답은 처음 요청될 때 채워짐 (스냅샷이 바뀌면 통째로 버려짐)
+        @Getter(AccessLevel.NONE)
+        private final Map<String, CachedJson> jsonByKey = new ConcurrentHashMap<>();
+
+        private Snapshot(List<ConceptDto.GradeLevelDto> gradeLevels,
+                         List<ConceptDto.MajorConceptDto> majorConcepts,
+                         List<ConceptDto.SubConceptDto> subConcepts,
+                         String fullPrompt, Map<Integer, String> promptByGrade, ConceptTaxonomy taxonomy) {
+            this.gradeLevels = List.copyOf(gradeLevels);
+            this.majorConcepts = List.copyOf(majorConcepts);
+            this.subConcepts = List.copyOf(subConcepts);
+            this.loadedAt = LocalDateTime.now();
+            this.fullPrompt = fullPrompt;
+            this.promptByGrade = Map.copyOf(promptByGrade);
+            this.taxonomy = taxonomy;
+        }
+
+        public String conceptPrompt(Integer grade) {
+            if (grade == null) {
+                return fullPrompt;
+            }
+            return promptByGrade.getOrDefault(grade, fullPrompt);
+        }
+
+        /**
+         * 학년 -> 대개념 순서 -> 소개념 순서로 정렬해서 만듦.
+         * 같은 데이터면 항상 같은 문자열이 나와야 프롬프트 캐시가 적중함
+         */
+        private static Snapshot of(List<SubConcept> loaded, List<MajorConcept> majors) {
+            List<SubConcept> sorted = new ArrayList<>(loaded);
+            sorted.sort(Comparator
+                    .comparing((SubConcept s) -> gradeOf(s.getMajorConcept()), NULLS_LAST)
+                    .thenComparing(s -> s.getMajorConcept().getConceptOrder(), NULLS_LAST)
+                    .thenComparing(s -> s.getMajorConcept().getId())
+                    .thenComparing(SubConcept::getConceptOrder, NULLS_LAST)
+                    .thenComparing(SubConcept::getId));
+
+            Map<Integer, ConceptDto.GradeLevelDto> gradeLevels = new LinkedHashMap<>();
+            Map<Integer, ConceptDto.MajorConceptDto> majorConcepts = new LinkedHashMap<>();
+            List<ConceptDto.SubConceptDto> subConcepts = new ArrayList<>();
+            for (SubConcept sub : sorted) {
+                MajorConcept major = sub.getMajorConcept();
+                GradeLevel gradeLevel = major.getGradeLevel();
+                if (gradeLevel != null) {
+                    gradeLevels.computeIfAbsent(gradeLevel.getId(), id -> ConceptDto.GradeLevelDto.builder()
+                            .gradeLevelId(gradeLevel.getId())
+                            .grade(gradeLevel.getGrade())
+                            .gradeName(gradeLevel.getGradeName())
+                            .build());
+                }
+                majorConcepts.computeIfAbsent(major.getId(), id -> ConceptDto.MajorConceptDto.builder()
+                        .majorConceptId(major.getId())
+                        .gradeId(gradeLevel == null ? null : gradeLevel.getId())
+                        .majorConceptType(major.getConceptType())
+                        .conceptOrder(major.getConceptOrder())
+                        .build());
+                subConcepts.add(ConceptDto.SubConceptDto.builder()
+                        .subConceptId(sub.getId())
+                        .majorConceptId(major.getId())
+                        .gradeId(gradeLevel == null ? null : gradeLevel.getId())
+                        .subConceptType(sub.getConceptType())
+                        .conceptOrder(sub.getConceptOrder())
+                        .conceptContent(sub.getConceptContent())
+                        .build());
+            }
+
+            String fullPrompt = render(sorted, null);
+            Map<Integer, String> promptByGrade = new HashMap<>();
+            sorted.stream()
+                    .map(s -> gradeOf(s.getMajorConcept()))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(grade -> promptByGrade.put(grade, render(sorted, grade)));
+
+            return new Snapshot(new ArrayList<>(gradeLevels.values()), new ArrayList<>(majorConcepts.values()),
+                    subConcepts, fullPrompt, promptByGrade, ConceptTaxonomy.of(majors, loaded));
+        }
+
+        // 학년 정보가 없는 개념은 모든 학년에 포함함
+        private static String render(List<SubConcept> sorted, Integer maxGrade) {
+            StringBuilder sb = new StringBuilder();
+            for (SubConcept sub : sorted) {
+                Integer grade = gradeOf(sub.getMajorConcept());
+                if (maxGrade != null && grade != null && grade > maxGrade) {
+                    continue;
+                }
+                sb.append("- ").append(sub.getConceptType()).append(" = ").append(sub.getId()).append('\n');
+            }
+            return sb.toString();
+        }
+
+        private static Integer gradeOf(MajorConcept major) {
+            if (major.getGradeLevel() == null || major.getGradeLevel().getGrade() == null) {
+                return null;
+            }
+            return major.getGradeLevel().getGrade().intValue();
+        }
+    }
+}
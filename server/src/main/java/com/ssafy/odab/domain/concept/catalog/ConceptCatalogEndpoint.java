@@ -0,0 +1,41 @@
+package com.ssafy.odab.domain.concept.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 관리자용 개념 카탈로그 actuator endpoint (/actuator/conceptcatalog).
+ * actuator 는 외부에 열리지 않은 management 포트에서만 받으므로 내부망에서만 호출할 수 있음.
+ * GET 은 현재 스냅샷 정보, POST 는 개념 데이터를 수정한 뒤 바로 다시 읽어옴
+ */
+@Component
+@Endpoint(id = "conceptcatalog")
+@RequiredArgsConstructor
+public class ConceptCatalogEndpoint {
+    private final ConceptCatalog conceptCatalog;
+
+    @ReadOperation
+    public Map<String, Object> snapshot() {
+        return describe(conceptCatalog.snapshot());
+    }
+
+    @WriteOperation
+    public Map<String, Object> refresh() {
+        return describe(conceptCatalog.refresh());
+    }
+
+    private static Map<String, Object> describe(ConceptCatalog.Snapshot snapshot) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("gradeLevelCount", snapshot.getGradeLevels().size());
+        response.put("majorConceptCount", snapshot.getMajorConcepts().size());
+        response.put("subConceptCount", snapshot.getSubConcepts().size());
+        response.put("loadedAt", snapshot.getLoadedAt());
+        return response;
+    }
+}
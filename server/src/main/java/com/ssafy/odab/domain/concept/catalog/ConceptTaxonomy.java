@@ -0,0 +1,127 @@
+package com.ssafy.odab.domain.concept.catalog;
+
+import com.ssafy.odab.domain.concept.entity.MajorConcept;
+import com.ssafy.odab.domain.concept.entity.SubConcept;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학년 -> 대개념 -> 소개념 트리. 만들어진 뒤에는 바뀌지 않음.
+ * 개념 id 는 작은 정수이므로 id 를 인덱스로 하는 배열로 바로 찾음.
+ */
+public final class ConceptTaxonomy {
+    private static final Comparator<Integer> NULLS_LAST = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final List<GradeNode> grades;
+    private final List<MajorNode> majorConcepts;
+    private final List<SubNode> subConcepts;
+    private final Map<Byte, GradeNode> gradeByGrade;
+    private final MajorNode[] majorById;
+    private final SubNode[] subById;
+
+    public record GradeNode(Byte grade, String gradeName, List<MajorNode> majorConcepts) {
+    }
+
+    public record MajorNode(Integer id, String conceptType, Integer conceptOrder, Byte grade,
+                            List<SubNode> subConcepts) {
+    }
+
+    public record SubNode(Integer id, String conceptType, Integer conceptOrder, String conceptContent,
+                          Integer majorConceptId) {
+    }
+
+    private ConceptTaxonomy(List<GradeNode> grades, List<MajorNode> majorConcepts) {
+        this.grades = List.copyOf(grades);
+        this.majorConcepts = List.copyOf(majorConcepts);
+        this.subConcepts = majorConcepts.stream().flatMap(major -> major.subConcepts().stream()).toList();
+
+        Map<Byte, GradeNode> gradeByGrade = new LinkedHashMap<>();
+        grades.forEach(grade -> gradeByGrade.put(grade.grade(), grade));
+        this.gradeByGrade = Map.copyOf(gradeByGrade);
+
+        this.majorById = new MajorNode[majorConcepts.stream().mapToInt(MajorNode::id).max().orElse(-1) + 1];
+        majorConcepts.forEach(major -> majorById[major.id()] = major);
+        this.subById = new SubNode[subConcepts.stream().mapToInt(SubNode::id).max().orElse(-1) + 1];
+        subConcepts.forEach(sub -> subById[sub.id()] = sub);
+    }
+
+    /**
+     * 대개념은 학년 -> 순서 -> id, 소개념은 순서 -> id 로 정렬함. 같은 데이터면 항상 같은 순서가 나옴
+     */
+    static ConceptTaxonomy of(List<MajorConcept> majors, List<SubConcept> subs) {
+        Map<Integer, List<SubNode>> subsByMajorId = new LinkedHashMap<>();
+        subs.stream()
+                .sorted(Comparator.comparing(SubConcept::getConceptOrder, NULLS_LAST).thenComparing(SubConcept::getId))
+                .forEach(sub -> subsByMajorId.computeIfAbsent(sub.getMajorConcept().getId(), id -> new ArrayList<>())
+                        .add(new SubNode(sub.getId(), sub.getConceptType(), sub.getConceptOrder(),
+                                sub.getConceptContent(), sub.getMajorConcept().getId())));
+
+        List<MajorNode> majorNodes = majors.stream()
+                .sorted(Comparator.comparing(ConceptTaxonomy::gradeOf, Comparator.nullsLast(Comparator.<Byte>naturalOrder()))
+                        .thenComparing(MajorConcept::getConceptOrder, NULLS_LAST)
+                        .thenComparing(MajorConcept::getId))
+                .map(major -> new MajorNode(major.getId(), major.getConceptType(), major.getConceptOrder(),
+                        gradeOf(major), List.copyOf(subsByMajorId.getOrDefault(major.getId(), List.of()))))
+                .toList();
+
+        // 학년 정보가 없는 대개념은 학년 목록에서 빠짐
+        Map<Byte, List<MajorNode>> majorsByGrade = new LinkedHashMap<>();
+        Map<Byte, String> gradeNames = new LinkedHashMap<>();
+        for (MajorConcept major : majors) {
+            if (gradeOf(major) != null) {
+                gradeNames.putIfAbsent(gradeOf(major), major.getGradeLevel().getGradeName());
+            }
+        }
+        for (MajorNode major : majorNodes) {
+            if (major.grade() != null) {
+                majorsByGrade.computeIfAbsent(major.grade(), grade -> new ArrayList<>()).add(major);
+            }
+        }
+        List<GradeNode> gradeNodes = majorsByGrade.entrySet().stream()
+                .map(entry -> new GradeNode(entry.getKey(), gradeNames.get(entry.getKey()), List.copyOf(entry.getValue())))
+                .toList();
+        return new ConceptTaxonomy(gradeNodes, majorNodes);
+    }
+
+    public List<GradeNode> grades() {
+        return grades;
+    }
+
+    public List<MajorNode> majorConcepts() {
+        return majorConcepts;
+    }
+
+    public List<SubNode> subConcepts() {
+        return subConcepts;
+    }
+
+    /**
+     * 학년의 대개념 목록. 없는 학년이면 빈 목록
+     */
+    public List<MajorNode> majorConceptsOf(Byte grade) {
+        GradeNode node = grade == null ? null : gradeByGrade.get(grade);
+        return node == null ? List.of() : node.majorConcepts();
+    }
+
+    /**
+     * 없으면 null
+     */
+    public MajorNode majorConcept(Integer id) {
+        return id == null || id < 0 || id >= majorById.length ? null : majorById[id];
+    }
+
+    /**
+     * 없으면 null
+     */
+    public SubNode subConcept(Integer id) {
+        return id == null || id < 0 || id >= subById.length ? null : subById[id];
+    }
+
+    private static Byte gradeOf(MajorConcept major) {
+        return major.getGradeLevel() == null ? null : major.getGradeLevel().getGrade();
+    }
+}
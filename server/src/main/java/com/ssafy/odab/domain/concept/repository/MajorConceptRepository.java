@@ -22,7 +22,10 @@ public interface MajorConceptRepository extends JpaRepository<MajorConcept, Inte
     @Query("SELECT m FROM MajorConcept m LEFT JOIN FETCH m.subConcepts")
     List<MajorConcept> findAllWithSubConcepts();
 
-    @Query("SELECT m FROM MajorConcept m JOIN FETCH m.gradeLevel")
+    /**
+     * 개념 카탈로그 적재용. 학년이 없는 대개념도 포함
+     */
+    @Query("SELECT m FROM MajorConcept m LEFT JOIN FETCH m.gradeLevel")
     List<MajorConcept> findAllWithGradeLevel();
 
     @Query("SELECT DISTINCT m FROM MajorConcept m JOIN FETCH m.gradeLevel LEFT JOIN FETCH m.subConcepts")
@@ -30,4 +33,10 @@ public interface MajorConceptRepository extends JpaRepository<MajorConcept, Inte
 
     @Query("select m from MajorConcept m where m.gradeLevel.grade = :grade order by m.conceptOrder")
     List<MajorConcept> findAllByGrade(@Param("grade") Byte grade);
+
+    /**
+     * 학년의 대개념과 소개념을 한 번에 조회 (소개념 지연 로딩으로 인한 N+1 방지)
+     */
+    @Query("select distinct m from MajorConcept m join fetch m.gradeLevel g left join fetch m.subConcepts where g.grade = :grade order by m.conceptOrder")
+    List<MajorConcept> findAllWithSubConceptsByGrade(@Param("grade") Byte grade);
 }
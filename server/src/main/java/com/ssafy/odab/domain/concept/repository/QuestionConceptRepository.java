@@ -2,8 +2,17 @@ package com.ssafy.odab.domain.concept.repository;
 
 import com.ssafy.odab.domain.concept.entity.QuestionConcept;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface QuestionConceptRepository extends JpaRepository<QuestionConcept, Integer> {
+
+    @Query("select qc.subConcept.id from QuestionConcept qc where qc.question.id = :questionId and qc.subConcept is not null")
+    List<Integer> findSubConceptIdsByQuestionId(@Param("questionId") Integer questionId);
+
+    // [questionId, subConceptId] 전체. 복습 일정 초기화용
+    @Query("select qc.question.id, qc.subConcept.id from QuestionConcept qc where qc.subConcept is not null")
+    List<Object[]> findAllQuestionSubConceptIds();
 }
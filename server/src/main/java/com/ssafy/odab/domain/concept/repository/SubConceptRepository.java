@@ -14,4 +14,10 @@ public interface SubConceptRepository extends JpaRepository<SubConcept, Integer>
 
     @Query("select qc.subConcept from QuestionConcept qc where qc.question.id in (:wrongQuestionIds)")
     List<SubConcept> findByQuestionIds(@Param("wrongQuestionIds") List<Integer> wrongQuestionIds);
+
+    /**
+     * 개념 카탈로그 적재용. 대개념과 학년까지 한 번에 조회
+     */
+    @Query("select s from SubConcept s join fetch s.majorConcept m left join fetch m.gradeLevel")
+    List<SubConcept> findAllWithMajorConceptAndGrade();
 }
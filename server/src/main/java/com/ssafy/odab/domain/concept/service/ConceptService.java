@@ -1,7 +1,7 @@
 package com.ssafy.odab.domain.concept.service;
 
-import com.ssafy.odab.common.dto.GradeConceptResponseDto;
+import com.ssafy.odab.domain.concept.catalog.CachedJson;
 
 public interface ConceptService {
-    GradeConceptResponseDto getAllConcepts();
+    CachedJson getAllConcepts();
 }
@@ -7,7 +7,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import com.ssafy.odab.domain.learning.service.LearningService;
-import com.ssafy.odab.domain.learning.dto.ReviewPageResponseDto;
+import com.ssafy.odab.common.service.PageCacheService;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import java.util.List;
@@ -19,15 +20,17 @@ import com.ssafy.odab.domain.user.service.JwtService;
 public class LearningController {
     private final LearningService learningService;
     private final JwtService jwtService;
+    private final PageCacheService pageCacheService;
     
     @GetMapping()
-    public ResponseEntity<?> getReviewMain() {
+    public ResponseEntity<byte[]> getReviewMain() {
         Integer userId = 1; 
         // Integer userId = jwtService.getUserIdFromRequest(); // jwt.getUserId()로 수정하면 오류뜸.(토큰 가져올 수 없습니다.) 
-        ReviewPageResponseDto data = learningService.getReviewMain(userId);
-        return ResponseEntity.ok(
-            new ApiResponse<>(200, "성공적으로 조회되었습니다.", data)
-        );
+        byte[] body = pageCacheService.getOrLoad("review", userId,
+                () -> new ApiResponse<>(200, "성공적으로 조회되었습니다.", learningService.getReviewMain(userId)));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
  
     // 오늘의 복습문제 조회 API
@@ -0,0 +1,18 @@
+package com.ssafy.odab.domain.learning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 복습 일정 조회 결과. 소개념, 처음 틀린 날, 복습 차수 단위로 묶임
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduledReviewDto {
+    private Integer subConceptId;
+    private String subConceptType;
+    private LocalDate firstWrongDate;
+    private Integer reviewOrder;
+}
@@ -0,0 +1,114 @@
+package com.ssafy.odab.domain.learning.entity;
+
+import com.ssafy.odab.domain.concept.entity.SubConcept;
+import com.ssafy.odab.domain.learning.scheduler.ReviewState;
+import com.ssafy.odab.domain.question.entity.Question;
+import com.ssafy.odab.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 회원별 복습 항목과 그 상태 (읽기 모델).
+ * (회원, 문제) 마다 문제의 소개념 수만큼 저장되고, 같은 문제의 줄은 항상 같은 상태를 가짐.
+ * 메인/복습 페이지는 (user_id, due_date) 인덱스로 범위 조회만 하고, 풀이를 저장할 때 상태를 갱신함.
+ */
+@Entity
+@Table(name = "review_schedule",
+        indexes = @Index(name = "idx_review_schedule_user_due", columnList = "user_id, due_date, sub_concept_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_review_schedule_item",
+                columnNames = {"user_id", "question_id", "sub_concept_id"}))
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "review_schedule_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sub_concept_id", nullable = false)
+    private SubConcept subConcept;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "question_id", nullable = false)
+    private Question question;
+
+    // 처음 틀린 날 (복습 페이지의 lastLearningDate)
+    @Column(name = "first_wrong_date", nullable = false)
+    private LocalDate firstWrongDate;
+
+    // 다음 복습일. 복습이 끝나면 null
+    @Column(name = "due_date", nullable = true)
+    private LocalDate dueDate;
+
+    // 다음이 몇 번째 복습인지 (1부터)
+    @Column(name = "review_order", nullable = false)
+    private Integer reviewOrder;
+
+    @Column(name = "last_reviewed_date", nullable = true)
+    private LocalDate lastReviewedDate;
+
+    @Column(name = "interval_days", nullable = true)
+    private Integer intervalDays;
+
+    @Column(name = "repetitions", nullable = true)
+    private Integer repetitions;
+
+    @Column(name = "ease", nullable = true)
+    private Double ease;
+
+    @Column(name = "stability", nullable = true)
+    private Double stability;
+
+    @Column(name = "difficulty", nullable = true)
+    private Double difficulty;
+
+    public static ReviewSchedule of(User user, Question question, SubConcept subConcept, ReviewState state) {
+        ReviewSchedule reviewSchedule = ReviewSchedule.builder()
+                .user(user)
+                .question(question)
+                .subConcept(subConcept)
+                .build();
+        reviewSchedule.changeState(state);
+        return reviewSchedule;
+    }
+
+    public ReviewState toState() {
+        return ReviewState.builder()
+                .reviewOrder(reviewOrder)
+                .dueDate(dueDate)
+                .firstWrongDate(firstWrongDate)
+                .lastReviewedDate(lastReviewedDate)
+                .intervalDays(intervalDays)
+                .repetitions(repetitions)
+                .ease(ease)
+                .stability(stability)
+                .difficulty(difficulty)
+                .build();
+    }
+
+    public void changeState(ReviewState state) {
+        this.reviewOrder = state.reviewOrder();
+        this.dueDate = state.dueDate();
+        this.firstWrongDate = state.firstWrongDate();
+        this.lastReviewedDate = state.lastReviewedDate();
+        this.intervalDays = state.intervalDays();
+        this.repetitions = state.repetitions();
+        this.ease = state.ease();
+        this.stability = state.stability();
+        this.difficulty = state.difficulty();
+    }
+}
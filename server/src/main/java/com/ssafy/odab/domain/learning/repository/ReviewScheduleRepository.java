@@ -0,0 +1,57 @@
+package com.ssafy.odab.domain.learning.repository;
+
+import com.ssafy.odab.domain.learning.dto.ScheduledReviewDto;
+import com.ssafy.odab.domain.learning.entity.ReviewSchedule;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReviewScheduleRepository extends JpaRepository<ReviewSchedule, Long> {
+
+    // uk_review_schedule_item 으로 조회. 같은 문제의 상태를 동시에 바꾸지 않도록 트랜잭션이 끝날 때까지 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<ReviewSchedule> findByUserIdAndQuestionId(Integer userId, Integer questionId);
+
+    // 복습일이 from ~ date 인 소개념 목록 (idx_review_schedule_user_due 범위 조회)
+    @Query("select distinct new com.ssafy.odab.domain.learning.dto.ScheduledReviewDto(" +
+            " sc.id, sc.conceptType, rs.firstWrongDate, rs.reviewOrder) " +
+            " from ReviewSchedule rs join rs.subConcept sc " +
+            " where rs.user.id = :userId and rs.dueDate between :from and :date " +
+            " order by sc.id, rs.firstWrongDate")
+    List<ScheduledReviewDto> findDueReviews(@Param("userId") Integer userId,
+                                            @Param("from") LocalDate from,
+                                            @Param("date") LocalDate date);
+
+    // 복습일이 정확히 date 인 소개념 목록
+    @Query("select distinct new com.ssafy.odab.domain.learning.dto.ScheduledReviewDto(" +
+            " sc.id, sc.conceptType, rs.firstWrongDate, rs.reviewOrder) " +
+            " from ReviewSchedule rs join rs.subConcept sc " +
+            " where rs.user.id = :userId and rs.dueDate = :date " +
+            " order by sc.id, rs.firstWrongDate")
+    List<ScheduledReviewDto> findReviewsDueOn(@Param("userId") Integer userId, @Param("date") LocalDate date);
+
+    @Query("select rs.question.id from ReviewSchedule rs " +
+            " where rs.user.id = :userId and rs.dueDate between :from and :date and rs.subConcept.id = :subConceptId")
+    List<Integer> findDueQuestionIds(@Param("userId") Integer userId,
+                                     @Param("from") LocalDate from,
+                                     @Param("date") LocalDate date,
+                                     @Param("subConceptId") Integer subConceptId);
+
+    @Query("select rs.question.id from ReviewSchedule rs " +
+            " where rs.user.id = :userId and rs.dueDate = :date and rs.subConcept.id = :subConceptId")
+    List<Integer> findQuestionIdsDueOn(@Param("userId") Integer userId,
+                                       @Param("date") LocalDate date,
+                                       @Param("subConceptId") Integer subConceptId);
+
+    // MySQL named lock (연결 단위). 잡으면 1, 다른 연결이 잡고 있으면 0. 같은 트랜잭션 안에서 releaseLock 까지 호출해야 함
+    @Query(value = "select get_lock(:name, 0)", nativeQuery = true)
+    Long tryLock(@Param("name") String name);
+
+    @Query(value = "select release_lock(:name)", nativeQuery = true)
+    Long releaseLock(@Param("name") String name);
+}
@@ -0,0 +1,56 @@
+package com.ssafy.odab.domain.learning.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 처음 틀린 날로부터 정해진 날(기본 1, 4, 6, 13일차)에 복습. 맞혔는지와 상관없이 날짜로만 진행함.
+ * 복습일을 놓치고 늦게 풀면 이미 지난 차수는 건너뜀
+ */
+@Component
+@ConditionalOnProperty(name = "review.scheduler", havingValue = "fixed", matchIfMissing = true)
+public class FixedIntervalReviewScheduler implements ReviewScheduler {
+    private final List<Integer> reviewDays;
+
+    public FixedIntervalReviewScheduler(@Value("${review.fixed.days:1,4,6,13}") List<Integer> reviewDays) {
+        if (reviewDays.isEmpty()) {
+            throw new IllegalArgumentException("review.fixed.days 가 비어 있습니다.");
+        }
+        this.reviewDays = List.copyOf(reviewDays);
+    }
+
+    @Override
+    public ReviewState start(LocalDate firstWrongDate) {
+        return ReviewState.builder()
+                .firstWrongDate(firstWrongDate)
+                .reviewOrder(1)
+                .intervalDays(reviewDays.get(0))
+                .dueDate(firstWrongDate.plusDays(reviewDays.get(0)))
+                .build();
+    }
+
+    @Override
+    public ReviewState review(ReviewState state, boolean correct, LocalDate reviewedOn) {
+        long elapsed = ChronoUnit.DAYS.between(state.firstWrongDate(), reviewedOn);
+        for (int i = 0; i < reviewDays.size(); i++) {
+            if (reviewDays.get(i) > elapsed) {
+                return state.toBuilder()
+                        .reviewOrder(i + 1)
+                        .intervalDays(reviewDays.get(i))
+                        .dueDate(state.firstWrongDate().plusDays(reviewDays.get(i)))
+                        .lastReviewedDate(reviewedOn)
+                        .build();
+            }
+        }
+        // 마지막 차수까지 끝남
+        return state.toBuilder()
+                .dueDate(null)
+                .lastReviewedDate(reviewedOn)
+                .build();
+    }
+}
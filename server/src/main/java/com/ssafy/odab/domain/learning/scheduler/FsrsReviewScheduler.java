@@ -0,0 +1,104 @@
+package com.ssafy.odab.domain.learning.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * FSRS-4.5 (기본 가중치). 정답/오답만 있으므로 Good(3) / Again(1) 두 등급만 사용함.
+ * 기억 안정도(stability)와 난이도(difficulty)를 상태로 들고, 목표 기억률이 되는 날을 다음 복습일로 잡음
+ */
+@Component
+@ConditionalOnProperty(name = "review.scheduler", havingValue = "fsrs")
+public class FsrsReviewScheduler implements ReviewScheduler {
+    private static final double[] W = {
+            0.4872, 1.4003, 3.7145, 13.8206, 5.1618, 1.2298, 0.8975, 0.031, 1.6474,
+            0.1367, 1.0461, 2.1072, 0.0793, 0.3246, 1.587, 0.2272, 2.8755};
+    private static final double DECAY = -0.5;
+    private static final double FACTOR = 19.0 / 81.0;
+    private static final int AGAIN = 1;
+    private static final int GOOD = 3;
+
+    private final double requestRetention;
+    private final int maxIntervalDays;
+
+    public FsrsReviewScheduler(@Value("${review.fsrs.request-retention:0.9}") double requestRetention,
+                               @Value("${review.fsrs.max-interval-days:365}") int maxIntervalDays) {
+        if (requestRetention <= 0 || requestRetention >= 1) {
+            throw new IllegalArgumentException("review.fsrs.request-retention 은 0과 1 사이여야 합니다.");
+        }
+        this.requestRetention = requestRetention;
+        this.maxIntervalDays = maxIntervalDays;
+    }
+
+    @Override
+    public ReviewState start(LocalDate firstWrongDate) {
+        double stability = W[AGAIN - 1];
+        int interval = nextInterval(stability);
+        return ReviewState.builder()
+                .firstWrongDate(firstWrongDate)
+                .reviewOrder(1)
+                .stability(stability)
+                .difficulty(initDifficulty(AGAIN))
+                .intervalDays(interval)
+                .dueDate(firstWrongDate.plusDays(interval))
+                .build();
+    }
+
+    @Override
+    public ReviewState review(ReviewState state, boolean correct, LocalDate reviewedOn) {
+        // 다른 스케줄러로 만든 상태면 처음 틀렸을 때 값부터 시작
+        double stability = state.stability() != null ? state.stability() : W[AGAIN - 1];
+        double difficulty = state.difficulty() != null ? state.difficulty() : initDifficulty(AGAIN);
+        long elapsed = Math.max(0, ChronoUnit.DAYS.between(state.lastSeenDate(), reviewedOn));
+        double retrievability = Math.pow(1 + FACTOR * elapsed / stability, DECAY);
+
+        int grade = correct ? GOOD : AGAIN;
+        double nextStability = correct
+                ? recallStability(difficulty, stability, retrievability)
+                : forgetStability(difficulty, stability, retrievability);
+        int interval = nextInterval(nextStability);
+
+        return state.toBuilder()
+                .reviewOrder(state.reviewOrder() + 1)
+                .stability(nextStability)
+                .difficulty(nextDifficulty(difficulty, grade))
+                .intervalDays(interval)
+                .dueDate(reviewedOn.plusDays(interval))
+                .lastReviewedDate(reviewedOn)
+                .build();
+    }
+
+    private double initDifficulty(int grade) {
+        return clampDifficulty(W[4] - (grade - 3) * W[5]);
+    }
+
+    private double nextDifficulty(double difficulty, int grade) {
+        double next = difficulty - W[6] * (grade - 3);
+        // 기본 난이도 쪽으로 조금씩 되돌림
+        return clampDifficulty(W[7] * initDifficulty(GOOD) + (1 - W[7]) * next);
+    }
+
+    private double recallStability(double difficulty, double stability, double retrievability) {
+        return stability * (1 + Math.exp(W[8]) * (11 - difficulty) * Math.pow(stability, -W[9])
+                * (Math.exp(W[10] * (1 - retrievability)) - 1));
+    }
+
+    private double forgetStability(double difficulty, double stability, double retrievability) {
+        double next = W[11] * Math.pow(difficulty, -W[12]) * (Math.pow(stability + 1, W[13]) - 1)
+                * Math.exp(W[14] * (1 - retrievability));
+        return Math.min(next, stability);
+    }
+
+    private int nextInterval(double stability) {
+        double interval = stability / FACTOR * (Math.pow(requestRetention, 1 / DECAY) - 1);
+        return (int) Math.min(maxIntervalDays, Math.max(1, Math.round(interval)));
+    }
+
+    private static double clampDifficulty(double difficulty) {
+        return Math.min(10, Math.max(1, difficulty));
+    }
+}
@@ -0,0 +1,20 @@
+package com.ssafy.odab.domain.learning.scheduler;
+
+import java.time.LocalDate;
+
+/**
+ * 복습 일정 계산. 풀이 한 번마다 이전 상태만 보고 다음 상태를 만듦 (풀이 기록을 다시 읽지 않음)
+ * review.scheduler 로 구현체를 선택함 (fixed / sm2 / fsrs)
+ */
+public interface ReviewScheduler {
+
+    /**
+     * 문제를 처음 틀렸을 때의 상태
+     */
+    ReviewState start(LocalDate firstWrongDate);
+
+    /**
+     * 복습일 이후에 다시 푼 결과를 반영한 상태
+     */
+    ReviewState review(ReviewState state, boolean correct, LocalDate reviewedOn);
+}
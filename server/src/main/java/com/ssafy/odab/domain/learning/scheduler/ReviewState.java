@@ -0,0 +1,37 @@
+package com.ssafy.odab.domain.learning.scheduler;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+/**
+ * 복습 항목 하나의 상태. 스케줄러마다 필요한 값만 채움 (고정 주기는 ease, stability 등을 쓰지 않음)
+ *
+ * @param reviewOrder      다음이 몇 번째 복습인지 (1부터)
+ * @param dueDate          다음 복습일. null 이면 복습 끝
+ * @param firstWrongDate   처음 틀린 날
+ * @param lastReviewedDate 마지막으로 복습한 날. 아직 복습하지 않았으면 null
+ * @param intervalDays     마지막 복습(또는 처음 틀린 날)부터 다음 복습까지 일수
+ * @param repetitions      연속으로 맞힌 횟수 (SM-2)
+ * @param ease             쉬움 정도 (SM-2)
+ * @param stability        기억 안정도, 일 단위 (FSRS)
+ * @param difficulty       난이도 1~10 (FSRS)
+ */
+@Builder(toBuilder = true)
+public record ReviewState(Integer reviewOrder,
+                          LocalDate dueDate,
+                          LocalDate firstWrongDate,
+                          LocalDate lastReviewedDate,
+                          Integer intervalDays,
+                          Integer repetitions,
+                          Double ease,
+                          Double stability,
+                          Double difficulty) {
+
+    /**
+     * 마지막 복습일, 없으면 처음 틀린 날
+     */
+    public LocalDate lastSeenDate() {
+        return lastReviewedDate != null ? lastReviewedDate : firstWrongDate;
+    }
+}
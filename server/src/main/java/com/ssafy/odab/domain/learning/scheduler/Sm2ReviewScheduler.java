@@ -0,0 +1,63 @@
+package com.ssafy.odab.domain.learning.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * SuperMemo SM-2. 정답/오답만 있으므로 맞히면 4점, 틀리면 1점으로 봄.
+ * 틀리면 1일 뒤부터 다시 시작하고, 연속으로 맞히면 1일 -> 6일 -> 이전 간격 * ease 로 늘어남
+ */
+@Component
+@ConditionalOnProperty(name = "review.scheduler", havingValue = "sm2")
+public class Sm2ReviewScheduler implements ReviewScheduler {
+    private static final double INITIAL_EASE = 2.5;
+    private static final double MIN_EASE = 1.3;
+    private static final int CORRECT_QUALITY = 4;
+    private static final int WRONG_QUALITY = 1;
+
+    @Override
+    public ReviewState start(LocalDate firstWrongDate) {
+        return ReviewState.builder()
+                .firstWrongDate(firstWrongDate)
+                .reviewOrder(1)
+                .repetitions(0)
+                .ease(INITIAL_EASE)
+                .intervalDays(1)
+                .dueDate(firstWrongDate.plusDays(1))
+                .build();
+    }
+
+    @Override
+    public ReviewState review(ReviewState state, boolean correct, LocalDate reviewedOn) {
+        // 다른 스케줄러로 만든 상태면 기본값부터 시작
+        double ease = state.ease() != null ? state.ease() : INITIAL_EASE;
+        int repetitions = state.repetitions() != null ? state.repetitions() : 0;
+        int previousInterval = state.intervalDays() != null ? state.intervalDays() : 1;
+
+        int interval;
+        if (correct) {
+            interval = switch (repetitions) {
+                case 0 -> 1;
+                case 1 -> 6;
+                default -> (int) Math.round(previousInterval * ease);
+            };
+            repetitions++;
+        } else {
+            interval = 1;
+            repetitions = 0;
+        }
+        int quality = correct ? CORRECT_QUALITY : WRONG_QUALITY;
+        ease = Math.max(MIN_EASE, ease + 0.1 - (5 - quality) * (0.08 + (5 - quality) * 0.02));
+
+        return state.toBuilder()
+                .reviewOrder(state.reviewOrder() + 1)
+                .repetitions(repetitions)
+                .ease(ease)
+                .intervalDays(interval)
+                .dueDate(reviewedOn.plusDays(interval))
+                .lastReviewedDate(reviewedOn)
+                .build();
+    }
+}
@@ -1,33 +1,33 @@
 package com.ssafy.odab.domain.learning.service;
 
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.Map;
 import java.util.HashMap;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.ssafy.odab.domain.concept.entity.MajorConcept;
-import com.ssafy.odab.domain.concept.repository.MajorConceptRepository;
+import com.ssafy.odab.domain.concept.catalog.ConceptCatalog;
+import com.ssafy.odab.domain.concept.catalog.ConceptTaxonomy;
 import com.ssafy.odab.domain.learning.dto.ReviewPageResponseDto;
+import com.ssafy.odab.domain.learning.dto.ScheduledReviewDto;
 import com.ssafy.odab.domain.learning.repository.LastLearningDateRepository;
-import com.ssafy.odab.domain.question_result.repository.QuestionResultRepository;
 import com.ssafy.odab.domain.question.repository.QuestionRepository;
-import com.ssafy.odab.domain.question.entity.Question;
-import com.ssafy.odab.domain.question.entity.QuestionSolution;
 import com.ssafy.odab.domain.learning.controller.LearningController.ReviewQuestionDto;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class LearningServiceImpl implements LearningService {
 
-    private final QuestionResultRepository questionResultRepository;
+    private final ReviewScheduleService reviewScheduleService;
     private final LastLearningDateRepository lastLearningDateRepository;
-    private final MajorConceptRepository majorConceptRepository;
+    private final ConceptCatalog conceptCatalog;
     private final QuestionRepository questionRepository;
 
   @Override
@@ -35,39 +35,15 @@ public class LearningServiceImpl implements LearningService {
       //1. 오늘 날짜 가져오기.
         LocalDate today = LocalDate.now();
 
-      //오늘의 복습
-      //오늘로 부터 1일, 4일, 6일, 13일 전 최초로 학습하고 틀린린 문제들의 subConceptId, subConceptType 가져오기.
-      // subConceptType 별로 총 몇 문제가 있는지 반환.
-      //오늘, 내일복습 날짜 리스트
-        List<LocalDate> reviewDates = Arrays.asList(1, 4, 6, 13).stream().map(today::minusDays).collect(Collectors.toList());
-        List<LocalDate> scheduledDates = Arrays.asList(0, 2, 5, 12).stream().map(today::minusDays).collect(Collectors.toList());
-
+      //오늘의 복습: 복습일이 오늘이거나 최근에 지난 소개념 (복습일은 review.scheduler 가 정함)
         // 2. 오늘 복습 대상
-        List<Object[]> todayReviewRawList =
-            questionResultRepository.findReviewDtosByUserIdAndDatesWithFirstWrong(userId, reviewDates);
-        // 네이티브 쿼리 반환값(Object[])을 ReviewDto로 변환
-        List<ReviewPageResponseDto.ReviewDto> todayReviewList = todayReviewRawList.stream()
-            .map(arr -> new ReviewPageResponseDto.ReviewDto(
-                ((Number) arr[0]).intValue(),
-                (String) arr[1],
-                (arr[2] instanceof java.sql.Date) ? ((java.sql.Date) arr[2]).toLocalDate() : (LocalDate) arr[2]
-            ))
-            .collect(Collectors.toList());
+        List<ReviewPageResponseDto.ReviewDto> todayReviewList = toReviewDtos(
+            reviewScheduleService.findDueReviews(userId, today));
 
-      //내일의 복습
-      //오늘로 부터 0일, 3일, 5일, 12일 전 최초로 학습하고 틀린  문제들의 subConceptId, subConceptType 가져오기.
-      //subConceptType 별로 틀린문제 (복습 해야 할 문제) 총 몇 문제가 있는지 반환.
+      //내일의 복습: 복습일이 내일인 소개념
         // 3. 내일 복습 대상
-        List<Object[]> scheduledReviewRawList =
-            questionResultRepository.findReviewDtosByUserIdAndDatesWithFirstWrong(userId, scheduledDates);
-        // 네이티브 쿼리 반환값(Object[])을 ReviewDto로 변환
-        List<ReviewPageResponseDto.ReviewDto> scheduledReviewList = scheduledReviewRawList.stream()
-            .map(arr -> new ReviewPageResponseDto.ReviewDto(
-                ((Number) arr[0]).intValue(),
-                (String) arr[1],
-                (arr[2] instanceof java.sql.Date) ? ((java.sql.Date) arr[2]).toLocalDate() : (LocalDate) arr[2]
-            ))
-            .collect(Collectors.toList());
+        List<ReviewPageResponseDto.ReviewDto> scheduledReviewList = toReviewDtos(
+            reviewScheduleService.findReviewsDueOn(userId, today.plusDays(1)));
 
         // 4. 모든 sub_concept의 마지막 학습일
         List<Object[]> lastLearningRawList = lastLearningDateRepository.findAllSubConceptsWithLastLearningDate(userId);
@@ -79,17 +55,20 @@ public class LearningServiceImpl implements LearningService {
             ))
             .collect(Collectors.toList());
 
-        // 5. majorConcept별로 subConcept 묶기
-        List<MajorConcept> majorConcepts = majorConceptRepository.findAllWithSubConcepts();
-        List<ReviewPageResponseDto.MajorConceptDto> majorConceptDtoList = majorConcepts.stream()
+        // 5. majorConcept별로 subConcept 묶기 (개념 구조는 개념 카탈로그에서)
+        ConceptTaxonomy taxonomy = conceptCatalog.taxonomy();
+        Map<Integer, List<ReviewPageResponseDto.ReviewDto>> lastLearningByMajorConceptId = new HashMap<>();
+        for (ReviewPageResponseDto.ReviewDto dto : lastLearningList) {
+            ConceptTaxonomy.SubNode subConcept = taxonomy.subConcept(dto.getSubConceptId());
+            if (subConcept != null) {
+                lastLearningByMajorConceptId.computeIfAbsent(subConcept.majorConceptId(), id -> new ArrayList<>()).add(dto);
+            }
+        }
+        List<ReviewPageResponseDto.MajorConceptDto> majorConceptDtoList = taxonomy.majorConcepts().stream()
             .map(mc -> ReviewPageResponseDto.MajorConceptDto.builder()
-                .majorConceptId(mc.getId())
-                .majorConceptType(mc.getConceptType())
-                .subConceptList(
-                    lastLearningList.stream()
-                        .filter(dto -> mc.getSubConcepts().stream().anyMatch(sc -> sc.getId().equals(dto.getSubConceptId())))
-                        .collect(Collectors.toList())
-                )
+                .majorConceptId(mc.id())
+                .majorConceptType(mc.conceptType())
+                .subConceptList(lastLearningByMajorConceptId.getOrDefault(mc.id(), List.of()))
                 .build())
             .collect(Collectors.toList());
 
@@ -105,49 +84,44 @@ public class LearningServiceImpl implements LearningService {
 
     @Override
     public List<ReviewQuestionDto> getTodayReviewQuestionsBySubConcept(Integer subConceptId, Integer userId) {
-        LocalDate today = LocalDate.now();
-        List<LocalDate> reviewDates = Arrays.asList(1, 4, 6, 13).stream().map(today::minusDays).toList();
-        // 복습 주기에 해당하는 최초 오답 subConceptId별로 조회
-        List<Object[]> reviewRawList = questionResultRepository.findReviewDtosByUserIdAndDatesWithFirstWrong(userId, reviewDates);
-        // subConceptId로 필터링
-        List<Integer> targetQuestionIds = reviewRawList.stream()
-            .filter(arr -> ((Number) arr[0]).intValue() == subConceptId)
-            .map(arr -> ((Number) arr[3]).intValue()) // question_id가 3번째 인덱스에 있다고 가정
-            .toList();
+        // 복습일이 오늘이거나 최근에 지난 문제 중 해당 소개념 문제
+        List<Integer> targetQuestionIds =
+            reviewScheduleService.findDueQuestionIds(userId, LocalDate.now(), subConceptId);
         // 문제 + 풀이 정보 반환
         return getReviewQuestionDtosByQuestionIds(targetQuestionIds);
     }
 
     @Override
     public List<ReviewQuestionDto> getTomorrowReviewQuestionsBySubConcept(Integer subConceptId, Integer userId) {
-        LocalDate today = LocalDate.now();
-        List<LocalDate> reviewDates = Arrays.asList(0, 2, 5, 12).stream().map(today::minusDays).toList();
-        List<Object[]> reviewRawList = questionResultRepository.findReviewDtosByUserIdAndDatesWithFirstWrong(userId, reviewDates);
-        List<Integer> targetQuestionIds = reviewRawList.stream()
-            .filter(arr -> ((Number) arr[0]).intValue() == subConceptId)
-            .map(arr -> ((Number) arr[3]).intValue())
-            .toList();
+        List<Integer> targetQuestionIds =
+            reviewScheduleService.findQuestionIdsDueOn(userId, LocalDate.now().plusDays(1), subConceptId);
         return getReviewQuestionDtosByQuestionIds(targetQuestionIds);
     }
 
-    // questionId 리스트로 ReviewQuestionDto 리스트 반환
+    // 쿼리에서 소개념, 처음 틀린 날 단위로 묶여서 옴
+    private List<ReviewPageResponseDto.ReviewDto> toReviewDtos(List<ScheduledReviewDto> scheduledReviews) {
+        return scheduledReviews.stream()
+            .map(review -> new ReviewPageResponseDto.ReviewDto(
+                review.getSubConceptId(),
+                review.getSubConceptType(),
+                review.getFirstWrongDate()
+            ))
+            .collect(Collectors.toList());
+    }
+
+    // questionId 리스트로 ReviewQuestionDto 리스트 반환 (문제 + 풀이 한 번에 조회)
     private List<ReviewQuestionDto> getReviewQuestionDtosByQuestionIds(List<Integer> questionIds) {
         if (questionIds.isEmpty()) return List.of();
-        List<Question> questions = questionRepository.findAllWithQuestionConcepts().stream()
-            .filter(q -> questionIds.contains(q.getId()))
+        return questionRepository.findQuestionSolutionRowsByIdIn(questionIds).stream()
+            .map(row -> new ReviewQuestionDto(
+                row.getQuestionId(),
+                row.getQuestionImg(),
+                row.getQuestionText(),
+                row.getAnswer(),
+                row.getQuestionSolutionId(),
+                row.getSolutionContent(),
+                row.getStep()
+            ))
             .toList();
-        return questions.stream()
-            .flatMap(q -> q.getQuestionSolutions().stream()
-                .sorted((a, b) -> Byte.compare(a.getStep(), b.getStep()))
-                .map(sol -> new ReviewQuestionDto(
-                    q.getId(),
-                    q.getQuestionImg(),
-                    q.getQuestionText(),
-                    q.getAnswer(),
-                    sol.getId(),
-                    sol.getSolutionContent(),
-                    sol.getStep()
-                ))
-            ).toList();
     }
 }
@@ -0,0 +1,27 @@
+package com.ssafy.odab.domain.learning.service;
+
+import com.ssafy.odab.domain.learning.dto.ScheduledReviewDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReviewScheduleService {
+
+    /**
+     * 풀이 결과를 복습 상태에 반영함. 처음 틀리면 일정을 만들고, 복습일 이후에 다시 풀면 다음 복습일을 잡음.
+     * 복습일 전에 다시 푼 것은 연습으로 보고 반영하지 않음
+     */
+    void recordResult(Integer userId, Integer questionId, LocalDateTime solvedAt, Boolean isCorrect);
+
+    // 복습일이 date 이거나 review.schedule.overdue-days 안에 지난 소개념
+    List<ScheduledReviewDto> findDueReviews(Integer userId, LocalDate date);
+
+    // 복습일이 정확히 date 인 소개념
+    List<ScheduledReviewDto> findReviewsDueOn(Integer userId, LocalDate date);
+
+    // findDueReviews 와 같은 기간
+    List<Integer> findDueQuestionIds(Integer userId, LocalDate date, Integer subConceptId);
+
+    List<Integer> findQuestionIdsDueOn(Integer userId, LocalDate date, Integer subConceptId);
+}
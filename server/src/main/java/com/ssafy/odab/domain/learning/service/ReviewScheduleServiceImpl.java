@@ -0,0 +1,280 @@
+package com.ssafy.odab.domain.learning.service;
+
+import com.ssafy.odab.domain.concept.repository.QuestionConceptRepository;
+import com.ssafy.odab.domain.concept.repository.SubConceptRepository;
+import com.ssafy.odab.domain.learning.dto.ScheduledReviewDto;
+import com.ssafy.odab.domain.learning.entity.ReviewSchedule;
+import com.ssafy.odab.domain.learning.repository.ReviewScheduleRepository;
+import com.ssafy.odab.domain.learning.scheduler.ReviewScheduler;
+import com.ssafy.odab.domain.learning.scheduler.ReviewState;
+import com.ssafy.odab.domain.question.repository.QuestionRepository;
+import com.ssafy.odab.domain.question_result.entity.QuestionResultSavedEvent;
+import com.ssafy.odab.domain.question_result.repository.QuestionResultRepository;
+import com.ssafy.odab.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewScheduleServiceImpl implements ReviewScheduleService {
+    private static final Logger logger = LoggerFactory.getLogger(ReviewScheduleServiceImpl.class);
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    private static final String BACKFILL_LOCK = "review_schedule_backfill";
+
+    private final ReviewScheduler reviewScheduler;
+    private final ReviewScheduleRepository reviewScheduleRepository;
+    private final QuestionResultRepository questionResultRepository;
+    private final QuestionConceptRepository questionConceptRepository;
+    private final SubConceptRepository subConceptRepository;
+    private final QuestionRepository questionRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${review.schedule.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    // 오늘의 복습에 남겨두는 밀린 복습 기간 (일). 이보다 오래된 항목은 다시 풀 때까지 목록에서 빠짐
+    @Value("${review.schedule.overdue-days:7}")
+    private int overdueDays;
+
+    /**
+     * QuestionResult 가 커밋된 뒤 새 트랜잭션에서 갱신함. 읽기 모델이라 여기서 실패해도 풀이 저장은 되돌리지 않음.
+     * 같은 문제의 첫 오답이 동시에 들어와 unique key 에 걸리면, 먼저 만든 줄을 잠그고 한 번 더 반영함.
+     * 페이지 캐시 무효화(PageCacheServiceImpl)보다 먼저 실행해야 무효화 뒤에 예전 일정으로 캐시가 채워지지 않음
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onQuestionResultSaved(QuestionResultSavedEvent event) {
+        if (event.solvedAt() == null) {
+            return;
+        }
+        try {
+            try {
+                recordResultInNewTransaction(event);
+            } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+                recordResultInNewTransaction(event);
+            }
+        } catch (RuntimeException e) {
+            logger.error("복습 일정 갱신 실패 [user={}, question={}]", event.userId(), event.questionId(), e);
+        }
+    }
+
+    private void recordResultInNewTransaction(QuestionResultSavedEvent event) {
+        writeTransaction().executeWithoutResult(status ->
+                recordResult(event.userId(), event.questionId(), event.solvedAt(), event.isCorrect()));
+    }
+
+    @Override
+    @Transactional
+    public void recordResult(Integer userId, Integer questionId, LocalDateTime solvedAt, Boolean isCorrect) {
+        // 같은 문제의 줄은 모두 같은 상태이므로 첫 줄만 보면 됨. 이미 있으면 커밋할 때까지 잠겨서 동시 갱신이 사라지지 않음
+        List<ReviewSchedule> schedules = reviewScheduleRepository.findByUserIdAndQuestionId(userId, questionId);
+        ReviewState current = schedules.isEmpty() ? null : schedules.get(0).toState();
+        ReviewState next = nextState(current, isCorrect, solvedAt.toLocalDate());
+        if (next == null || next == current) {
+            return;
+        }
+        if (schedules.isEmpty()) {
+            reviewScheduleRepository.saveAll(newSchedules(userId, questionId,
+                    questionConceptRepository.findSubConceptIdsByQuestionId(questionId), next));
+        } else {
+            schedules.forEach(schedule -> schedule.changeState(next));
+        }
+    }
+
+    @Override
+    public List<ScheduledReviewDto> findDueReviews(Integer userId, LocalDate date) {
+        return reviewScheduleRepository.findDueReviews(userId, date.minusDays(overdueDays), date);
+    }
+
+    @Override
+    public List<ScheduledReviewDto> findReviewsDueOn(Integer userId, LocalDate date) {
+        return reviewScheduleRepository.findReviewsDueOn(userId, date);
+    }
+
+    @Override
+    public List<Integer> findDueQuestionIds(Integer userId, LocalDate date, Integer subConceptId) {
+        return reviewScheduleRepository.findDueQuestionIds(userId, date.minusDays(overdueDays), date, subConceptId);
+    }
+
+    @Override
+    public List<Integer> findQuestionIdsDueOn(Integer userId, LocalDate date, Integer subConceptId) {
+        return reviewScheduleRepository.findQuestionIdsDueOn(userId, date, subConceptId);
+    }
+
+    /**
+     * 테이블이 비어 있으면 (처음 배포, 스케줄러 변경 후 비운 경우) 풀이 기록을 처음부터 다시 적용해서 채움.
+     * 여러 서버가 같이 시작해도 named lock 을 잡은 한 곳에서만 채우고, 나머지는 건너뜀.
+     * 풀이 기록은 읽기 트랜잭션의 연결로 한 줄씩 읽고, 저장은 BACKFILL_BATCH_SIZE 건마다 새 트랜잭션에서 함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfEmpty() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            readTransaction().executeWithoutResult(status -> backfillWithLock());
+        } catch (RuntimeException e) {
+            logger.error("복습 일정 초기화 실패", e);
+        }
+    }
+
+    // 잠금, 확인, 읽기는 모두 읽기 트랜잭션의 한 연결에서 해야 함 (named lock 이 연결 단위)
+    private void backfillWithLock() {
+        if (!Long.valueOf(1).equals(reviewScheduleRepository.tryLock(BACKFILL_LOCK))) {
+            logger.info("다른 서버가 복습 일정을 초기화하고 있어 건너뜀");
+            return;
+        }
+        try {
+            // 잠금을 잡은 뒤에 확인해야 먼저 끝낸 서버의 결과 위에 다시 채우지 않음
+            if (reviewScheduleRepository.count() > 0) {
+                return;
+            }
+            try {
+                logger.info("복습 일정 초기화: {}건", backfill());
+            } catch (RuntimeException e) {
+                // 일부만 채운 채로 두면 다음 시작 때 비어 있지 않아 건너뛰므로 비워둠
+                writeTransaction().executeWithoutResult(status -> reviewScheduleRepository.deleteAllInBatch());
+                throw e;
+            }
+        } finally {
+            reviewScheduleRepository.releaseLock(BACKFILL_LOCK);
+        }
+    }
+
+    private int backfill() {
+        Map<Integer, List<Integer>> subConceptIdsByQuestionId = questionConceptRepository.findAllQuestionSubConceptIds().stream()
+                .collect(Collectors.groupingBy(row -> (Integer) row[0],
+                        Collectors.mapping(row -> (Integer) row[1], Collectors.toList())));
+        List<PendingSchedule> batch = new ArrayList<>();
+        int saved = 0;
+        Integer userId = null;
+        Integer questionId = null;
+        ReviewState state = null;
+        // 회원, 문제 순으로 정렬되어 오므로 (회원, 문제)가 바뀔 때마다 이전 문제의 최종 상태를 저장
+        try (Stream<Object[]> history = questionResultRepository.streamReviewHistory()) {
+            Iterator<Object[]> rows = history.iterator();
+            while (rows.hasNext()) {
+                Object[] row = rows.next();
+                if (!Objects.equals(row[0], userId) || !Objects.equals(row[1], questionId)) {
+                    saved += addSchedules(batch, userId, questionId, subConceptIdsByQuestionId, state);
+                    userId = (Integer) row[0];
+                    questionId = (Integer) row[1];
+                    state = null;
+                }
+                state = nextState(state, (Boolean) row[3], ((LocalDateTime) row[2]).toLocalDate());
+            }
+        }
+        saved += addSchedules(batch, userId, questionId, subConceptIdsByQuestionId, state);
+        saveBatch(batch);
+        return saved;
+    }
+
+    private int addSchedules(List<PendingSchedule> batch, Integer userId, Integer questionId,
+                             Map<Integer, List<Integer>> subConceptIdsByQuestionId, ReviewState state) {
+        if (state == null) {
+            return 0;
+        }
+        List<Integer> subConceptIds = subConceptIdsByQuestionId.getOrDefault(questionId, List.of());
+        batch.add(new PendingSchedule(userId, questionId, subConceptIds, state));
+        if (batch.size() >= BACKFILL_BATCH_SIZE) {
+            saveBatch(batch);
+        }
+        return subConceptIds.size();
+    }
+
+    // 읽는 연결은 스트리밍 중이라 쓸 수 없으므로 새 트랜잭션(다른 연결)에서 저장하고 끝나면 영속성 컨텍스트를 비움
+    private void saveBatch(List<PendingSchedule> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<PendingSchedule> items = List.copyOf(batch);
+        batch.clear();
+        try {
+            writeTransaction().executeWithoutResult(status -> saveSchedules(items, false));
+        } catch (DataIntegrityViolationException e) {
+            // 초기화 도중 들어온 풀이로 이미 생긴 항목이 있음. 그 항목은 최신 풀이까지 반영했으므로 건너뜀
+            writeTransaction().executeWithoutResult(status -> saveSchedules(items, true));
+        }
+    }
+
+    private void saveSchedules(List<PendingSchedule> items, boolean skipExisting) {
+        List<ReviewSchedule> schedules = items.stream()
+                .filter(item -> !skipExisting
+                        || reviewScheduleRepository.findByUserIdAndQuestionId(item.userId(), item.questionId()).isEmpty())
+                .flatMap(item -> newSchedules(item.userId(), item.questionId(), item.subConceptIds(), item.state()).stream())
+                .toList();
+        reviewScheduleRepository.saveAll(schedules);
+        reviewScheduleRepository.flush();
+        entityManager.clear();
+    }
+
+    private TransactionTemplate readTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private TransactionTemplate writeTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    // 아직 일정이 없으면 처음 틀렸을 때 시작, 있으면 복습일 이후의 풀이만 반영
+    private ReviewState nextState(ReviewState state, Boolean isCorrect, LocalDate solvedOn) {
+        if (state == null) {
+            return Boolean.FALSE.equals(isCorrect) ? reviewScheduler.start(solvedOn) : null;
+        }
+        if (isCorrect == null || state.dueDate() == null || solvedOn.isBefore(state.dueDate())) {
+            return state;
+        }
+        return reviewScheduler.review(state, isCorrect, solvedOn);
+    }
+
+    private List<ReviewSchedule> newSchedules(Integer userId, Integer questionId, List<Integer> subConceptIds,
+                                              ReviewState state) {
+        return subConceptIds.stream()
+                .map(subConceptId -> ReviewSchedule.of(
+                        userRepository.getReferenceById(userId),
+                        questionRepository.getReferenceById(questionId),
+                        subConceptRepository.getReferenceById(subConceptId),
+                        state))
+                .toList();
+    }
+
+    // 초기화 중 (회원, 문제) 하나의 최종 상태
+    private record PendingSchedule(Integer userId, Integer questionId, List<Integer> subConceptIds, ReviewState state) {
+    }
+}
@@ -1,8 +1,9 @@
 package com.ssafy.odab.domain.main.controller;
 
-import com.ssafy.odab.domain.main.dto.MainPageResponseDto;
+import com.ssafy.odab.common.service.PageCacheService;
 import com.ssafy.odab.domain.main.service.MainService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,17 +16,17 @@ import com.ssafy.odab.domain.user.service.JwtService;
 public class MainController {
     private final MainService mainService;
     private final JwtService jwtService;
+    private final PageCacheService pageCacheService;
+
     @GetMapping
-    public ResponseEntity<?> getMainPage() {
-        
-        // Integer userId = 1; // TODO: 실제 로그인 유저로 교체
-        Integer userId = jwtService.getUserId(); // 만드는중.
-        System.out.println("userId = " + userId);
-        MainPageResponseDto data = mainService.getMainPage(userId);
-        System.out.println("하이");
-        return ResponseEntity.ok(
-                new ApiResponse<>(200, "성공적으로 조회되었습니다.", data)
-        );
+    public ResponseEntity<byte[]> getMainPage() {
+        Integer userId = jwtService.getUserId();
+        // 풀이가 저장되거나 날짜가 바뀌기 전까지는 캐시된 응답을 그대로 내려줌
+        byte[] body = pageCacheService.getOrLoad("main", userId,
+                () -> new ApiResponse<>(200, "성공적으로 조회되었습니다.", mainService.getMainPage(userId)));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     // 공통 응답 형식
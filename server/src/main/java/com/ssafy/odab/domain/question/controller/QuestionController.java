@@ -10,6 +10,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,23 +21,25 @@ public class QuestionController {
     private final JwtService jwtService;
 
     @PatchMapping("{questionId}/answer")
-    public ResponseEntity<VerifyAnswerResponseDto> verifyAnswer(
+    public Mono<ResponseEntity<VerifyAnswerResponseDto>> verifyAnswer(
             @PathVariable("questionId") Integer questionId, @RequestBody VerifyAnswerRequestDto verifyAnswerRequestDto) {
         Integer userId = jwtService.getUserIdFromRequest();
-        Boolean isCorrect = questionService.verifyAnswer(verifyAnswerRequestDto, questionId, userId);
-        String message = isCorrect ? "정답입니다." : "오답입니다.";
-        System.out.println(isCorrect);
-        VerifyAnswerResponseDto verifyAnswerResponseDto = VerifyAnswerResponseDto.builder()
-                .correct(isCorrect)
-                .message(message)
-                .build();
-        return ResponseEntity.ok(verifyAnswerResponseDto);
+        return questionService.verifyAnswer(verifyAnswerRequestDto, questionId, userId)
+                .map(isCorrect -> {
+                    String message = isCorrect ? "정답입니다." : "오답입니다.";
+                    VerifyAnswerResponseDto verifyAnswerResponseDto = VerifyAnswerResponseDto.builder()
+                            .correct(isCorrect)
+                            .message(message)
+                            .build();
+                    return ResponseEntity.ok(verifyAnswerResponseDto);
+                });
     }
 
     @PostMapping("{questionId}/text")
-    public ResponseEntity<String> isCorrectText(@PathVariable("questionId") Integer questionId, @RequestBody VerifyAnswerRequestDto verifyAnswerRequestDto) {
+    public Mono<ResponseEntity<String>> isCorrectText(@PathVariable("questionId") Integer questionId, @RequestBody VerifyAnswerRequestDto verifyAnswerRequestDto) {
         Integer userId = jwtService.getUserIdFromRequest();
-        return ResponseEntity.ok(questionService.isCorrectText(questionId, userId, verifyAnswerRequestDto));
+        return questionService.isCorrectText(questionId, userId, verifyAnswerRequestDto)
+                .map(ResponseEntity::ok);
     }
 
     @GetMapping("/{questionId}/retry")
@@ -46,8 +49,8 @@ public class QuestionController {
 
     //개념선택 - 수학개념 목록 조회
     @GetMapping("/concept")
-    public ResponseEntity<ConceptResponseDto> findConceptList() {
-        return ResponseEntity.ok(questionService.findConceptList());
+    public ResponseEntity<byte[]> findConceptList() {
+        return questionService.findConceptList().toResponseEntity();
     }
 
     @GetMapping("/{subConceptId}/related")
@@ -21,6 +21,7 @@ public class ConceptQuestionResponseDto { //개념별 문제 리스트 조회 DT
     @AllArgsConstructor
     public static class Data {
         private List<QuestionWithSolutionDto> questionList;
+        private boolean hasNext;
     }
 
     @Getter
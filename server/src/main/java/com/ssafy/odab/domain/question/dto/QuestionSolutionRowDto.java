@@ -0,0 +1,19 @@
+package com.ssafy.odab.domain.question.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 문제 + 풀이 한 단계 조회 결과 (엔티티를 만들지 않고 필요한 컬럼만)
+ */
+@Getter
+@AllArgsConstructor
+public class QuestionSolutionRowDto {
+    private Integer questionId;
+    private String questionImg;
+    private String questionText;
+    private String answer;
+    private Integer questionSolutionId;
+    private String solutionContent;
+    private Byte step;
+}
@@ -11,5 +11,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class VerifyAnswerRequestDto {
     private String answerImg;
+    // /api/v1/upload/presign 으로 직접 올린 풀이 이미지 key (answerImg 대신 사용)
+    private String answerImgKey;
     private String answerText;
 }
@@ -19,7 +19,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "question")
+@Table(name = "question", indexes = {
+        // 오답노트 cursor 페이지네이션 (user_id, registed_at desc, question_id desc)
+        @Index(name = "idx_question_user_registed", columnList = "user_id, registed_at, question_id")
+})
+@EntityListeners(QuestionEntityListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,27 @@
+package com.ssafy.odab.domain.question.entity;
+
+import com.ssafy.odab.domain.question.grading.AnswerVerdictCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 문제가 수정되거나 삭제되면 해당 문제의 채점 결과 캐시를 지움.
+ * Hibernate 가 Spring 빈으로 생성하므로 의존성은 ObjectProvider 로 늦게 가져옴.
+ */
+@Component
+public class QuestionEntityListener {
+
+    private final ObjectProvider<AnswerVerdictCache> answerVerdictCache;
+
+    public QuestionEntityListener(ObjectProvider<AnswerVerdictCache> answerVerdictCache) {
+        this.answerVerdictCache = answerVerdictCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Question question) {
+        answerVerdictCache.getObject().evict(question.getId());
+    }
+}
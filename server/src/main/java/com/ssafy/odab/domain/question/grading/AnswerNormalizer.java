@@ -0,0 +1,111 @@
+package com.ssafy.odab.domain.question.grading;
+
+import java.text.Normalizer;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 답안 문자열을 비교하기 좋은 형태로 바꿔줌.
+ * 표기만 통일하고 수식의 형태는 바꾸지 않음 (2/4 를 1/2 로 약분하거나 x+x 를 2x 로 바꾸지 않음).
+ * 채점 기준이 "수학적으로 같아도 형태가 다르면 오답" 이기 때문.
+ */
+public final class AnswerNormalizer {
+
+    private static final String SUPERSCRIPTS = "⁰¹²³⁴⁵⁶⁷⁸⁹";
+    private static final Map<Character, String> SYMBOLS = Map.ofEntries(
+            Map.entry('×', "*"), Map.entry('·', "*"), Map.entry('∙', "*"), Map.entry('⋅', "*"),
+            Map.entry('÷', "/"), Map.entry('⁄', "/"), Map.entry('∕', "/"),
+            Map.entry('−', "-"), Map.entry('–', "-"), Map.entry('—', "-"), Map.entry('‐', "-"),
+            Map.entry('＝', "="), Map.entry('≦', "≤"), Map.entry('≧', "≥"));
+    private static final Map<String, String> LATEX_COMMANDS = Map.ofEntries(
+            Map.entry("\\times", "*"), Map.entry("\\cdot", "*"), Map.entry("\\div", "/"),
+            Map.entry("\\le", "≤"), Map.entry("\\leq", "≤"), Map.entry("\\ge", "≥"), Map.entry("\\geq", "≥"),
+            Map.entry("\\pi", "π"), Map.entry("\\left", ""), Map.entry("\\right", ""));
+
+    private static final Pattern LATEX_FRAC = Pattern.compile("\\\\d?frac\\{([^{}]*)\\}\\{([^{}]*)\\}");
+    private static final Pattern LATEX_SQRT = Pattern.compile("\\\\sqrt\\{([^{}]*)\\}");
+    private static final Pattern LATEX_COMMAND = Pattern.compile("\\\\[a-zA-Z]+");
+    private static final Pattern ANSWER_PREFIX = Pattern.compile("^(정답|답|answer)\\s*[:：]\\s*", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern SIMPLE_TERM = Pattern.compile("[\\p{L}\\p{N}.π]+");
+
+    private AnswerNormalizer() {
+    }
+
+    /**
+     * null 이면 빈 문자열을 반환함
+     */
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        String text = replaceSuperscripts(raw.strip());
+        // 전각 문자, ½ 같은 분수 문자 등을 기본 형태로 (½ -> 1⁄2)
+        text = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        text = ANSWER_PREFIX.matcher(text).replaceFirst("");
+        text = replaceLatex(text);
+
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String symbol = SYMBOLS.get(c);
+            sb.append(symbol != null ? symbol : String.valueOf(c));
+        }
+        text = WHITESPACE.matcher(sb).replaceAll("");
+        text = text.replace("**", "^");
+        while (text.endsWith(".") || text.endsWith("。")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        return text;
+    }
+
+    // x² -> x^2, x¹⁰ -> x^10 (NFKC 를 먼저 하면 x2 가 되어버림)
+    private static String replaceSuperscripts(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean inSuperscript = false;
+        for (int i = 0; i < text.length(); i++) {
+            int digit = SUPERSCRIPTS.indexOf(text.charAt(i));
+            if (digit >= 0) {
+                if (!inSuperscript) {
+                    sb.append('^');
+                    inSuperscript = true;
+                }
+                sb.append(digit);
+            } else {
+                inSuperscript = false;
+                sb.append(text.charAt(i));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String replaceLatex(String text) {
+        if (text.indexOf('\\') < 0 && text.indexOf('$') < 0) {
+            return text;
+        }
+        text = text.replace("$", "");
+        text = replaceAll(LATEX_FRAC, text, m -> group(m.group(1)) + "/" + group(m.group(2)));
+        text = replaceAll(LATEX_SQRT, text, m -> "√" + group(m.group(1)));
+        text = replaceAll(LATEX_COMMAND, text, m -> LATEX_COMMANDS.getOrDefault(m.group(), m.group()));
+        return text.replace("{", "(").replace("}", ")");
+    }
+
+    // 분자/분모가 단순한 항이면 괄호 없이, 아니면 괄호로 묶음 (\frac{1}{2} -> 1/2, \frac{x+1}{2} -> (x+1)/2)
+    private static String group(String term) {
+        String stripped = WHITESPACE.matcher(term).replaceAll("");
+        return SIMPLE_TERM.matcher(stripped).matches() ? stripped : "(" + stripped + ")";
+    }
+
+    private static String replaceAll(Pattern pattern, String text, Function<MatchResult, String> replacer) {
+        // 중첩된 \frac 은 안쪽부터 한 단계씩 풀림
+        String previous;
+        do {
+            previous = text;
+            text = pattern.matcher(text).replaceAll(m -> Matcher.quoteReplacement(replacer.apply(m)));
+        } while (!text.equals(previous));
+        return text;
+    }
+}
@@ -0,0 +1,116 @@
+package com.ssafy.odab.domain.question.grading;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Claude 채점 결과 캐시. 서버 메모리(Caffeine) -> Redis 순서로 찾음.
+ * Redis 에는 문제별 hash(grading:verdict:{questionId}) 로, 서버 메모리에도 문제별 Map 으로 저장해서 문제 단위로 한 번에 지울 수 있게 함.
+ * field 는 정규화한 정답 + 학생 답안의 SHA-256 이므로, 정답이 바뀌면 이전 결과는 자연히 사용되지 않음.
+ * Redis 장애시에는 캐시 없이 동작함 (블로킹)
+ */
+@Component
+public class AnswerVerdictCache {
+    private static final Logger logger = LoggerFactory.getLogger(AnswerVerdictCache.class);
+    private static final String KEY_PREFIX = "grading:verdict:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    // questionId -> (field -> 판정). 크기는 판정 수로 셈
+    private final Cache<Integer, Map<String, Boolean>> localVerdicts;
+    private final Duration ttl;
+
+    public AnswerVerdictCache(StringRedisTemplate stringRedisTemplate,
+                              @Value("${grading.verdict-cache.local-size:10000}") long localSize,
+                              @Value("${grading.verdict-cache.ttl-minutes:1440}") long ttlMinutes) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.localVerdicts = Caffeine.newBuilder()
+                .maximumWeight(localSize)
+                .weigher((Integer questionId, Map<String, Boolean> verdicts) -> verdicts.size())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 정규화된 정답과 학생 답안으로 만든 캐시 field
+     */
+    public static String field(String normalizedExpected, String normalizedSubmitted) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(normalizedExpected.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalizedSubmitted.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 저장된 판정이 없으면 null
+     */
+    public Boolean get(Integer questionId, String field) {
+        Map<String, Boolean> verdicts = localVerdicts.getIfPresent(questionId);
+        Boolean verdict = verdicts == null ? null : verdicts.get(field);
+        if (verdict != null) {
+            return verdict;
+        }
+        try {
+            Object stored = stringRedisTemplate.opsForHash().get(KEY_PREFIX + questionId, field);
+            if (stored == null) {
+                return null;
+            }
+            verdict = "1".equals(stored);
+            putLocal(questionId, field, verdict);
+            return verdict;
+        } catch (RuntimeException e) {
+            logger.warn("채점 캐시 조회 실패 [{}]: {}", questionId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void put(Integer questionId, String field, boolean verdict) {
+        putLocal(questionId, field, verdict);
+        try {
+            String key = KEY_PREFIX + questionId;
+            stringRedisTemplate.opsForHash().put(key, field, verdict ? "1" : "0");
+            stringRedisTemplate.expire(key, ttl);
+        } catch (RuntimeException e) {
+            logger.warn("채점 캐시 저장 실패 [{}]: {}", questionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 문제의 정답이 바뀌거나 문제가 삭제되면 호출
+     */
+    public void evict(Integer questionId) {
+        localVerdicts.invalidate(questionId);
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + questionId);
+        } catch (RuntimeException e) {
+            logger.warn("채점 캐시 삭제 실패 [{}]: {}", questionId, e.getMessage());
+        }
+    }
+
+    // 새 Map 으로 바꿔 넣어야 weigher 가 늘어난 판정 수로 다시 계산함
+    private void putLocal(Integer questionId, String field, boolean verdict) {
+        localVerdicts.asMap().merge(questionId, Map.of(field, verdict), (current, added) -> {
+            Map<String, Boolean> merged = new HashMap<>(current);
+            merged.putAll(added);
+            return merged;
+        });
+    }
+}
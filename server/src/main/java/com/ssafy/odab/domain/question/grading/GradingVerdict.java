@@ -0,0 +1,10 @@
+package com.ssafy.odab.domain.question.grading;
+
+/**
+ * 로컬 채점 결과. AMBIGUOUS 인 경우에만 Claude 에게 채점을 맡김
+ */
+public enum GradingVerdict {
+    CORRECT,
+    INCORRECT,
+    AMBIGUOUS
+}
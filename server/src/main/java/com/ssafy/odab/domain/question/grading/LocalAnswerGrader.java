@@ -0,0 +1,66 @@
+package com.ssafy.odab.domain.question.grading;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.regex.Pattern;
+
+/**
+ * Claude 를 부르기 전에 서버에서 바로 판정할 수 있는 답안을 걸러냄.
+ * 확실한 경우만 판정하고 나머지는 AMBIGUOUS 로 넘김
+ * - 표기를 통일한 뒤 같으면 정답
+ * - 답안이 비어있으면 오답
+ * - 둘 다 숫자(정수, 소수, a/b)인데 값이 다르면 오답. 값이 같고 형태만 다르면 (1/2 와 2/4) AMBIGUOUS
+ */
+@Component
+public class LocalAnswerGrader {
+
+    private static final Pattern NUMBER = Pattern.compile("[+-]?\\d+(\\.\\d+)?");
+    private static final Pattern FRACTION = Pattern.compile("[+-]?\\d+/\\d+");
+
+    public GradingVerdict grade(String expected, String submitted) {
+        String normalizedExpected = AnswerNormalizer.normalize(expected);
+        String normalizedSubmitted = AnswerNormalizer.normalize(submitted);
+        return gradeNormalized(normalizedExpected, normalizedSubmitted);
+    }
+
+    /**
+     * 이미 AnswerNormalizer 를 거친 문자열끼리 비교함
+     */
+    public GradingVerdict gradeNormalized(String expected, String submitted) {
+        if (expected.isEmpty()) {
+            // 정답이 등록되지 않은 문제는 판단할 수 없음
+            return GradingVerdict.AMBIGUOUS;
+        }
+        if (submitted.isEmpty()) {
+            return GradingVerdict.INCORRECT;
+        }
+        if (expected.equals(submitted)) {
+            return GradingVerdict.CORRECT;
+        }
+        BigDecimal expectedValue = numericValue(expected);
+        BigDecimal submittedValue = numericValue(submitted);
+        if (expectedValue != null && submittedValue != null && expectedValue.compareTo(submittedValue) != 0) {
+            return GradingVerdict.INCORRECT;
+        }
+        return GradingVerdict.AMBIGUOUS;
+    }
+
+    // 숫자 하나로 된 답안이면 값을, 아니면 null. 분수는 소수 20자리까지 계산 (애매하면 같은 값으로 보고 Claude 에게 넘어감)
+    private BigDecimal numericValue(String text) {
+        if (NUMBER.matcher(text).matches()) {
+            return new BigDecimal(text);
+        }
+        if (FRACTION.matcher(text).matches()) {
+            int slash = text.indexOf('/');
+            BigDecimal denominator = new BigDecimal(text.substring(slash + 1));
+            if (denominator.signum() == 0) {
+                return null;
+            }
+            return new BigDecimal(text.substring(0, slash))
+                    .divide(denominator, 20, RoundingMode.HALF_EVEN);
+        }
+        return null;
+    }
+}
@@ -1,11 +1,14 @@
 package com.ssafy.odab.domain.question.repository;
 
+import com.ssafy.odab.domain.question.dto.QuestionSolutionRowDto;
 import com.ssafy.odab.domain.question.entity.Question;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,9 +19,20 @@ public interface QuestionRepository extends JpaRepository<Question, Integer> {
             countQuery = "select count(q) from Question q join q.questionConcepts qc where qc.subConcept.id = :subConceptId")
     Page<Question> findSubConceptRelatedQuestionBySubConceptId(@Param("subConceptId") Integer subConceptId, Pageable pageable);
 
-    //개념별 문제 조회 
-    @Query("SELECT DISTINCT q FROM Question q LEFT JOIN FETCH q.questionConcepts qc LEFT JOIN FETCH qc.subConcept LEFT JOIN FETCH q.questionSolutions qs")
-    List<Question> findAllWithQuestionConcepts();
+    //개념별 문제 id 조회 (최신 문제부터)
+    @Query("SELECT qc.question.id FROM QuestionConcept qc WHERE qc.subConcept.id = :subConceptId ORDER BY qc.question.id DESC")
+    Slice<Integer> findQuestionIdsBySubConceptId(@Param("subConceptId") Integer subConceptId, Pageable pageable);
+
+    // 문제 + 풀이를 한 번의 조회로 가져옴. 풀이가 없는 문제는 빠짐
+    @Query("SELECT new com.ssafy.odab.domain.question.dto.QuestionSolutionRowDto("
+            + " q.id, q.questionImg, q.questionText, q.answer, qs.id, qs.solutionContent, qs.step)"
+            + " FROM QuestionSolution qs JOIN qs.question q"
+            + " WHERE q.id IN :ids ORDER BY q.id DESC, qs.step ASC")
+    List<QuestionSolutionRowDto> findQuestionSolutionRowsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 본인이 등록한 문제만 조회
+    @Query("SELECT q FROM Question q WHERE q.id = :id AND q.user.id = :userId")
+    Optional<Question> findByIdAndUserId(@Param("id") Integer id, @Param("userId") Integer userId);
 
     @Query("SELECT q FROM Question q LEFT JOIN FETCH q.questionSolutions WHERE q.id = :id")
     Optional<Question> findByIdWithSolutions(@Param("id") Integer id);
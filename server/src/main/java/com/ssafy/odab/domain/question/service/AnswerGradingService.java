@@ -0,0 +1,13 @@
+package com.ssafy.odab.domain.question.service;
+
+import com.ssafy.odab.domain.question.entity.Question;
+import reactor.core.publisher.Mono;
+
+public interface AnswerGradingService {
+
+    /**
+     * 학생 답안이 문제의 정답과 일치하는지 판정함.
+     * 서버에서 판정할 수 있으면 바로 반환하고, 애매한 경우에만 Claude 에게 맡김
+     */
+    Mono<Boolean> grade(Question question, String answerText, Integer userId);
+}
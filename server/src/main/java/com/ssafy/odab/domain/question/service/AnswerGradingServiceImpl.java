@@ -0,0 +1,52 @@
+package com.ssafy.odab.domain.question.service;
+
+import com.ssafy.odab.domain.question.entity.Question;
+import com.ssafy.odab.domain.question.grading.AnswerNormalizer;
+import com.ssafy.odab.domain.question.grading.AnswerVerdictCache;
+import com.ssafy.odab.domain.question.grading.GradingVerdict;
+import com.ssafy.odab.domain.question.grading.LocalAnswerGrader;
+import com.ssafy.odab.mcpLLM.service.ClaudeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerGradingServiceImpl implements AnswerGradingService {
+
+    private final LocalAnswerGrader localAnswerGrader;
+    private final AnswerVerdictCache answerVerdictCache;
+    private final ClaudeService claudeService;
+
+    /**
+     * 로컬 채점 -> 캐시된 Claude 채점 결과 -> Claude 순서로 판정함.
+     * Claude 호출이 실패하면 오답으로 처리하되 캐시에는 남기지 않음
+     */
+    @Override
+    public Mono<Boolean> grade(Question question, String answerText, Integer userId) {
+        String expected = AnswerNormalizer.normalize(question.getAnswer());
+        String submitted = AnswerNormalizer.normalize(answerText);
+        GradingVerdict verdict = localAnswerGrader.gradeNormalized(expected, submitted);
+        log.debug("로컬 채점 결과 - 문제 ID: {}, 판정: {}", question.getId(), verdict);
+        if (verdict != GradingVerdict.AMBIGUOUS) {
+            return Mono.just(verdict == GradingVerdict.CORRECT);
+        }
+
+        Integer questionId = question.getId();
+        String field = AnswerVerdictCache.field(expected, submitted);
+        return Mono.fromCallable(() -> answerVerdictCache.get(questionId, field))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(cached -> log.debug("채점 캐시 사용 - 문제 ID: {}", questionId))
+                .switchIfEmpty(Mono.defer(() -> claudeService
+                        .gradeAnswer(question.getAnswer(), question.getQuestionText(), answerText, userId)
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(isCorrect -> answerVerdictCache.put(questionId, field, isCorrect))))
+                .onErrorResume(e -> {
+                    log.warn("정답 확인 중 오류 발생 - 문제 ID: {}, {}", questionId, e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+}
@@ -1,19 +1,20 @@
 package com.ssafy.odab.domain.question.service;
 
-import com.ssafy.odab.domain.question.dto.ConceptResponseDto;
+import com.ssafy.odab.domain.concept.catalog.CachedJson;
 import com.ssafy.odab.domain.question.dto.RetryQuestionResponseDto;
 import com.ssafy.odab.domain.question.dto.SubConceptRelatedQuestionResponseDto;
 import com.ssafy.odab.domain.question.dto.VerifyAnswerRequestDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
 
 public interface QuestionService {
 
-  Boolean verifyAnswer(VerifyAnswerRequestDto verifyAnswerRequestDto, Integer questionId, Integer userId);
+  Mono<Boolean> verifyAnswer(VerifyAnswerRequestDto verifyAnswerRequestDto, Integer questionId, Integer userId);
   RetryQuestionResponseDto findRetryQuestionByQuestionId(Integer questionId);
-  ConceptResponseDto findConceptList(); //개념선택 - 수학개념선택
+  CachedJson findConceptList(); //개념선택 - 수학개념선택 (ETag 포함 JSON)
 
   Page<SubConceptRelatedQuestionResponseDto> findSubConceptRelatedQuestionBySubConceptId(Integer subConceptId, Pageable pageable);
 
-  String isCorrectText(Integer questionId, Integer userId, VerifyAnswerRequestDto verifyAnswerRequestDto);
+  Mono<String> isCorrectText(Integer questionId, Integer userId, VerifyAnswerRequestDto verifyAnswerRequestDto);
 }
@@ -1,6 +1,9 @@
 package com.ssafy.odab.domain.question.service;
 
+import com.ssafy.odab.common.service.PresignedUploadService;
 import com.ssafy.odab.common.service.S3Service;
+import com.ssafy.odab.domain.concept.catalog.CachedJson;
+import com.ssafy.odab.domain.concept.catalog.ConceptCatalog;
 import com.ssafy.odab.domain.concept.entity.SubConcept;
 import com.ssafy.odab.domain.concept.repository.SubConceptRepository;
 import com.ssafy.odab.domain.question.dto.ConceptResponseDto;
@@ -11,19 +14,20 @@ import com.ssafy.odab.domain.question.dto.SubConceptRelatedQuestionResponseDto;
 import com.ssafy.odab.domain.question.dto.VerifyAnswerRequestDto;
 import com.ssafy.odab.domain.question.entity.Question;
 import com.ssafy.odab.domain.question.repository.QuestionRepository;
-import com.ssafy.odab.domain.question_result.entity.QuestionResult;
 import com.ssafy.odab.domain.question_result.repository.QuestionResultRepository;
-import com.ssafy.odab.domain.user.entity.User;
+import com.ssafy.odab.domain.question_result.service.QuestionResultService;
 import com.ssafy.odab.domain.user.repository.UserRepository;
 import com.ssafy.odab.mcpLLM.service.ClaudeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -36,43 +40,48 @@ public class QuestionServiceImpl implements QuestionService {
     private final QuestionRepository questionRepository;
     private final QuestionResultRepository questionResultRepository;
     private final SubConceptRepository subConceptRepository;
+    private final ConceptCatalog conceptCatalog;
     private final UserRepository userRepository;
     private final ClaudeService claudeService;
+    private final AnswerGradingService answerGradingService;
+    private final QuestionResultService questionResultService;
+    private final Scheduler jpaScheduler;
     private final S3Service s3Service;
+    private final PresignedUploadService presignedUploadService;
 
+    /**
+     * 채점이 끝나면 결과를 저장함. 풀이 이미지는 URL 만 먼저 받고 S3 업로드는 백그라운드에서 진행함.
+     * 블로킹 작업은 jpaScheduler(DB) 에서 실행하므로 요청 스레드를 막지 않음.
+     */
     @Override
-    @Transactional
-    public Boolean verifyAnswer(VerifyAnswerRequestDto verifyAnswerRequestDto, Integer questionId, Integer userId) {
-
+    public Mono<Boolean> verifyAnswer(VerifyAnswerRequestDto verifyAnswerRequestDto, Integer questionId, Integer userId) {
         String dirName = "product";
-        String s3Url = s3Service.uploadBase64File(verifyAnswerRequestDto.getAnswerImg(), dirName);
-        // 문제에서 정답 여부 확인
-        Question question = questionRepository.findById(questionId).orElseThrow(() -> new IllegalArgumentException("문제를 찾을 수 없습니다."));
-        User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
-        // 정답결과 테이블에서 회원의 문제 조회
-        Pageable pageable = PageRequest.of(0, 1);
+        // 직접 올린 이미지는 확인만 하고, base64 는 디코딩, hash 계산만 하므로 금방 끝남
+        String answerImgKey = verifyAnswerRequestDto.getAnswerImgKey();
+        Mono<String> upload = Mono.fromCallable(() -> answerImgKey != null
+                        ? presignedUploadService.confirmedUrl(userId, answerImgKey)
+                        : s3Service.uploadBase64FileAsync(verifyAnswerRequestDto.getAnswerImg(), dirName))
+                .subscribeOn(Schedulers.boundedElastic());
+        // 문제 조회 후 정답 비교 (서버에서 판정할 수 없는 경우에만 claude 사용)
+        Mono<Boolean> grading = Mono.fromCallable(() -> findQuestionForGrading(questionId, userId))
+                .subscribeOn(jpaScheduler)
+                .flatMap(question -> answerGradingService.grade(question, verifyAnswerRequestDto.getAnswerText(), userId));
 
-        List<QuestionResult> questionResults = questionResultRepository.findByQuestionIdAndUserId(question.getId(), userId, pageable);
-        QuestionResult questionResult = null;
-        if (!questionResults.isEmpty()) {
-            questionResult = questionResults.get(0);
-        }
-        // claude에 정답 비교
-        Boolean isCorrect = claudeService.isCorrectAnswer(question.getAnswer(), question.getQuestionText(), verifyAnswerRequestDto.getAnswerText(), userId).block();;
+        // 정답 여부와 관계없이 풀이 기록을 새로 저장
+        return Mono.zip(upload, grading)
+                .publishOn(jpaScheduler)
+                .map(result -> {
+                    questionResultService.saveResult(questionId, userId, result.getT1(), result.getT2());
+                    return result.getT2();
+                });
+    }
 
-        // 정답이 맞으면 풀이일자 수정, 정답여부 true
-        // 정답이 틀리면 풀이일자 수정, 정답여부 false
-        //정답 테이블을 새롭게 생성
-        QuestionResult newQuestionResult = QuestionResult.builder()
-                .user(user)
-                .times(questionResult == null ? 1 : questionResult.getTimes() + 1)
-                .solvedAt(LocalDateTime.now())
-                .solutionImage(s3Url)
-                .question(question)
-                .isCorrect(isCorrect)
-                .build();
-        questionResultRepository.save(newQuestionResult);
-        return isCorrect;
+    private Question findQuestionForGrading(Integer questionId, Integer userId) {
+        Question question = questionRepository.findById(questionId).orElseThrow(() -> new IllegalArgumentException("문제를 찾을 수 없습니다."));
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("회원을 찾을 수 없습니다.");
+        }
+        return question;
     }
 
     @Override
@@ -102,24 +111,27 @@ public class QuestionServiceImpl implements QuestionService {
         return questions.map(SubConceptRelatedQuestionResponseDto::from);
     }
 
+    /**
+     * 풀이 이미지를 텍스트로 바꿈. S3 읽기, base64 디코딩은 boundedElastic 에서 하고 Claude 응답은 기다리지 않고 넘김
+     */
     @Override
-    @Transactional
-    public String isCorrectText(Integer questionId, Integer userId, VerifyAnswerRequestDto verifyAnswerRequestDto) {
-        return claudeService.extractTextByAnswer(verifyAnswerRequestDto.getAnswerImg()).block();
+    public Mono<String> isCorrectText(Integer questionId, Integer userId, VerifyAnswerRequestDto verifyAnswerRequestDto) {
+        String answerImgKey = verifyAnswerRequestDto.getAnswerImgKey();
+        return Mono.fromCallable(() -> answerImgKey != null
+                        ? presignedUploadService.read(userId, answerImgKey)
+                        : Base64.getDecoder().decode(verifyAnswerRequestDto.getAnswerImg()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(claudeService::extractTextByAnswer);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public ConceptResponseDto findConceptList() {
-        List<SubConcept> subConcepts = subConceptRepository.findAll();
-        List<ConceptResponseDto.SubConceptSimpleDto> subConceptList = subConcepts.stream()
-                .map(sc -> new ConceptResponseDto.SubConceptSimpleDto(sc.getId(), sc.getConceptType()))
-                .toList();
-        ConceptResponseDto.Data data = ConceptResponseDto.Data.builder()
-                .subConceptList(subConceptList)
-                .build();
-        return ConceptResponseDto.builder()
-                .data(data)
-                .build();
+    public CachedJson findConceptList() {
+        return conceptCatalog.json("question-concept-list", taxonomy -> ConceptResponseDto.builder()
+                .data(ConceptResponseDto.Data.builder()
+                        .subConceptList(taxonomy.subConcepts().stream()
+                                .map(sc -> new ConceptResponseDto.SubConceptSimpleDto(sc.id(), sc.conceptType()))
+                                .toList())
+                        .build())
+                .build());
     }
 }
@@ -1,7 +1,9 @@
 package com.ssafy.odab.domain.question_result.controller;
 
 import com.ssafy.odab.domain.question_result.dto.SubConceptWrongQuestionResponseDto;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionPageResponseDto;
 import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionSolutionResponseDto;
 import com.ssafy.odab.domain.question_result.service.QuestionResultService;
 import com.ssafy.odab.domain.user.service.JwtService;
 import lombok.RequiredArgsConstructor;
@@ -68,5 +70,46 @@ public class QuestionResultController {
 
     // 주제별 최근 오답 조회
 
+    // 학년별 오답 cursor 페이지 조회 (다음 페이지는 응답의 nextCursor 를 cursor 로 전달)
+    @GetMapping("{grade}/grade/page")
+    public ResponseEntity<WrongQuestionPageResponseDto> findWrongAnswerPageByGrade(
+            @PathVariable("grade") Byte grade,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size) {
+        Integer userId = jwtService.getUserIdFromRequest();
+        return ResponseEntity.ok(questionResultService.findWrongAnswerPageByGrade(grade, userId, cursor, size));
+    }
+
+    // 학년별 최근 오답 cursor 페이지 조회
+    @GetMapping("{grade}/recent/grade/page")
+    public ResponseEntity<WrongQuestionPageResponseDto> findRecentWrongAnswerPageByGrade(
+            @PathVariable("grade") Byte grade,
+            @RequestParam(name = "days", defaultValue = "25") Integer days,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size) {
+        Integer userId = jwtService.getUserIdFromRequest();
+        LocalDateTime startTime = LocalDateTime.now().minusDays(days);
+        return ResponseEntity.ok(
+                questionResultService.findRecentWrongAnswerPageByGrade(grade, userId, startTime, cursor, size));
+    }
+
+    // 주제별 오답 cursor 페이지 조회
+    @GetMapping("{subConceptId}/subconcept/page")
+    public ResponseEntity<WrongQuestionPageResponseDto> findWrongAnswerPageBySubConcept(
+            @PathVariable("subConceptId") Integer subConceptId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size) {
+        Integer userId = jwtService.getUserIdFromRequest();
+        return ResponseEntity.ok(
+                questionResultService.findWrongAnswerPageBySubConcept(subConceptId, userId, cursor, size));
+    }
+
+    // 오답 문제의 정답, 풀이 조회 (페이지 조회 응답에는 포함되지 않음)
+    @GetMapping("{questionId}/solutions")
+    public ResponseEntity<WrongQuestionSolutionResponseDto> findWrongQuestionSolutions(
+            @PathVariable("questionId") Integer questionId) {
+        Integer userId = jwtService.getUserIdFromRequest();
+        return ResponseEntity.ok(questionResultService.findWrongQuestionSolutions(questionId, userId));
+    }
 
 }
@@ -34,6 +34,15 @@ public class SubConceptWrongQuestionResponseDto {
                     question.getRegistedAt()
             );
         }
+
+        public static SubConceptWrongQuestionDto from(WrongQuestionRowDto question) {
+            return new SubConceptWrongQuestionDto(
+                    question.getQuestionId(),
+                    question.getQuestionImg(),
+                    question.getQuestionText(),
+                    question.getRegistedAt()
+            );
+        }
     }
 
 }
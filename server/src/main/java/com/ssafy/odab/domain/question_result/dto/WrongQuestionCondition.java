@@ -0,0 +1,20 @@
+package com.ssafy.odab.domain.question_result.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오답 문제 조회 조건. userId 외에는 null 이면 조건을 적용하지 않음
+ */
+@Getter
+@Builder
+public class WrongQuestionCondition {
+    private final Integer userId;
+    private final Byte grade;                   // 소개념의 학년
+    private final Integer subConceptId;
+    private final LocalDateTime registedFrom;   // 등록일 기준 최근 오답
+    private final WrongQuestionCursor cursor;   // 이 문제 다음부터 조회
+    private final Integer limit;                // 최대 조회 수
+}
@@ -0,0 +1,49 @@
+package com.ssafy.odab.domain.question_result.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 오답노트 keyset 페이지네이션 위치. (등록일 desc, 문제 id desc) 순서에서 마지막으로 내려준 문제.
+ * 클라이언트에는 내용을 알 수 없는 문자열로 내려줌
+ */
+@Getter
+@AllArgsConstructor
+public class WrongQuestionCursor {
+    private static final String NULL_DATE = "-";
+
+    private final LocalDateTime registedAt; // 등록일이 없는 문제는 null (목록 맨 뒤)
+    private final Integer questionId;
+
+    public static WrongQuestionCursor from(WrongQuestionRowDto row) {
+        return new WrongQuestionCursor(row.getRegistedAt(), row.getQuestionId());
+    }
+
+    public String encode() {
+        String raw = (registedAt == null ? NULL_DATE : registedAt.toString()) + "_" + questionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * null 이나 빈 문자열이면 첫 페이지 (null 반환)
+     */
+    public static WrongQuestionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            String date = raw.substring(0, separator);
+            return new WrongQuestionCursor(
+                    NULL_DATE.equals(date) ? null : LocalDateTime.parse(date),
+                    Integer.parseInt(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ssafy.odab.domain.question_result.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionMajorConcept;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionSubconcept;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오답노트 한 페이지. 풀이는 포함하지 않고 {questionId}/solutions 로 따로 조회함
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WrongQuestionPageResponseDto {
+
+    private final List<WrongQuestionSummaryDto> wrongQuestions;
+    private final String nextCursor;    // 다음 페이지 요청시 cursor 로 전달. 마지막 페이지면 null
+    private final boolean hasNext;
+    private final List<WrongQuestionMajorConcept> majorConcepts; // 학년별 조회의 첫 페이지에만 포함
+
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    public static class WrongQuestionSummaryDto {
+        private Integer questionId;
+        private String questionImg;
+        private String questionText;
+        private LocalDateTime registDate;
+        private List<WrongQuestionSubconcept> wrongQuestionSubconceptList;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.odab.domain.question_result.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오답 문제 조회 결과 한 줄 (연관 엔티티 없이 필요한 컬럼만)
+ */
+@Getter
+@AllArgsConstructor
+public class WrongQuestionRowDto {
+    private Integer questionId;
+    private String questionImg;
+    private String questionText;
+    private String answer;
+    private LocalDateTime registedAt;
+}
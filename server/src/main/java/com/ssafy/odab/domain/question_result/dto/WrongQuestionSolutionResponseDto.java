@@ -0,0 +1,15 @@
+package com.ssafy.odab.domain.question_result.dto;
+
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionDto.WrongQuestionSolution;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class WrongQuestionSolutionResponseDto {
+    private final Integer questionId;
+    private final String answer;
+    private final List<WrongQuestionSolution> wrongQuestionSolutions;
+}
@@ -8,7 +8,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import org.springframework.data.domain.DomainEvents;
+
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "question_result")
@@ -72,4 +75,10 @@ public class QuestionResult {
         this.solvedAt = solvedAt;
     }
 
+    // 저장될 때마다 복습 일정 갱신용 이벤트 발행. question, user 는 프록시여도 id 만 읽으므로 초기화되지 않음
+    @DomainEvents
+    List<QuestionResultSavedEvent> savedEvents() {
+        return List.of(new QuestionResultSavedEvent(question.getId(), user.getId(), solvedAt, isCorrect));
+    }
+
 }
@@ -0,0 +1,10 @@
+package com.ssafy.odab.domain.question_result.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * QuestionResult 가 repository 로 저장될 때 발행됨 (@DomainEvents)
+ */
+public record QuestionResultSavedEvent(Integer questionId, Integer userId, LocalDateTime solvedAt,
+                                       Boolean isCorrect) {
+}
@@ -3,16 +3,19 @@ package com.ssafy.odab.domain.question_result.repository;
 import com.ssafy.odab.domain.question.dto.RetryQuestionResponseDto;
 import com.ssafy.odab.domain.question.entity.Question;
 import com.ssafy.odab.domain.question_result.entity.QuestionResult;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface QuestionResultRepository extends JpaRepository<QuestionResult, Integer> {
+public interface QuestionResultRepository extends JpaRepository<QuestionResult, Integer>, QuestionResultRepositoryCustom {
 
     @Query("SELECT qr FROM QuestionResult qr WHERE qr.user.id = :userId AND qr.question.id = :questionId ORDER BY qr.times DESC")
     List<QuestionResult> findByQuestionIdAndUserId(@Param("questionId") Integer questionId, @Param("userId") Integer userId, Pageable pageable);
@@ -42,21 +45,14 @@ public interface QuestionResultRepository extends JpaRepository<QuestionResult,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end);
 
-    @Query(value = "SELECT sc.sub_concept_id, sc.sub_concept_type, DATE(qr.solved_at) as lastLearningDate " +
-            "FROM question_result qr " +
-            "JOIN question q ON qr.question_id = q.question_id " +
-            "JOIN question_concept qc ON q.question_id = qc.question_id " +
-            "JOIN sub_concept sc ON qc.sub_concept_id = sc.sub_concept_id " +
-            "INNER JOIN ( " +
-            "    SELECT question_id, user_id, MIN(solved_at) AS first_wrong_time " +
-            "    FROM question_result " +
-            "    WHERE is_correct = 0 " +
-            "    GROUP BY question_id, user_id " +
-            ") fw ON qr.question_id = fw.question_id AND qr.user_id = fw.user_id AND qr.solved_at = fw.first_wrong_time " +
-            "WHERE qr.user_id = :userId " +
-            "AND DATE(qr.solved_at) IN (:reviewDates) " +
-            "AND qr.is_correct = 0 " +
-            "GROUP BY sc.sub_concept_id, sc.sub_concept_type, DATE(qr.solved_at)",
-            nativeQuery = true)
-    List<Object[]> findReviewDtosByUserIdAndDatesWithFirstWrong(@Param("userId") Integer userId, @Param("reviewDates") List<LocalDate> reviewDates);
-}
\ No newline at end of file
+    // [userId, questionId, solvedAt, isCorrect] 를 회원, 문제, 풀이 시간 순으로. 복습 일정 초기화용
+    // fetch size MIN_VALUE 면 MySQL 드라이버가 결과를 한꺼번에 메모리에 올리지 않고 한 줄씩 읽음.
+    // 읽는 동안 같은 연결로 다른 쿼리를 보낼 수 없으므로 쓰기는 다른 트랜잭션(연결)에서 해야 함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select qr.user.id, qr.question.id, qr.solvedAt, qr.isCorrect from QuestionResult qr " +
+            "where qr.solvedAt is not null order by qr.user.id, qr.question.id, qr.solvedAt")
+    Stream<Object[]> streamReviewHistory();
+}
@@ -0,0 +1,32 @@
+package com.ssafy.odab.domain.question_result.repository;
+
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionCondition;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionDto.WrongQuestionSolution;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionSubconcept;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionRowDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오답노트 조회용 QueryDSL 쿼리
+ */
+public interface QuestionResultRepositoryCustom {
+
+    /**
+     * 회원이 올린 문제 중 아직 맞히지 못한 문제 (최근 풀이가 정답이 아닌 문제). 최근 등록순
+     * condition 에 cursor, limit 이 있으면 그 다음부터 limit 개만 조회함
+     */
+    List<WrongQuestionRowDto> findWrongQuestions(WrongQuestionCondition condition);
+
+    /**
+     * 문제 id 별 소개념 목록 (쿼리 한 번)
+     */
+    Map<Integer, List<WrongQuestionSubconcept>> findSubConceptsByQuestionIds(Collection<Integer> questionIds);
+
+    /**
+     * 문제 id 별 풀이 목록, step 순서 (쿼리 한 번)
+     */
+    Map<Integer, List<WrongQuestionSolution>> findSolutionsByQuestionIds(Collection<Integer> questionIds);
+}
@@ -0,0 +1,182 @@
+package com.ssafy.odab.domain.question_result.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.odab.domain.concept.entity.QQuestionConcept;
+import com.ssafy.odab.domain.concept.entity.QSubConcept;
+import com.ssafy.odab.domain.question.entity.QQuestion;
+import com.ssafy.odab.domain.question.entity.QQuestionSolution;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionCondition;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionCursor;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionDto.WrongQuestionSolution;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionSubconcept;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionRowDto;
+import com.ssafy.odab.domain.question_result.entity.QQuestionResult;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class QuestionResultRepositoryImpl implements QuestionResultRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 등록일이 있는 문제를 (등록일 desc, id desc) 로 먼저 내려주고, 등록일이 없는 문제는 맨 뒤에 id desc 로 내려줌.
+     * 두 구간을 따로 조회해서 각 조회가 인덱스 (user_id, registed_at, question_id) 의 한 범위만 읽게 함
+     */
+    @Override
+    public List<WrongQuestionRowDto> findWrongQuestions(WrongQuestionCondition condition) {
+        QQuestion question = QQuestion.question;
+        WrongQuestionCursor cursor = condition.getCursor();
+        Integer limit = condition.getLimit();
+        List<WrongQuestionRowDto> rows = new ArrayList<>();
+        if (cursor == null || cursor.getRegistedAt() != null) {
+            rows.addAll(fetchWrongQuestions(question, condition, registedAfter(question, cursor),
+                    new OrderSpecifier<?>[]{question.registedAt.desc(), question.id.desc()}, limit));
+        }
+        // 등록일 조건이 있으면 등록일이 없는 문제는 해당되지 않음
+        if (condition.getRegistedFrom() == null && (limit == null || rows.size() < limit)) {
+            rows.addAll(fetchWrongQuestions(question, condition, unregistedAfter(question, cursor),
+                    new OrderSpecifier<?>[]{question.id.desc()}, limit == null ? null : limit - rows.size()));
+        }
+        return rows;
+    }
+
+    private List<WrongQuestionRowDto> fetchWrongQuestions(QQuestion question, WrongQuestionCondition condition,
+                                                          BooleanExpression range, OrderSpecifier<?>[] orders,
+                                                          Integer limit) {
+        JPQLQuery<WrongQuestionRowDto> query = queryFactory
+                .select(Projections.constructor(WrongQuestionRowDto.class,
+                        question.id,
+                        question.questionImg,
+                        question.questionText,
+                        question.answer,
+                        question.registedAt))
+                .from(question)
+                .where(wrongQuestionFilter(question, condition), range)
+                .orderBy(orders);
+        if (limit != null) {
+            query.limit(limit);
+        }
+        return query.fetch();
+    }
+
+    @Override
+    public Map<Integer, List<WrongQuestionSubconcept>> findSubConceptsByQuestionIds(Collection<Integer> questionIds) {
+        if (questionIds.isEmpty()) {
+            return Map.of();
+        }
+        QQuestionConcept questionConcept = QQuestionConcept.questionConcept;
+        QSubConcept subConcept = QSubConcept.subConcept;
+        List<Tuple> rows = queryFactory
+                .select(questionConcept.question.id, subConcept.id, subConcept.conceptType)
+                .from(questionConcept)
+                .join(questionConcept.subConcept, subConcept)
+                .where(questionConcept.question.id.in(questionIds))
+                .orderBy(questionConcept.id.asc())
+                .fetch();
+        return rows.stream().collect(Collectors.groupingBy(
+                row -> row.get(questionConcept.question.id),
+                LinkedHashMap::new,
+                Collectors.mapping(
+                        row -> new WrongQuestionSubconcept(row.get(subConcept.id), row.get(subConcept.conceptType)),
+                        Collectors.toList())));
+    }
+
+    @Override
+    public Map<Integer, List<WrongQuestionSolution>> findSolutionsByQuestionIds(Collection<Integer> questionIds) {
+        if (questionIds.isEmpty()) {
+            return Map.of();
+        }
+        QQuestionSolution questionSolution = QQuestionSolution.questionSolution;
+        List<Tuple> rows = queryFactory
+                .select(questionSolution.question.id, questionSolution.id, questionSolution.step,
+                        questionSolution.solutionContent)
+                .from(questionSolution)
+                .where(questionSolution.question.id.in(questionIds))
+                .orderBy(questionSolution.step.asc())
+                .fetch();
+        return rows.stream().collect(Collectors.groupingBy(
+                row -> row.get(questionSolution.question.id),
+                LinkedHashMap::new,
+                Collectors.mapping(
+                        row -> new WrongQuestionSolution(row.get(questionSolution.id), row.get(questionSolution.step),
+                                row.get(questionSolution.solutionContent)),
+                        Collectors.toList())));
+    }
+
+    private BooleanBuilder wrongQuestionFilter(QQuestion question, WrongQuestionCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(question.user.id.eq(condition.getUserId()));
+        builder.and(latestAttemptCorrect(question, condition.getUserId()).notExists());
+
+        if (condition.getGrade() != null || condition.getSubConceptId() != null) {
+            QQuestionConcept questionConcept = new QQuestionConcept("conceptFilter");
+            QSubConcept subConcept = new QSubConcept("subConceptFilter");
+            BooleanBuilder conceptFilter = new BooleanBuilder(questionConcept.question.eq(question));
+            if (condition.getGrade() != null) {
+                conceptFilter.and(subConcept.gradeLevel.grade.eq(condition.getGrade()));
+            }
+            if (condition.getSubConceptId() != null) {
+                conceptFilter.and(subConcept.id.eq(condition.getSubConceptId()));
+            }
+            // 개념이 여러 개여도 문제가 중복되지 않도록 exists 로 거름
+            builder.and(JPAExpressions.selectOne()
+                    .from(questionConcept)
+                    .join(questionConcept.subConcept, subConcept)
+                    .where(conceptFilter)
+                    .exists());
+        }
+        if (condition.getRegistedFrom() != null) {
+            builder.and(question.registedAt.goe(condition.getRegistedFrom()));
+        }
+        return builder;
+    }
+
+    /**
+     * 등록일이 있는 문제 중 (등록일 desc, id desc) 순서에서 cursor 다음에 오는 문제들
+     */
+    private BooleanExpression registedAfter(QQuestion question, WrongQuestionCursor cursor) {
+        if (cursor == null) {
+            return question.registedAt.isNotNull();
+        }
+        return question.registedAt.lt(cursor.getRegistedAt())
+                .or(question.registedAt.eq(cursor.getRegistedAt()).and(question.id.lt(cursor.getQuestionId())));
+    }
+
+    /**
+     * 등록일이 없는 문제 중 cursor 다음에 오는 문제들. cursor 가 아직 등록일이 있는 구간이면 처음부터
+     */
+    private BooleanExpression unregistedAfter(QQuestion question, WrongQuestionCursor cursor) {
+        if (cursor == null || cursor.getRegistedAt() != null) {
+            return question.registedAt.isNull();
+        }
+        return question.registedAt.isNull().and(question.id.lt(cursor.getQuestionId()));
+    }
+
+    // 가장 최근 풀이(times 최대)가 정답인 기록. 한 번도 다시 풀지 않은 문제는 오답으로 봄
+    private JPQLQuery<Integer> latestAttemptCorrect(QQuestion question, Integer userId) {
+        QQuestionResult result = new QQuestionResult("latestResult");
+        QQuestionResult attempts = new QQuestionResult("attempts");
+        return JPAExpressions.selectOne()
+                .from(result)
+                .where(result.question.eq(question),
+                        result.user.id.eq(userId),
+                        result.isCorrect.isTrue(),
+                        result.times.eq(JPAExpressions.select(attempts.times.max())
+                                .from(attempts)
+                                .where(attempts.question.eq(question), attempts.user.id.eq(userId))));
+    }
+}
@@ -1,7 +1,9 @@
 package com.ssafy.odab.domain.question_result.service;
 
 import com.ssafy.odab.domain.question_result.dto.SubConceptWrongQuestionResponseDto;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionPageResponseDto;
 import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionSolutionResponseDto;
 
 import java.time.LocalDateTime;
 
@@ -16,4 +18,17 @@ public interface QuestionResultService {
 //    WrongQuestionResponseDto findRecentWrongAnswersBySchoolLevel(String schoolLevel, Integer userId, LocalDateTime startTime);
 
     WrongQuestionResponseDto findRecentWrongAnswersByGrade(Byte grade, Integer userId, LocalDateTime startTime);
+
+    // 오답노트 cursor 페이지 조회. cursor 가 null 이면 첫 페이지, size 가 null 이면 paging.default-page-size
+    WrongQuestionPageResponseDto findWrongAnswerPageByGrade(Byte grade, Integer userId, String cursor, Integer size);
+
+    WrongQuestionPageResponseDto findRecentWrongAnswerPageByGrade(Byte grade, Integer userId, LocalDateTime startTime, String cursor, Integer size);
+
+    WrongQuestionPageResponseDto findWrongAnswerPageBySubConcept(Integer subConceptId, Integer userId, String cursor, Integer size);
+
+    // 페이지 조회에서 빠진 정답, 풀이를 문제 하나씩 조회. 본인 문제가 아니면 IllegalArgumentException
+    WrongQuestionSolutionResponseDto findWrongQuestionSolutions(Integer questionId, Integer userId);
+
+    // 문제를 다시 푼 결과를 새 기록으로 저장 (풀이 횟수는 이전 기록 + 1)
+    void saveResult(Integer questionId, Integer userId, String solutionImage, Boolean isCorrect);
 }
@@ -4,65 +4,74 @@ import com.ssafy.odab.domain.concept.entity.SubConcept;
 import com.ssafy.odab.domain.concept.repository.MajorConceptRepository;
 import com.ssafy.odab.domain.concept.repository.SubConceptRepository;
 import com.ssafy.odab.domain.question.entity.Question;
+import com.ssafy.odab.domain.question.repository.QuestionRepository;
 import com.ssafy.odab.domain.question_result.dto.SubConceptWrongQuestionResponseDto;
 import com.ssafy.odab.domain.question_result.dto.SubConceptWrongQuestionResponseDto.SubConceptWrongQuestionDto;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionCondition;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionCursor;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionPageResponseDto;
 import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto;
 import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionDto;
 import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionDto.WrongQuestionSolution;
 import com.ssafy.odab.domain.question_result.dto.WrongQuestionResponseDto.WrongQuestionSubconcept;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionRowDto;
+import com.ssafy.odab.domain.question_result.dto.WrongQuestionSolutionResponseDto;
+import com.ssafy.odab.domain.question_result.entity.QuestionResult;
 import com.ssafy.odab.domain.question_result.repository.QuestionResultRepository;
+import com.ssafy.odab.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class QuestionResultServiceImpl implements QuestionResultService {
 
     private final SubConceptRepository subConceptRepository;
     private final QuestionResultRepository questionResultRepository;
     private final MajorConceptRepository majorConceptRepository;
+    private final QuestionRepository questionRepository;
+    private final UserRepository userRepository;
+
+    @Value("${paging.default-page-size:10}")
+    private int defaultPageSize;
+
+    @Value("${paging.max-page-size:50}")
+    private int maxPageSize;
 
     @Override
     @Transactional
+    public void saveResult(Integer questionId, Integer userId, String solutionImage, Boolean isCorrect) {
+        // 정답결과 테이블에서 회원의 가장 최근 풀이 조회
+        List<QuestionResult> questionResults = questionResultRepository.findByQuestionIdAndUserId(questionId, userId, PageRequest.of(0, 1));
+        int times = questionResults.isEmpty() ? 1 : questionResults.get(0).getTimes() + 1;
+        // 문제, 회원은 호출하는 쪽에서 확인했으므로 참조만 사용
+        QuestionResult questionResult = QuestionResult.builder()
+                .user(userRepository.getReferenceById(userId))
+                .question(questionRepository.getReferenceById(questionId))
+                .times(times)
+                .solvedAt(LocalDateTime.now())
+                .solutionImage(solutionImage)
+                .isCorrect(isCorrect)
+                .build();
+        questionResultRepository.save(questionResult);
+    }
+
+    @Override
     public WrongQuestionResponseDto findWrongAnswersByGrade(Byte grade, Integer userId) {
-        // 회원이 푼 문제들 중 소분류에서 학년이 grade인것
-        // 오답은 틀린것들만
-        // 문제들중 틀린문제 걸러와서 소분류에서 학년이 grade 인 친구들 filter
-        // subConcept에 대한 Set도 필요함
-        List<Question> wrongQuestions = questionResultRepository.findWrongQuestionsByUserId(userId);
-        wrongQuestions = wrongQuestions.stream().filter(
-                question -> question.getQuestionConcepts().stream().anyMatch(
-                        questionConcept -> questionConcept.getSubConcept().getGradeLevel().getGrade()
-                                .equals(grade))).toList();
-        System.out.println();
-        System.out.println("문제 크기 : "+wrongQuestions.size());
-        List<Integer> wrongQuestionIds = wrongQuestions.stream().map(Question::getId).toList();
-        List<SubConcept> subConcepts = subConceptRepository.findByQuestionIds(wrongQuestionIds);
-        // grade인 majorConcept 가져오기
-        List<WrongQuestionResponseDto.WrongQuestionMajorConcept> majorConcepts
-                = majorConceptRepository.findAllByGrade(grade).stream().map(WrongQuestionResponseDto.WrongQuestionMajorConcept::from).toList();
-        List<WrongQuestionDto> gradeWrongQuestionResponseDtos = wrongQuestions.stream()
-                .map(question -> WrongQuestionDto.builder()
-                        .questionId(question.getId())
-                        .questionImg(question.getQuestionImg())
-                        .questionText(question.getQuestionText())
-                        .registDate(question.getRegistedAt())
-                        .wrongQuestionSubconceptList(question.getQuestionConcepts().stream()
-                                .map(questionConcept -> WrongQuestionSubconcept.from(questionConcept.getSubConcept())).toList())
-                        .answer(question.getAnswer())
-                        .wrongQuestionSolutions(question.getQuestionSolutions().stream().map(
-                                        WrongQuestionSolution::from)
-                                .sorted(Comparator.comparingInt(WrongQuestionSolution::getStep))
-                                .toList())
-                        .build()).toList();
-        return WrongQuestionResponseDto.builder()
-                .gradeWrongQuestionDtos(gradeWrongQuestionResponseDtos)
-                .majorConcepts(majorConcepts).build();
+        // 회원이 올린 문제 중 아직 맞히지 못했고, 소개념 학년이 grade 인 문제만 DB 에서 걸러옴
+        WrongQuestionCondition condition = WrongQuestionCondition.builder()
+                .userId(userId)
+                .grade(grade)
+                .build();
+        return toWrongQuestionResponse(questionResultRepository.findWrongQuestions(condition), grade);
     }
 
 //    @Override
@@ -119,23 +128,20 @@ public class QuestionResultServiceImpl implements QuestionResultService {
 //    }
 
     @Override
-    @Transactional
     public SubConceptWrongQuestionResponseDto findWrongAnswersBySubConcept(Integer subConceptId,
                                                                            Integer userId) {
-        // 주제별로 사용자가 틀린 문제 조회
-        List<Question> wrongQuestions = questionResultRepository.findWrongQuestionsByUserId(userId);
-        // 틀린문제 가져오기
         SubConcept subConcept = subConceptRepository.findById(subConceptId)
                 .orElseThrow(() -> new IllegalArgumentException("개념을 찾을 수 없습니다."));
-        // 틀린문제중 주제별 필터링
-        List<Question> subConceptWrongQuestions = wrongQuestions.stream()
-                .filter(question -> question.getQuestionConcepts().stream()
-                        .anyMatch(
-                                questionConcept -> questionConcept.getSubConcept().getId().equals(subConceptId)))
+        // 주제별로 사용자가 틀린 문제 조회
+        WrongQuestionCondition condition = WrongQuestionCondition.builder()
+                .userId(userId)
+                .subConceptId(subConceptId)
+                .build();
+        List<SubConceptWrongQuestionDto> wrongQuestionDtos = questionResultRepository.findWrongQuestions(condition).stream()
+                .map(SubConceptWrongQuestionDto::from)
                 .toList();
         return SubConceptWrongQuestionResponseDto.builder().subConceptType(subConcept.getConceptType())
-                .subConceptId(subConcept.getId()).wrongQuestionDtos(subConceptWrongQuestions.stream().map(
-                        SubConceptWrongQuestionDto::from).toList()).build();
+                .subConceptId(subConcept.getId()).wrongQuestionDtos(wrongQuestionDtos).build();
     }
 
 //    @Override
@@ -188,34 +194,117 @@ public class QuestionResultServiceImpl implements QuestionResultService {
 //    }
 
     @Override
-    @Transactional
     public WrongQuestionResponseDto findRecentWrongAnswersByGrade(Byte grade, Integer userId,
                                                                   LocalDateTime startTime) {
-        List<Question> wrongQuestions = questionResultRepository.findRecentWrongQuestionsByUserId(userId, startTime, LocalDateTime.now());
-        wrongQuestions = wrongQuestions.stream().filter(
-                question -> question.getQuestionConcepts().stream().anyMatch(
-                        questionConcept -> questionConcept.getSubConcept().getGradeLevel().getGrade()
-                                .equals(grade))).toList();
-        List<Integer> wrongQuestionIds = wrongQuestions.stream().map(Question::getId).toList();
-        List<SubConcept> subConcepts = subConceptRepository.findByQuestionIds(wrongQuestionIds);
+        WrongQuestionCondition condition = WrongQuestionCondition.builder()
+                .userId(userId)
+                .grade(grade)
+                .registedFrom(startTime)
+                .build();
+        return toWrongQuestionResponse(questionResultRepository.findWrongQuestions(condition), grade);
+    }
+
+    /**
+     * 문제별 소개념, 풀이는 문제 id 목록으로 한 번씩만 조회해서 붙임
+     */
+    private WrongQuestionResponseDto toWrongQuestionResponse(List<WrongQuestionRowDto> wrongQuestions, Byte grade) {
+        List<Integer> wrongQuestionIds = wrongQuestions.stream().map(WrongQuestionRowDto::getQuestionId).toList();
+        Map<Integer, List<WrongQuestionSubconcept>> subConcepts = questionResultRepository.findSubConceptsByQuestionIds(wrongQuestionIds);
+        Map<Integer, List<WrongQuestionSolution>> solutions = questionResultRepository.findSolutionsByQuestionIds(wrongQuestionIds);
         List<WrongQuestionDto> gradeWrongQuestionResponseDtos = wrongQuestions.stream()
                 .map(question -> WrongQuestionDto.builder()
-                        .questionId(question.getId())
+                        .questionId(question.getQuestionId())
                         .questionImg(question.getQuestionImg())
                         .questionText(question.getQuestionText())
                         .registDate(question.getRegistedAt())
-                        .wrongQuestionSubconceptList(question.getQuestionConcepts().stream()
-                                .map(questionConcept -> WrongQuestionSubconcept.from(questionConcept.getSubConcept())).toList())
+                        .wrongQuestionSubconceptList(subConcepts.getOrDefault(question.getQuestionId(), List.of()))
                         .answer(question.getAnswer())
-                        .wrongQuestionSolutions(question.getQuestionSolutions().stream().map(
-                                        WrongQuestionSolution::from)
-                                .sorted(Comparator.comparingInt(WrongQuestionSolution::getStep))
-                                .toList())
+                        .wrongQuestionSolutions(solutions.getOrDefault(question.getQuestionId(), List.of()))
                         .build()).toList();
+        // grade인 majorConcept 가져오기
         List<WrongQuestionResponseDto.WrongQuestionMajorConcept> majorConcepts
-                = majorConceptRepository.findAllByGrade(grade).stream().map(WrongQuestionResponseDto.WrongQuestionMajorConcept::from).toList();
+                = majorConceptRepository.findAllWithSubConceptsByGrade(grade).stream().map(WrongQuestionResponseDto.WrongQuestionMajorConcept::from).toList();
         return WrongQuestionResponseDto.builder()
                 .gradeWrongQuestionDtos(gradeWrongQuestionResponseDtos)
                 .majorConcepts(majorConcepts).build();
     }
+
+    @Override
+    public WrongQuestionPageResponseDto findWrongAnswerPageByGrade(Byte grade, Integer userId, String cursor, Integer size) {
+        WrongQuestionCondition.WrongQuestionConditionBuilder condition = WrongQuestionCondition.builder()
+                .userId(userId)
+                .grade(grade);
+        return findWrongAnswerPage(condition, cursor, size, grade);
+    }
+
+    @Override
+    public WrongQuestionPageResponseDto findRecentWrongAnswerPageByGrade(Byte grade, Integer userId, LocalDateTime startTime,
+                                                                         String cursor, Integer size) {
+        WrongQuestionCondition.WrongQuestionConditionBuilder condition = WrongQuestionCondition.builder()
+                .userId(userId)
+                .grade(grade)
+                .registedFrom(startTime);
+        return findWrongAnswerPage(condition, cursor, size, grade);
+    }
+
+    @Override
+    public WrongQuestionPageResponseDto findWrongAnswerPageBySubConcept(Integer subConceptId, Integer userId, String cursor, Integer size) {
+        WrongQuestionCondition.WrongQuestionConditionBuilder condition = WrongQuestionCondition.builder()
+                .userId(userId)
+                .subConceptId(subConceptId);
+        return findWrongAnswerPage(condition, cursor, size, null);
+    }
+
+    @Override
+    public WrongQuestionSolutionResponseDto findWrongQuestionSolutions(Integer questionId, Integer userId) {
+        // 다른 회원의 문제는 있는지도 알 수 없게 같은 메시지로 거절함
+        Question question = questionRepository.findByIdAndUserId(questionId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("문제를 찾을 수 없습니다."));
+        List<WrongQuestionSolution> solutions = questionResultRepository.findSolutionsByQuestionIds(List.of(questionId))
+                .getOrDefault(questionId, List.of());
+        return WrongQuestionSolutionResponseDto.builder()
+                .questionId(questionId)
+                .answer(question.getAnswer())
+                .wrongQuestionSolutions(solutions)
+                .build();
+    }
+
+    /**
+     * 한 개 더 조회해서 다음 페이지가 있는지 확인함. 학년별 조회면 첫 페이지에만 대개념 목록을 붙임
+     */
+    private WrongQuestionPageResponseDto findWrongAnswerPage(WrongQuestionCondition.WrongQuestionConditionBuilder condition,
+                                                             String cursor, Integer size, Byte grade) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        WrongQuestionCursor after = WrongQuestionCursor.decode(cursor);
+        List<WrongQuestionRowDto> rows = questionResultRepository.findWrongQuestions(condition
+                .cursor(after)
+                .limit(pageSize + 1)
+                .build());
+        boolean hasNext = rows.size() > pageSize;
+        List<WrongQuestionRowDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Map<Integer, List<WrongQuestionSubconcept>> subConcepts = questionResultRepository.findSubConceptsByQuestionIds(
+                page.stream().map(WrongQuestionRowDto::getQuestionId).toList());
+        List<WrongQuestionPageResponseDto.WrongQuestionSummaryDto> summaries = page.stream()
+                .map(question -> WrongQuestionPageResponseDto.WrongQuestionSummaryDto.builder()
+                        .questionId(question.getQuestionId())
+                        .questionImg(question.getQuestionImg())
+                        .questionText(question.getQuestionText())
+                        .registDate(question.getRegistedAt())
+                        .wrongQuestionSubconceptList(subConcepts.getOrDefault(question.getQuestionId(), List.of()))
+                        .build())
+                .toList();
+
+        List<WrongQuestionResponseDto.WrongQuestionMajorConcept> majorConcepts = null;
+        if (grade != null && after == null) {
+            majorConcepts = majorConceptRepository.findAllWithSubConceptsByGrade(grade).stream()
+                    .map(WrongQuestionResponseDto.WrongQuestionMajorConcept::from).toList();
+        }
+        return WrongQuestionPageResponseDto.builder()
+                .wrongQuestions(summaries)
+                .nextCursor(hasNext ? WrongQuestionCursor.from(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .majorConcepts(majorConcepts)
+                .build();
+    }
 }
@@ -122,15 +122,20 @@ public class UserController {
      * 사용자의 프로필 이미지를 업로드하고 저장합니다.
      *
      * @param file 업로드할 이미지 파일
+     * @param key  file 대신 /api/v1/upload/presign 으로 직접 올린 이미지 key
      * @return 저장된 이미지 URL을 포함한 응답
      */
     @PutMapping("/api/v1/profile_img")
-    public ResponseEntity<ProfileImageResponse> saveProfileImg(@RequestParam("file") MultipartFile file, HttpServletRequest request) {
+    public ResponseEntity<ProfileImageResponse> saveProfileImg(@RequestParam(value = "file", required = false) MultipartFile file,
+                                                               @RequestParam(value = "key", required = false) String key,
+                                                               HttpServletRequest request) {
         try {
             // 토큰에서 사용자 ID추출
             Integer userId = getUserIdFromToken(request);
 //            Integer userId = 1;
-            String imageUrl = userService.saveProfileImg(userId, file);
+            String imageUrl = key != null
+                    ? userService.saveProfileImgByKey(userId, key)
+                    : userService.saveProfileImg(userId, file);
             return ResponseEntity.ok(new ProfileImageResponse(imageUrl));
         } catch (Exception e) {
             e.printStackTrace();
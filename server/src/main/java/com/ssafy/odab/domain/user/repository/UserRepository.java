@@ -33,5 +33,7 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      */
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.lastLearningTimes WHERE u.id = :userId")
     Optional<User> findByIdWithLastLearningTimes(@Param("userId") Integer userId);
-}
 
+    @Query("select u.grade from User u where u.id = :userId")
+    Optional<Integer> findGradeById(@Param("userId") Integer userId);
+}
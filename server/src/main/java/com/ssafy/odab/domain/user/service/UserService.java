@@ -6,6 +6,8 @@ import org.springframework.web.multipart.MultipartFile;
 public interface UserService {
     String saveProfileImg(Integer userId, MultipartFile file);
 
+    String saveProfileImgByKey(Integer userId, String key);
+
     void updateGrade(Integer userId, Integer grade);
 
     User findById(Integer userId);
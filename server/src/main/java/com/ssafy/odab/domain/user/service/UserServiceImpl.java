@@ -1,5 +1,6 @@
 package com.ssafy.odab.domain.user.service;
 
+import com.ssafy.odab.common.service.PresignedUploadService;
 import com.ssafy.odab.domain.image.service.ImageService;
 import com.ssafy.odab.domain.user.entity.User;
 import com.ssafy.odab.domain.user.repository.UserRepository;
@@ -20,6 +21,7 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final ImageService imageService;
+    private final PresignedUploadService presignedUploadService;
     /*
      * 영속성 컨텍스트를 관리하고 엔티티 관련 작업을 수행하는 EntityManager
      * 명시적인 flush() 호출이나 네이티브 쿼리 실행에 사용됩니다.
@@ -34,9 +36,11 @@ public class UserServiceImpl implements UserService {
      * @return 저장된 이미지의 URL
      * @throws RuntimeException 이미지 저장 과정에서 발생한 모든 예외
      */
-    public UserServiceImpl(UserRepository userRepository, ImageService imageService) {
+    public UserServiceImpl(UserRepository userRepository, ImageService imageService,
+                           PresignedUploadService presignedUploadService) {
         this.userRepository = userRepository;
         this.imageService = imageService;
+        this.presignedUploadService = presignedUploadService;
     }
 
     @Override
@@ -89,6 +93,26 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * S3 에 직접 올린(presigned URL) 이미지를 프로필로 저장하는 메서드
+     *
+     * @param userId 프로필 이미지를 저장할 사용자 ID
+     * @param key    /api/v1/upload/presign 으로 발급받은 key (purpose=profile)
+     * @return 저장된 이미지의 URL
+     */
+    @Override
+    public String saveProfileImgByKey(Integer userId, String key) {
+        if (!key.startsWith("profile/")) {
+            throw new IllegalArgumentException("프로필 이미지 key 가 아닙니다.");
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. ID: " + userId));
+        // 크기, 형식을 확인하고 통과한 경우에만 프로필로 씀
+        String imageUrl = presignedUploadService.confirmedUrl(userId, key);
+        user.updateProfileUrl(imageUrl);
+        return imageUrl;
+    }
+
 
     @Override
     @Transactional
@@ -0,0 +1,88 @@
+package com.ssafy.odab.mcpLLM.client;
+
+import com.ssafy.odab.mcpLLM.config.ClaudeConfig;
+import com.ssafy.odab.mcpLLM.dto.ClaudeRequestApiDto;
+import com.ssafy.odab.mcpLLM.dto.ClaudeResponseApiDto;
+import com.ssafy.odab.mcpLLM.dto.ClaudeStreamEventDto;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Claude messages API 호출 담당.
+ * 재시도, 에러 응답 변환은 호출하는 쪽(ClaudeServiceImpl)에서 처리함.
+ * 동시에 진행 중인 요청 수는 서버 전체에서 max-concurrency 개로 제한함.
+ */
+@Component
+public class ClaudeApiClient {
+    private static final ParameterizedTypeReference<ServerSentEvent<ClaudeStreamEventDto>> STREAM_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final int REQUEST_TIMEOUT_SECONDS = 30; // 타임아웃 시간 (초)
+
+    private final ClaudeConfig claudeConfig;
+    private final ClaudeMetrics claudeMetrics;
+    private final FifoRequestLimiter limiter;
+
+    public ClaudeApiClient(ClaudeConfig claudeConfig,
+                           ClaudeMetrics claudeMetrics,
+                           @Value("${claude-api.max-concurrency:16}") int maxConcurrency,
+                           @Value("${claude-api.permit-timeout-seconds:60}") long permitTimeoutSeconds) {
+        this.claudeConfig = claudeConfig;
+        this.claudeMetrics = claudeMetrics;
+        this.limiter = new FifoRequestLimiter(maxConcurrency, Duration.ofSeconds(permitTimeoutSeconds), Schedulers.parallel());
+    }
+
+    /**
+     * stream: true 로 요청하고 이벤트를 조립해서 응답 하나로 반환.
+     * text 토큰이 도착할 때마다 onTextDelta 로 넘겨줌 (null 가능)
+     * 스트림은 이벤트 사이 간격 기준으로 타임아웃을 적용함.
+     * 자리가 날 때까지 스레드를 막지 않고 들어온 순서대로 기다리며, permit-timeout 안에 자리가 없으면 PermitTimeoutException
+     * call 은 metric 에 붙일 호출 종류
+     */
+    public Mono<ClaudeResponseApiDto> stream(String call, ClaudeRequestApiDto request, Consumer<String> onTextDelta) {
+        request.setStream(true);
+        return Mono.defer(() -> {
+            Timer.Sample wait = claudeMetrics.start();
+            return limiter.submit(send(call, request, onTextDelta),
+                    acquired -> claudeMetrics.recordPermitWait(wait, call, acquired));
+        });
+    }
+
+    public int availablePermits() {
+        return limiter.availablePermits();
+    }
+
+    private Mono<ClaudeResponseApiDto> send(String call, ClaudeRequestApiDto request, Consumer<String> onTextDelta) {
+        return Mono.defer(() -> {
+            ClaudeStreamAccumulator accumulator = new ClaudeStreamAccumulator();
+            Timer.Sample sample = claudeMetrics.start();
+            return claudeConfig.getWebClient().post()
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToFlux(STREAM_EVENT_TYPE)
+                    .timeout(Duration.ofSeconds(REQUEST_TIMEOUT_SECONDS))
+                    .mapNotNull(ServerSentEvent::data)
+                    .doOnNext(event -> {
+                        String text = accumulator.accept(event);
+                        if (text != null && onTextDelta != null) {
+                            onTextDelta.accept(text);
+                        }
+                    })
+                    .then(Mono.fromCallable(accumulator::toResponse))
+                    .doOnSuccess(response -> {
+                        claudeMetrics.recordRequest(sample, request.getModel(), call, null);
+                        claudeMetrics.recordUsage(request.getModel(), call, response.getUsage());
+                    })
+                    .doOnError(e -> claudeMetrics.recordRequest(sample, request.getModel(), call, e));
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package com.ssafy.odab.mcpLLM.client;
+
+import com.ssafy.odab.mcpLLM.dto.ClaudeResponseApiDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Claude 호출 관련 meter. call 태그는 호출 종류(solve, grade, extract_problem 등)
+ * - claude.api.requests      : API 호출 한 번 (자리 대기 제외). model, call, outcome
+ * - claude.api.permit.wait   : 동시 요청 제한 자리를 얻기까지 기다린 시간. outcome(acquired/timeout)
+ * - claude.api.tokens        : usage 의 토큰 수. model, call, type(input/output/cache_read/cache_write)
+ * - claude.api.retries       : 재시도 횟수
+ * - claude.conversation      : tool 반복, 정리 요청까지 포함한 대화 전체 시간
+ * - claude.conversation.depth: 대화 한 건의 API 호출 횟수 (tool loop 깊이)
+ */
+@Component
+public class ClaudeMetrics {
+    private final MeterRegistry meterRegistry;
+
+    public ClaudeMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordRequest(Timer.Sample sample, String model, String call, Throwable error) {
+        sample.stop(Timer.builder("claude.api.requests")
+                .tag("model", tagValue(model))
+                .tag("call", tagValue(call))
+                .tag("outcome", outcome(error))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public void recordPermitWait(Timer.Sample sample, String call, boolean acquired) {
+        sample.stop(Timer.builder("claude.api.permit.wait")
+                .tag("call", tagValue(call))
+                .tag("outcome", acquired ? "acquired" : "timeout")
+                .register(meterRegistry));
+    }
+
+    public void recordUsage(String model, String call, ClaudeResponseApiDto.Usage usage) {
+        if (usage == null) {
+            return;
+        }
+        countTokens(model, call, "input", usage.getInput_tokens());
+        countTokens(model, call, "output", usage.getOutput_tokens());
+        countTokens(model, call, "cache_read", usage.getCache_read_input_tokens());
+        countTokens(model, call, "cache_write", usage.getCache_creation_input_tokens());
+    }
+
+    public void countRetry(String call, Throwable error) {
+        Counter.builder("claude.api.retries")
+                .tag("call", tagValue(call))
+                .tag("cause", outcome(error))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordConversation(Timer.Sample sample, String call, int depth, boolean failed) {
+        sample.stop(Timer.builder("claude.conversation")
+                .tag("call", tagValue(call))
+                .tag("outcome", failed ? "error" : "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        DistributionSummary.builder("claude.conversation.depth")
+                .tag("call", tagValue(call))
+                .register(meterRegistry)
+                .record(depth);
+    }
+
+    private void countTokens(String model, String call, String type, int tokens) {
+        if (tokens <= 0) {
+            return;
+        }
+        Counter.builder("claude.api.tokens")
+                .tag("model", tagValue(model))
+                .tag("call", tagValue(call))
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(tokens);
+    }
+
+    private String outcome(Throwable error) {
+        if (error == null) {
+            return "success";
+        }
+        if (error instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return String.valueOf(responseException.getStatusCode().value());
+        }
+        return "error";
+    }
+
+    private String tagValue(String value) {
+        return value == null ? "unknown" : value;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ssafy.odab.mcpLLM.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.odab.mcpLLM.dto.ClaudeResponseApiDto;
+import com.ssafy.odab.mcpLLM.dto.ClaudeStreamEventDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 스트림 이벤트를 받아서 stream: false 일 때와 같은 ClaudeResponseApiDto 로 조립함.
+ * 요청 하나당 하나씩 생성해서 사용 (thread-safe 하지 않음)
+ */
+public class ClaudeStreamAccumulator {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> INPUT_TYPE = new TypeReference<>() {};
+
+    private final ClaudeResponseApiDto response = new ClaudeResponseApiDto();
+    private final Map<Integer, ClaudeResponseApiDto.Content> blocks = new TreeMap<>();
+    private final Map<Integer, StringBuilder> texts = new HashMap<>();
+    private final Map<Integer, StringBuilder> partialInputs = new HashMap<>();
+
+    /**
+     * 이벤트를 반영하고, text 토큰이 들어온 경우 해당 토큰을 반환함. 그 외에는 null
+     */
+    public String accept(ClaudeStreamEventDto event) {
+        if (event == null || event.getType() == null) {
+            return null;
+        }
+        switch (event.getType()) {
+            case "message_start" -> {
+                ClaudeResponseApiDto message = event.getMessage();
+                if (message != null) {
+                    response.setId(message.getId());
+                    response.setType(message.getType());
+                    response.setRole(message.getRole());
+                    response.setModel(message.getModel());
+                    response.setUsage(message.getUsage());
+                }
+            }
+            case "content_block_start" -> {
+                ClaudeResponseApiDto.Content block = event.getContent_block();
+                blocks.put(event.getIndex(), block);
+                texts.put(event.getIndex(), new StringBuilder(block.getText() == null ? "" : block.getText()));
+                partialInputs.put(event.getIndex(), new StringBuilder());
+            }
+            case "content_block_delta" -> {
+                ClaudeStreamEventDto.Delta delta = event.getDelta();
+                if (delta == null) {
+                    return null;
+                }
+                if ("text_delta".equals(delta.getType())) {
+                    texts.get(event.getIndex()).append(delta.getText());
+                    return delta.getText();
+                }
+                if ("input_json_delta".equals(delta.getType())) {
+                    partialInputs.get(event.getIndex()).append(delta.getPartial_json());
+                }
+            }
+            case "content_block_stop" -> finishBlock(event.getIndex());
+            case "message_delta" -> {
+                if (event.getDelta() != null) {
+                    response.setStop_reason(event.getDelta().getStop_reason());
+                    response.setStop_sequence(event.getDelta().getStop_sequence());
+                }
+                if (event.getUsage() != null) {
+                    if (response.getUsage() == null) {
+                        response.setUsage(new ClaudeResponseApiDto.Usage());
+                    }
+                    response.getUsage().setOutput_tokens(event.getUsage().getOutput_tokens());
+                }
+            }
+            case "error" -> {
+                String message = event.getError() == null ? "stream error" : event.getError().getMessage();
+                throw new RuntimeException("Claude stream error: " + message);
+            }
+            default -> {
+                // ping, message_stop 은 무시
+            }
+        }
+        return null;
+    }
+
+    public ClaudeResponseApiDto toResponse() {
+        List<ClaudeResponseApiDto.Content> contents = new ArrayList<>(blocks.values());
+        response.setContent(contents);
+        return response;
+    }
+
+    private void finishBlock(Integer index) {
+        ClaudeResponseApiDto.Content block = blocks.get(index);
+        if (block == null) {
+            return;
+        }
+        if ("tool_use".equals(block.getType())) {
+            String json = partialInputs.get(index).toString();
+            try {
+                block.setInput(json.isBlank() ? new HashMap<>() : OBJECT_MAPPER.readValue(json, INPUT_TYPE));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("tool input 파싱 실패: " + json, e);
+            }
+        } else {
+            block.setText(texts.get(index).toString());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.ssafy.odab.mcpLLM.client;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 동시에 실행하는 작업 수를 제한하는 non-blocking 대기열.
+ * 자리가 없으면 들어온 순서대로 기다리고, 작업이 끝나거나(성공, 실패, 취소) 하면 다음 작업을 시작함.
+ * 스레드를 막거나 주기적으로 자리를 확인하지 않음. 대기 시간 제한은 대기 중인 작업마다 타이머 하나로 처리함.
+ */
+final class FifoRequestLimiter {
+    private static final int WAITING = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+
+    private final int maxConcurrency;
+    private final Duration waitTimeout;
+    private final Scheduler timer;
+    private final Queue<Waiter<?>> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    // drain 을 한 스레드에서만 돌리기 위한 카운터
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    FifoRequestLimiter(int maxConcurrency, Duration waitTimeout, Scheduler timer) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency 는 1 이상이어야 합니다: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.waitTimeout = waitTimeout;
+        this.timer = timer;
+    }
+
+    /**
+     * 자리가 나면 task 를 구독함. onWaitEnd 는 시작할 때 true, 대기 시간이 지나면 false 로 한 번 호출됨.
+     * 대기 시간이 지나면 PermitTimeoutException, 기다리는 중 취소하면 task 는 실행하지 않음
+     */
+    <T> Mono<T> submit(Mono<T> task, Consumer<Boolean> onWaitEnd) {
+        return Mono.create(sink -> {
+            Waiter<T> waiter = new Waiter<>(task, sink, onWaitEnd);
+            sink.onCancel(waiter::cancel);
+            // 바로 시작하더라도 start 에서 취소되도록 타이머를 먼저 걸어둠
+            waiter.scheduleTimeout();
+            waiters.offer(waiter);
+            drain();
+        });
+    }
+
+    int availablePermits() {
+        return Math.max(0, maxConcurrency - active.get());
+    }
+
+    int queued() {
+        return waiters.size();
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (active.get() < maxConcurrency) {
+                Waiter<?> waiter = waiters.poll();
+                if (waiter == null) {
+                    break;
+                }
+                if (waiter.start()) {
+                    active.incrementAndGet();
+                    waiter.run();
+                }
+            }
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+
+    private void release() {
+        active.decrementAndGet();
+        drain();
+    }
+
+    private final class Waiter<T> {
+        private final Mono<T> task;
+        private final MonoSink<T> sink;
+        private final Consumer<Boolean> onWaitEnd;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        // 실행 중인 task 구독. 시작 전에 취소되면 나중에 넣는 구독도 바로 취소됨
+        private final Disposable.Swap running = Disposables.swap();
+        private volatile Disposable timeout;
+
+        private Waiter(Mono<T> task, MonoSink<T> sink, Consumer<Boolean> onWaitEnd) {
+            this.task = task;
+            this.sink = sink;
+            this.onWaitEnd = onWaitEnd;
+        }
+
+        private void scheduleTimeout() {
+            timeout = timer.schedule(this::expire, waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private boolean start() {
+            if (!state.compareAndSet(WAITING, RUNNING)) {
+                return false;
+            }
+            cancelTimeout();
+            return true;
+        }
+
+        private void run() {
+            onWaitEnd.accept(true);
+            // doFinally 는 성공, 실패, 취소 중 한 번만 불리므로 자리는 정확히 한 번 돌려줌
+            running.update(task
+                    .doFinally(signal -> release())
+                    .contextWrite(sink.contextView())
+                    .subscribe(sink::success, sink::error, sink::success));
+        }
+
+        private void expire() {
+            if (state.compareAndSet(WAITING, DONE)) {
+                waiters.remove(this);
+                onWaitEnd.accept(false);
+                sink.error(new PermitTimeoutException("Claude API 요청 대기 시간을 초과했습니다."));
+            }
+        }
+
+        private void cancel() {
+            if (state.compareAndSet(WAITING, DONE)) {
+                cancelTimeout();
+                waiters.remove(this);
+            } else {
+                running.dispose();
+            }
+        }
+
+        private void cancelTimeout() {
+            Disposable scheduled = timeout;
+            if (scheduled != null) {
+                scheduled.dispose();
+            }
+        }
+    }
+}
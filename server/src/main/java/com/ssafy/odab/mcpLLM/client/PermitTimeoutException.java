@@ -0,0 +1,14 @@
+package com.ssafy.odab.mcpLLM.client;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Claude API 동시 요청 자리가 permit-timeout 안에 나지 않음.
+ * 응답 대기 타임아웃과 달리 서버가 바쁜 것이므로 재시도하지 않음
+ */
+public class PermitTimeoutException extends TimeoutException {
+
+    public PermitTimeoutException(String message) {
+        super(message);
+    }
+}
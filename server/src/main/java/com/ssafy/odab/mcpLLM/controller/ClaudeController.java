@@ -5,8 +5,11 @@ import com.ssafy.odab.mcpLLM.dto.*;
 import com.ssafy.odab.mcpLLM.service.ClaudeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -16,27 +19,55 @@ public class ClaudeController {
     private final ClaudeService claudeService;
     private final JwtService jwtService;
 
+    /**
+     * 이미지는 imageData(파일) 또는 imageKey(/api/v1/upload/presign 으로 직접 올린 key) 중 하나로 받음
+     */
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public Mono<ApiResponseDto> apiRequest(
             @RequestParam(value = "userAsk") String userAsk,
-            @RequestParam(value = "imageData") MultipartFile imageData) {
+            @RequestParam(value = "imageData", required = false) MultipartFile imageData,
+            @RequestParam(value = "imageKey", required = false) String imageKey) {
         // !!!!!!수정포인트!!!!!!
         Integer userId = jwtService.getUserId();
 //        Integer userId = 1;
         ApiRequestDto apiRequestDto = new ApiRequestDto();
         apiRequestDto.setUserAsk(userAsk);
         apiRequestDto.setImageData(imageData);
+        apiRequestDto.setImageKey(imageKey);
         return claudeService.searchSimilarQuestions(apiRequestDto, userId);
     }
 
+    /**
+     * 풀이 과정을 SSE 로 내려줌.
+     * event: thought(생각 단계) / delta(모델 토큰) / summary(정리된 풀이) / question(저장 결과) / error
+     */
+    @PostMapping(value = "/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<Object>>> streamRequest(
+            @RequestParam(value = "userAsk") String userAsk,
+            @RequestParam(value = "imageData", required = false) MultipartFile imageData,
+            @RequestParam(value = "imageKey", required = false) String imageKey) {
+        Integer userId = jwtService.getUserId();
+        ApiRequestDto apiRequestDto = new ApiRequestDto();
+        apiRequestDto.setUserAsk(userAsk);
+        apiRequestDto.setImageData(imageData);
+        apiRequestDto.setImageKey(imageKey);
+        return ResponseEntity.ok()
+                // nginx 가 응답을 모아서 보내지 않도록 함
+                .header("X-Accel-Buffering", "no")
+                .body(claudeService.streamSimilarQuestions(apiRequestDto, userId));
+    }
+
     @PostMapping(value = "/text", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public Mono<ClaudeTextApiResponseDto> apiRequest2(
-            @RequestParam(value = "imageData") MultipartFile imageData) {
+            @RequestParam(value = "imageData", required = false) MultipartFile imageData,
+            @RequestParam(value = "imageKey", required = false) String imageKey) {
         // !!!!!!수정포인트!!!!!!
         Integer userId = jwtService.getUserId();
 //        Integer userId = 1;
         ApiRequestDto apiRequestDto = new ApiRequestDto();
         apiRequestDto.setImageData(imageData);
+        apiRequestDto.setImageKey(imageKey);
         return claudeService.extractProblem(apiRequestDto, userId);
     }
 
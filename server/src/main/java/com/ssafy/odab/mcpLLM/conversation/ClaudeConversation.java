@@ -0,0 +1,131 @@
+package com.ssafy.odab.mcpLLM.conversation;
+
+import com.ssafy.odab.mcpLLM.dto.ClaudeRequestApiDto;
+import com.ssafy.odab.mcpLLM.dto.ClaudeResponseApiDto;
+import lombok.Getter;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Claude 와 주고받는 대화 한 건의 상태.
+ * 하나의 Reactor 파이프라인 안에서 순서대로만 변경되므로 별도 동기화는 하지 않음.
+ */
+@Getter
+public class ClaudeConversation {
+    private final String id = UUID.randomUUID().toString(); // tool 세션 구분용
+    private final String call;                // 호출 종류 (solve, grade 등). metric 태그로 사용
+    private final ClaudeRequestApiDto request;
+    private final List<ClaudeRequestApiDto.Message> messages;
+    private final boolean summaryRequired;    // tool 사용이 끝나면 정리 요청을 한 번 더 보냄
+    private final Integer userId;
+    private final Sinks.Many<ServerSentEvent<Object>> events; // 스트리밍 요청이 아니면 null
+    private final boolean cachePrefix;        // system 이 있으면 대화 앞부분도 prompt cache 에 올림
+    private int depth;
+    private boolean summarized;
+    private ClaudeRequestApiDto.CacheableContent cacheBreakpoint;
+
+    private ClaudeConversation(String call, ClaudeRequestApiDto request, boolean summaryRequired, Integer userId,
+                               Sinks.Many<ServerSentEvent<Object>> events) {
+        this.call = call;
+        this.request = request;
+        this.messages = request.getMessages();
+        this.summaryRequired = summaryRequired;
+        this.userId = userId;
+        this.events = events;
+        this.cachePrefix = request.getSystem() != null;
+    }
+
+    /**
+     * request 의 messages 를 대화 기록으로 그대로 사용함
+     */
+    public static ClaudeConversation of(String call, ClaudeRequestApiDto request, boolean summaryRequired, Integer userId,
+                                        Sinks.Many<ServerSentEvent<Object>> events) {
+        if (request.getMessages() == null) {
+            request.setMessages(new ArrayList<>());
+        }
+        return new ClaudeConversation(call, request, summaryRequired, userId, events);
+    }
+
+    public void nextTurn() {
+        depth++;
+    }
+
+    public void markSummarized() {
+        summarized = true;
+    }
+
+    /**
+     * 마지막 메시지의 마지막 블록으로 cache breakpoint 를 옮김.
+     * 이전 턴까지의 대화는 캐시에서 읽고 새로 추가된 메시지만 처리됨.
+     * tools, system 에도 하나씩 걸려 있어서 breakpoint 최대 개수(4)를 넘지 않게 대화에는 하나만 유지함
+     */
+    public void moveCacheBreakpoint() {
+        if (!cachePrefix || messages.isEmpty()) {
+            return;
+        }
+        if (cacheBreakpoint != null) {
+            cacheBreakpoint.setCache_control(null);
+            cacheBreakpoint = null;
+        }
+        List<Object> lastContents = messages.get(messages.size() - 1).getContent();
+        if (!lastContents.isEmpty()
+                && lastContents.get(lastContents.size() - 1) instanceof ClaudeRequestApiDto.CacheableContent cacheable) {
+            cacheable.setCache_control(ClaudeRequestApiDto.CacheControl.ephemeral());
+            cacheBreakpoint = cacheable;
+        }
+    }
+
+    /**
+     * 답변받은 내용을 assistant 메시지로 저장하고, 그 중 tool_use 블록들을 반환함
+     */
+    public List<ClaudeResponseApiDto.Content> appendAssistant(ClaudeResponseApiDto response) {
+        List<Object> contents = new ArrayList<>();
+        List<ClaudeResponseApiDto.Content> toolUses = new ArrayList<>();
+        for (ClaudeResponseApiDto.Content content : response.getContent()) {
+            if (!Objects.equals(content.getType(), "tool_use")) {
+                contents.add(ClaudeRequestApiDto.TextContent.builder()
+                        .type(content.getType())
+                        .text(content.getText())
+                        .build());
+            } else {
+                toolUses.add(content);
+                contents.add(ClaudeRequestApiDto.ToolUseContent.builder()
+                        .type(content.getType())
+                        .id(content.getId())
+                        .name(content.getName())
+                        .input(content.getInput())
+                        .build());
+            }
+        }
+        messages.add(ClaudeRequestApiDto.Message.builder()
+                .role(response.getRole())
+                .content(contents)
+                .build());
+        return toolUses;
+    }
+
+    public void appendUserText(String text) {
+        List<Object> contents = new ArrayList<>();
+        contents.add(ClaudeRequestApiDto.TextContent.builder()
+                .type("text")
+                .text(text)
+                .build());
+        messages.add(ClaudeRequestApiDto.Message.builder()
+                .role("user")
+                .content(contents)
+                .build());
+    }
+
+    // 스트리밍 요청인 경우에만 SSE 이벤트를 내보냄
+    public void emit(String eventName, Object data) {
+        if (events == null || data == null) {
+            return;
+        }
+        events.tryEmitNext(ServerSentEvent.<Object>builder(data).event(eventName).build());
+    }
+}
@@ -11,4 +11,5 @@ import org.springframework.web.multipart.MultipartFile;
 public class ApiRequestDto {
     private String userAsk;
     private MultipartFile imageData;
+    private String imageKey; // presigned 업로드로 올린 이미지의 key (imageData 대신)
 }
\ No newline at end of file
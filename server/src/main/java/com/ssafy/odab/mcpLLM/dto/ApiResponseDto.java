@@ -11,6 +11,7 @@ import java.util.List;
 @Setter
 @Builder
 public class ApiResponseDto {
+    Integer questionId;
     String questionText;
     String answer;
     String imageUrl;
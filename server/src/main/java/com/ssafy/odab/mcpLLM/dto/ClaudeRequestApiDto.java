@@ -3,6 +3,7 @@ package com.ssafy.odab.mcpLLM.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
+import lombok.ToString;
 import java.util.List;
 import java.util.Map;
 
@@ -12,15 +13,38 @@ import java.util.Map;
 public class ClaudeRequestApiDto {
     private String model;
     private int max_tokens;
+    private List<TextContent> system; // 고정된 지시문. 마지막 블록에 cache_control 을 걸면 tools + system 이 캐시됨
     private List<Tool> tools;
     private List<Message> messages;
+    private Boolean stream; // true 면 SSE 로 토큰 단위 응답을 받음
+
+    /**
+     * prompt caching breakpoint. 요청의 처음부터 이 블록까지가 캐시됨 (tools -> system -> messages 순서)
+     * 요청 하나에 최대 4개까지 사용 가능.
+     */
+    @Data
+    @Builder
+    public static class CacheControl {
+        private String type; // ephemeral
+
+        public static CacheControl ephemeral() {
+            return CacheControl.builder().type("ephemeral").build();
+        }
+    }
+
+    // cache_control 을 걸 수 있는 content
+    public interface CacheableContent {
+        void setCache_control(CacheControl cacheControl);
+    }
 
     @Data
     @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Tool {
         String name;
         String description;
         InputSchema input_schema;
+        CacheControl cache_control;
     }
     @Data
     @Builder
@@ -55,31 +79,40 @@ public class ClaudeRequestApiDto {
     }
     @Data
     @Builder
-    public static class TextContent {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class TextContent implements CacheableContent {
         private String type; // text
         private String text; // LLM에 보낼 텍스트
+        private CacheControl cache_control;
     }
     @Data
     @Builder
-    public static class ImageContent {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ImageContent implements CacheableContent {
         private String type; // image
         private Source source; // 이미지가 있을때 사용
+        private CacheControl cache_control;
     }
     @Data
     @Builder
-    public static class ToolUseContent {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ToolUseContent implements CacheableContent {
         private String type; // tool_use
         private String id;
         private String name; // 툴 이름을 넣어주면됨
         private Map<String, Object> input;
+        private CacheControl cache_control;
     }
     @Data
     @Builder
-    public static class ToolResultContent {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ToolResultContent implements CacheableContent {
         private String type; // tool_result
         private String tool_use_id;
         // 무조건 SequentialThinkingServer 의 processThought 를 사용해야함
         private List<Map<String, Object>> content;
+        private Boolean is_error; // tool 실행 실패시 true (content 는 그대로 text 블록)
+        private CacheControl cache_control;
     }
 
     @Data
@@ -87,6 +120,11 @@ public class ClaudeRequestApiDto {
     public static class Source {
         private String type; // "base64"
         private String media_type; // MIME 타입 (예: "image/jpeg")
-        private String data; // Base64로 인코딩된 이미지 데이터
+        /**
+         * 이미지 원본 바이트. Jackson 이 byte[] 를 base64 로 요청 본문에 바로 써주므로
+         * base64 String 을 따로 만들지 않음 (재시도, tool 루프에서 다시 보낼 때도 마찬가지)
+         */
+        @ToString.Exclude
+        private byte[] data;
     }
 }
\ No newline at end of file
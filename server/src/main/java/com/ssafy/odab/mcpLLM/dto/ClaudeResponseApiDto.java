@@ -27,8 +27,10 @@ public class ClaudeResponseApiDto {
 
     @Data
     public static class Usage {
-        public int input_tokens;    //input 토큰 수
+        public int input_tokens;    //input 토큰 수 (캐시에서 읽거나 캐시에 쓴 토큰 제외)
         public int output_tokens;   //output 토큰 수
+        public int cache_creation_input_tokens; // 이번 요청에서 캐시에 쓴 토큰 수
+        public int cache_read_input_tokens;     // 캐시에서 읽은 토큰 수
     }
 
 //    @Data
@@ -0,0 +1,34 @@
+package com.ssafy.odab.mcpLLM.dto;
+
+import lombok.Data;
+
+/**
+ * stream: true 요청시 SSE 로 내려오는 이벤트 하나.
+ * message_start / content_block_start / content_block_delta / content_block_stop
+ * / message_delta / message_stop / ping / error
+ */
+@Data
+public class ClaudeStreamEventDto {
+    private String type;
+    private Integer index;                              // content block 순서
+    private ClaudeResponseApiDto message;               // message_start 인 경우
+    private ClaudeResponseApiDto.Content content_block; // content_block_start 인 경우
+    private Delta delta;                                // content_block_delta, message_delta 인 경우
+    private ClaudeResponseApiDto.Usage usage;           // message_delta 인 경우 (output_tokens)
+    private Error error;                                // error 인 경우
+
+    @Data
+    public static class Delta {
+        private String type;            // "text_delta" or "input_json_delta"
+        private String text;            // text_delta 의 토큰
+        private String partial_json;    // input_json_delta 의 tool input 조각
+        private String stop_reason;     // message_delta 인 경우
+        private String stop_sequence;   // message_delta 인 경우
+    }
+
+    @Data
+    public static class Error {
+        private String type;
+        private String message;
+    }
+}
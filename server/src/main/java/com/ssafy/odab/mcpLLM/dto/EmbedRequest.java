@@ -0,0 +1,14 @@
+package com.ssafy.odab.mcpLLM.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmbedRequest {
+    private List<String> texts;
+}
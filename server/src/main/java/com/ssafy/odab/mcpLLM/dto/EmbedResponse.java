@@ -0,0 +1,14 @@
+package com.ssafy.odab.mcpLLM.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 응답 DTO (정규화된 float32 벡터, texts 순서와 같음)
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmbedResponse {
+    private Integer dimension;
+    private float[][] vectors;
+}
@@ -0,0 +1,72 @@
+package com.ssafy.odab.mcpLLM.image;
+
+/**
+ * JPEG 의 APP1(Exif) 세그먼트에서 Orientation(0x0112) 값만 읽음. 없거나 읽을 수 없으면 1 (회전 없음)
+ */
+final class ExifOrientation {
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    static int read(byte[] jpeg) {
+        try {
+            int offset = 2; // SOI(FFD8) 다음부터
+            while (offset + 4 <= jpeg.length) {
+                if ((jpeg[offset] & 0xFF) != 0xFF) {
+                    return 1;
+                }
+                int marker = jpeg[offset + 1] & 0xFF;
+                // SOS 이후는 이미지 데이터
+                if (marker == 0xDA || marker == 0xD9) {
+                    return 1;
+                }
+                int length = readShort(jpeg, offset + 2, false);
+                if (marker == 0xE1 && isExifHeader(jpeg, offset + 4)) {
+                    return readOrientation(jpeg, offset + 10, offset + 2 + length);
+                }
+                offset += 2 + length;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            // 잘린 EXIF 는 무시
+        }
+        return 1;
+    }
+
+    private static boolean isExifHeader(byte[] bytes, int offset) {
+        return bytes[offset] == 'E' && bytes[offset + 1] == 'x' && bytes[offset + 2] == 'i' && bytes[offset + 3] == 'f'
+                && bytes[offset + 4] == 0 && bytes[offset + 5] == 0;
+    }
+
+    /**
+     * tiff 부터 시작하는 TIFF 헤더와 IFD0 를 읽음
+     */
+    private static int readOrientation(byte[] bytes, int tiff, int end) {
+        boolean littleEndian = bytes[tiff] == 'I' && bytes[tiff + 1] == 'I';
+        int ifd = tiff + readInt(bytes, tiff + 4, littleEndian);
+        int entries = readShort(bytes, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readShort(bytes, entry, littleEndian) == ORIENTATION_TAG) {
+                int orientation = readShort(bytes, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int b0 = bytes[offset] & 0xFF;
+        int b1 = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] bytes, int offset, boolean littleEndian) {
+        int first = readShort(bytes, offset, littleEndian);
+        int second = readShort(bytes, offset + 2, littleEndian);
+        return littleEndian ? (second << 16) | first : (first << 16) | second;
+    }
+}
@@ -7,8 +7,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Base64;
@@ -17,14 +17,22 @@ import java.util.Base64;
 @RequiredArgsConstructor
 public class ImageEncode {
     private final AmazonS3 amazonS3;
+    private final ImagePreprocessor imagePreprocessor;
 
     public String encodeImageToBase64(String imagePath) throws IOException {
+        return Base64.getEncoder().encodeToString(readImage(imagePath));
+    }
+
+    /**
+     * 이미지 원본 바이트. Claude 요청에는 base64 String 대신 이 바이트를 그대로 넣음 (ClaudeRequestApiDto.Source)
+     */
+    public byte[] readImage(String imagePath) throws IOException {
         if (imagePath.startsWith("http")) {
             // S3 URL인 경우
-            return encodeS3ImageToBase64(imagePath);
+            return readS3Image(imagePath);
         } else {
             // 로컬 파일인 경우
-            return encodeLocalImageToBase64(imagePath);
+            return Files.readAllBytes(Path.of(imagePath));
         }
     }
 
@@ -33,30 +41,47 @@ public class ImageEncode {
         return Base64.getEncoder().encodeToString(fileContent);
     }
 
-    private String encodeS3ImageToBase64(String s3Url) throws IOException {
+    /**
+     * Claude 로 보낼 이미지 (ImagePreprocessor 로 축소, 재인코딩)
+     */
+    public PreparedImage prepareImage(MultipartFile file) throws IOException {
+        return prepareImage(file.getBytes());
+    }
+
+    public PreparedImage prepareImage(byte[] original) {
+        return imagePreprocessor.prepare(original);
+    }
+
+    /**
+     * 중복 검사 키. 디코딩할 수 없는 이미지는 perceptual hash 없이 원본 SHA-256 만 씀
+     */
+    public ImageHash hashImage(byte[] original) {
+        try {
+            return ImageHash.of(original, prepareImage(original));
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            return new ImageHash(ImageHash.sha256(original), null);
+        }
+    }
+
+    private byte[] readS3Image(String s3Url) throws IOException {
         String bucket = s3Url.split("/")[2].split("\\.")[0];
         String key = s3Url.substring(s3Url.indexOf("/", 8) + 1);
-        
+
         try (S3Object s3Object = amazonS3.getObject(bucket, key);
-             S3ObjectInputStream inputStream = s3Object.getObjectContent();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            
-            byte[] buffer = new byte[4096];
-            int bytesRead;
-            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
+             S3ObjectInputStream inputStream = s3Object.getObjectContent()) {
+            // 크기를 알면 딱 맞는 배열 하나에 바로 읽음 (ByteArrayOutputStream 의 증설, toByteArray 복사 없음)
+            long contentLength = s3Object.getObjectMetadata().getContentLength();
+            if (contentLength > 0 && contentLength <= Integer.MAX_VALUE) {
+                byte[] imageBytes = inputStream.readNBytes((int) contentLength);
+                if (imageBytes.length != contentLength) {
+                    throw new IOException("S3 객체를 끝까지 읽지 못했습니다: " + key);
+                }
+                return imageBytes;
             }
-            
-            byte[] imageBytes = outputStream.toByteArray();
-            return Base64.getEncoder().encodeToString(imageBytes);
+            return inputStream.readAllBytes();
         }
     }
 
-    private String encodeLocalImageToBase64(String imagePath) throws IOException {
-        byte[] fileContent = Files.readAllBytes(Path.of(imagePath));
-        return Base64.getEncoder().encodeToString(fileContent);
-    }
-
     public String getMimeType(String imagePath) {
         if (imagePath.startsWith("http")) {
             // S3 URL인 경우
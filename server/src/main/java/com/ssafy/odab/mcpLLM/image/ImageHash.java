@@ -0,0 +1,29 @@
+package com.ssafy.odab.mcpLLM.image;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 업로드된 이미지의 중복 검사 키.
+ * contentHash 는 원본 바이트의 SHA-256 (완전히 같은 파일), perceptualHash 는 average hash (다시 저장된 비슷한 사진)
+ */
+public record ImageHash(String contentHash, Long perceptualHash) {
+
+    public static ImageHash of(byte[] original, PreparedImage prepared) {
+        return new ImageHash(sha256(original), prepared.perceptualHash());
+    }
+
+    public static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String sha256(String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
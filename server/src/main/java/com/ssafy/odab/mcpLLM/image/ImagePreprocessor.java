@@ -0,0 +1,245 @@
+package com.ssafy.odab.mcpLLM.image;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Claude 로 보내기 전에 이미지를 줄임.
+ * 1. magic number 로 실제 형식을 확인 (업로드의 Content-Type 은 믿지 않음)
+ * 2. 원본 크기를 먼저 읽고 필요한 만큼만 건너뛰며 디코딩 (5MB 사진을 원본 해상도로 올리지 않음)
+ * 3. EXIF 방향대로 회전하고 모델이 실제로 보는 해상도(긴 변 max-long-edge, 총 max-pixels)로 축소
+ * 4. 흑백(옵션) JPEG 로 다시 인코딩. 새로 쓰므로 EXIF(위치 정보 등) 메타데이터는 남지 않음
+ * 5. 줄인 이미지로 중복 검사용 perceptual hash 를 계산
+ * JDK 가 디코딩하지 못하는 형식(webp)은 Claude 가 받는 형식이면 그대로 보냄
+ */
+@Component
+public class ImagePreprocessor {
+    private static final Logger logger = LoggerFactory.getLogger(ImagePreprocessor.class);
+    private static final Set<String> CLAUDE_MEDIA_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+    private static final String OUTPUT_MEDIA_TYPE = "image/jpeg";
+
+    private final boolean enabled;
+    private final int maxLongEdge;
+    private final long maxPixels;
+    private final long maxSourcePixels;
+    private final boolean grayscale;
+    private final float jpegQuality;
+
+    public ImagePreprocessor(@Value("${image.preprocess.enabled:true}") boolean enabled,
+                             @Value("${image.preprocess.max-long-edge:1568}") int maxLongEdge,
+                             @Value("${image.preprocess.max-pixels:1150000}") long maxPixels,
+                             @Value("${image.preprocess.max-source-pixels:50000000}") long maxSourcePixels,
+                             @Value("${image.preprocess.grayscale:true}") boolean grayscale,
+                             @Value("${image.preprocess.jpeg-quality:0.85}") float jpegQuality) {
+        this.enabled = enabled;
+        this.maxLongEdge = maxLongEdge;
+        this.maxPixels = maxPixels;
+        this.maxSourcePixels = maxSourcePixels;
+        this.grayscale = grayscale;
+        this.jpegQuality = jpegQuality;
+        // 디코딩 중간 결과를 임시 파일로 쓰지 않음
+        ImageIO.setUseCache(false);
+    }
+
+    public PreparedImage prepare(byte[] original) {
+        String mediaType = detectMediaType(original);
+        if (mediaType == null) {
+            throw new IllegalArgumentException("이미지 형식을 확인할 수 없습니다.");
+        }
+        if (!enabled) {
+            return passThrough(original, mediaType);
+        }
+        try {
+            BufferedImage decoded = decode(original);
+            if (decoded == null) {
+                return passThrough(original, mediaType);
+            }
+            int orientation = "image/jpeg".equals(mediaType) ? ExifOrientation.read(original) : 1;
+            BufferedImage oriented = orient(decoded, orientation);
+            // 회전, 축소가 끝난 이미지 기준이라 다시 저장하거나 돌려서 저장한 사진도 비슷한 값이 나옴
+            long perceptualHash = PerceptualHash.of(oriented);
+            byte[] encoded = encodeJpeg(oriented);
+            // 작은 PNG(캡처 화면 등)는 다시 인코딩하면 오히려 커질 수 있음. 이미 충분히 작고 회전할 필요가 없으면 원본 사용
+            if (!"image/jpeg".equals(mediaType) && orientation == 1 && encoded.length >= original.length
+                    && CLAUDE_MEDIA_TYPES.contains(mediaType) && withinLimits(decoded)) {
+                return new PreparedImage(original, mediaType, perceptualHash);
+            }
+            logger.debug("이미지 전처리: {} {}B -> {} {}B", mediaType, original.length, OUTPUT_MEDIA_TYPE, encoded.length);
+            return new PreparedImage(encoded, OUTPUT_MEDIA_TYPE, perceptualHash);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 처리 실패", e);
+        }
+    }
+
+    /**
+     * 앞부분 바이트로 형식을 판별함. 모르면 null
+     */
+    public static String detectMediaType(byte[] bytes) {
+        if (bytes == null || bytes.length < 12) {
+            return null;
+        }
+        if ((bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xD8 && (bytes[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if ((bytes[0] & 0xFF) == 0x89 && bytes[1] == 'P' && bytes[2] == 'N' && bytes[3] == 'G') {
+            return "image/png";
+        }
+        if (bytes[0] == 'G' && bytes[1] == 'I' && bytes[2] == 'F' && bytes[3] == '8') {
+            return "image/gif";
+        }
+        if (bytes[0] == 'R' && bytes[1] == 'I' && bytes[2] == 'F' && bytes[3] == 'F'
+                && bytes[8] == 'W' && bytes[9] == 'E' && bytes[10] == 'B' && bytes[11] == 'P') {
+            return "image/webp";
+        }
+        if (bytes[0] == 'B' && bytes[1] == 'M') {
+            return "image/bmp";
+        }
+        return null;
+    }
+
+    private PreparedImage passThrough(byte[] original, String mediaType) {
+        if (!CLAUDE_MEDIA_TYPES.contains(mediaType)) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + mediaType);
+        }
+        return new PreparedImage(original, mediaType, null);
+    }
+
+    /**
+     * 목표 크기의 2배 이상 크면 그만큼 픽셀을 건너뛰며 읽음. 남은 축소는 orient 에서 보간으로 처리
+     */
+    private BufferedImage decode(byte[] original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+                }
+                int subsampling = Math.max(1, (int) Math.floor(1 / scale(width, height)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 축소 비율 (1 이하)
+    private double scale(int width, int height) {
+        double byEdge = (double) maxLongEdge / Math.max(width, height);
+        double byPixels = Math.sqrt((double) maxPixels / ((long) width * height));
+        return Math.min(1.0, Math.min(byEdge, byPixels));
+    }
+
+    private boolean withinLimits(BufferedImage image) {
+        return scale(image.getWidth(), image.getHeight()) >= 1.0;
+    }
+
+    /**
+     * EXIF orientation(1~8) 대로 돌리면서 목표 크기로 축소해서 새 이미지에 그림
+     */
+    private BufferedImage orient(BufferedImage source, int orientation) {
+        double scale = scale(source.getWidth(), source.getHeight());
+        // 반올림하면 가로 세로 곱이 max-pixels 를 조금 넘을 수 있어 내림
+        int width = Math.max(1, (int) Math.floor(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.floor(source.getHeight() * scale));
+        boolean swap = orientation >= 5 && orientation <= 8;
+
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> {
+                transform.scale(-1, 1);
+                transform.translate(-width, 0);
+            }
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> {
+                transform.scale(1, -1);
+                transform.translate(0, -height);
+            }
+            case 5 -> {
+                transform.rotate(-Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> {
+                transform.scale(-1, 1);
+                transform.translate(-height, 0);
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+            case 8 -> {
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+            default -> {
+                // 1: 그대로
+            }
+        }
+        transform.scale((double) width / source.getWidth(), (double) height / source.getHeight());
+
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height,
+                grayscale ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            // 투명한 부분은 흰 종이처럼 보이게 함
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, target.getWidth(), target.getHeight());
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
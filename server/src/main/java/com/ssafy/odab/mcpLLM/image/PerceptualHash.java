@@ -0,0 +1,54 @@
+package com.ssafy.odab.mcpLLM.image;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.util.Arrays;
+
+/**
+ * 64bit average hash (중앙값 기준).
+ * 이미지를 8x8 칸으로 나눠 칸별 평균 밝기를 구하고, 중앙값보다 밝은 칸을 1 로 씀.
+ * 문제지처럼 밝기가 고른 이미지는 이웃 칸을 비교하는 dHash 보다 다시 저장, 축소했을 때 값이 덜 흔들림.
+ * 8x8 밝기는 문제지의 배치만 반영하므로 같은 양식에 숫자만 다른 문제도 같은 값이 나올 수 있음.
+ * 그래서 이 값만으로 같은 문제라고 판단하지 않고, 문제 텍스트 hash 와 함께 확인할 때만 씀
+ */
+final class PerceptualHash {
+    private static final int SIZE = 8;
+
+    private PerceptualHash() {
+    }
+
+    static long of(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[] sums = new double[SIZE * SIZE];
+        int[] counts = new int[SIZE * SIZE];
+        boolean gray = image.getType() == BufferedImage.TYPE_BYTE_GRAY;
+        Raster raster = image.getRaster();
+        for (int y = 0; y < height; y++) {
+            int row = y * SIZE / height;
+            for (int x = 0; x < width; x++) {
+                int cell = row * SIZE + x * SIZE / width;
+                sums[cell] += gray ? raster.getSample(x, y, 0) : luminance(image.getRGB(x, y));
+                counts[cell]++;
+            }
+        }
+
+        double[] means = new double[SIZE * SIZE];
+        for (int cell = 0; cell < means.length; cell++) {
+            means[cell] = sums[cell] / Math.max(1, counts[cell]);
+        }
+        double[] sorted = means.clone();
+        Arrays.sort(sorted);
+        double median = (sorted[sorted.length / 2 - 1] + sorted[sorted.length / 2]) / 2;
+
+        long hash = 0;
+        for (double mean : means) {
+            hash = (hash << 1) | (mean > median ? 1 : 0);
+        }
+        return hash;
+    }
+
+    private static double luminance(int rgb) {
+        return 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+    }
+}
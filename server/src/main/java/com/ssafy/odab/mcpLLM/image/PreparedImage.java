@@ -0,0 +1,8 @@
+package com.ssafy.odab.mcpLLM.image;
+
+/**
+ * Claude 로 보낼 이미지. mediaType 은 실제 바이트(magic number) 기준
+ * perceptualHash 는 디코딩하지 못해 원본을 그대로 보내는 경우(webp 등) null
+ */
+public record PreparedImage(byte[] bytes, String mediaType, Long perceptualHash) {
+}
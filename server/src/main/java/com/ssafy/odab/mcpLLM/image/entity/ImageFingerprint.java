@@ -0,0 +1,108 @@
+package com.ssafy.odab.mcpLLM.image.entity;
+
+import com.ssafy.odab.domain.question.entity.Question;
+import com.ssafy.odab.mcpLLM.image.ImageHash;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드된 문제 이미지 한 장(원본 바이트 기준)과 그 이미지로 얻은 결과.
+ * 같은 사진이 다시 올라오면 OCR 결과, 풀이한 문제의 텍스트와 풀이를 재사용함 (이미지는 올린 회원의 것을 씀).
+ * perceptual hash 는 16bit 씩 4조각(band)으로도 저장함. 해밍 거리가 3 이하면 적어도 한 조각은 같으므로
+ * 조각별 인덱스로 후보를 고른 뒤 전체 거리를 계산함
+ */
+@Entity
+@Table(name = "image_fingerprint",
+        indexes = {
+                @Index(name = "idx_image_fingerprint_band0", columnList = "phash_band0"),
+                @Index(name = "idx_image_fingerprint_band1", columnList = "phash_band1"),
+                @Index(name = "idx_image_fingerprint_band2", columnList = "phash_band2"),
+                @Index(name = "idx_image_fingerprint_band3", columnList = "phash_band3")
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_fingerprint_content", columnNames = "content_hash"))
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImageFingerprint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_fingerprint_id")
+    private Long id;
+
+    // 원본 바이트의 SHA-256 (hex)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "perceptual_hash", nullable = true)
+    private Long perceptualHash;
+
+    @Column(name = "phash_band0", nullable = true)
+    private Integer band0;
+
+    @Column(name = "phash_band1", nullable = true)
+    private Integer band1;
+
+    @Column(name = "phash_band2", nullable = true)
+    private Integer band2;
+
+    @Column(name = "phash_band3", nullable = true)
+    private Integer band3;
+
+    // 문제 텍스트 추출(/api/claude/text) 결과
+    @Lob
+    @Column(name = "ocr_text", nullable = true, columnDefinition = "TEXT")
+    private String ocrText;
+
+    // 이 이미지로 풀이해서 저장한 문제와 그때의 문제 텍스트(SHA-256). 문제 텍스트가 같을 때만 풀이를 재사용함
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "question_id", nullable = true)
+    private Question question;
+
+    @Column(name = "ask_hash", nullable = true, length = 64)
+    private String askHash;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static ImageFingerprint of(ImageHash hash) {
+        Long perceptualHash = hash.perceptualHash();
+        return ImageFingerprint.builder()
+                .contentHash(hash.contentHash())
+                .perceptualHash(perceptualHash)
+                .band0(band(perceptualHash, 0))
+                .band1(band(perceptualHash, 1))
+                .band2(band(perceptualHash, 2))
+                .band3(band(perceptualHash, 3))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    // index 번째 16bit 조각 (0 ~ 65535)
+    public static Integer band(Long perceptualHash, int index) {
+        if (perceptualHash == null) {
+            return null;
+        }
+        return (int) ((perceptualHash >>> (16 * index)) & 0xFFFF);
+    }
+
+    public int distanceTo(long otherPerceptualHash) {
+        return perceptualHash == null ? Long.SIZE : Long.bitCount(perceptualHash ^ otherPerceptualHash);
+    }
+
+    public void updateOcrText(String ocrText) {
+        this.ocrText = ocrText;
+    }
+
+    public void updateSolved(Question question, String askHash) {
+        this.question = question;
+        this.askHash = askHash;
+    }
+}
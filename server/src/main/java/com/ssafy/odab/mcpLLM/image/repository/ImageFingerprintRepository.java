@@ -0,0 +1,24 @@
+package com.ssafy.odab.mcpLLM.image.repository;
+
+import com.ssafy.odab.mcpLLM.image.entity.ImageFingerprint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageFingerprintRepository extends JpaRepository<ImageFingerprint, Long> {
+
+    // uk_image_fingerprint_content 으로 조회
+    Optional<ImageFingerprint> findByContentHash(String contentHash);
+
+    // perceptual hash 조각 중 하나라도 같은 후보 (idx_image_fingerprint_band0~3). 최근 것부터
+    @Query("select f from ImageFingerprint f " +
+            " where f.band0 = :band0 or f.band1 = :band1 or f.band2 = :band2 or f.band3 = :band3 " +
+            " order by f.id desc")
+    List<ImageFingerprint> findByAnyBand(@Param("band0") Integer band0, @Param("band1") Integer band1,
+                                         @Param("band2") Integer band2, @Param("band3") Integer band3,
+                                         Pageable pageable);
+}
@@ -0,0 +1,28 @@
+package com.ssafy.odab.mcpLLM.image.service;
+
+import com.ssafy.odab.mcpLLM.image.ImageHash;
+import com.ssafy.odab.mcpLLM.image.entity.ImageFingerprint;
+
+import java.util.Optional;
+
+/**
+ * 이미지 hash -> OCR 결과, 풀이한 문제 색인.
+ * OCR 결과는 완전히 같은 파일만 재사용함. 풀이는 같은 파일을 먼저 찾고, 없으면 perceptual hash 가 가까운 이미지 중
+ * OCR 결과까지 같은 기록을 찾음.
+ * Reactor 파이프라인에서는 jpaScheduler 위에서 호출해야 함.
+ */
+public interface ImageFingerprintService {
+
+    // 원본 바이트가 같은(contentHash) 이미지의 OCR 결과
+    Optional<String> findOcrText(ImageHash hash);
+
+    void saveOcrText(ImageHash hash, String ocrText);
+
+    /**
+     * 같은 이미지를 같은 문제 텍스트(ask)로 풀이해서 저장한 기록. 비슷한 이미지는 이 파일과 후보의 OCR 결과가 같을 때만 찾음.
+     * question 을 쓰려면 호출한 쪽 트랜잭션 안이어야 함
+     */
+    Optional<ImageFingerprint> findSolved(ImageHash hash, String ask);
+
+    void saveSolved(ImageHash hash, String ask, Integer questionId);
+}
@@ -0,0 +1,121 @@
+package com.ssafy.odab.mcpLLM.image.service;
+
+import com.ssafy.odab.domain.question.repository.QuestionRepository;
+import com.ssafy.odab.mcpLLM.image.ImageHash;
+import com.ssafy.odab.mcpLLM.image.entity.ImageFingerprint;
+import com.ssafy.odab.mcpLLM.image.repository.ImageFingerprintRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ImageFingerprintServiceImpl implements ImageFingerprintService {
+    // band 4조각으로 찾을 수 있는 최대 해밍 거리
+    private static final int MAX_INDEXED_DISTANCE = 3;
+    private static final int MAX_CANDIDATES = 50;
+
+    private final ImageFingerprintRepository imageFingerprintRepository;
+    private final QuestionRepository questionRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${image.dedupe.enabled:true}")
+    private boolean enabled;
+    // 비슷한 이미지로 볼 perceptual hash 해밍 거리. 음수면 완전히 같은 파일만 재사용
+    @Value("${image.dedupe.max-distance:2}")
+    private int maxDistance;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findOcrText(ImageHash hash) {
+        // 8x8 밝기 hash 는 문제지 배치만 반영하므로 숫자 하나 다른 문제도 같은 값이 나옴.
+        // OCR 결과는 확인할 다른 단서가 없으므로 완전히 같은 파일일 때만 재사용함
+        Optional<ImageFingerprint> exact = enabled
+                ? findExact(hash).filter(fingerprint -> fingerprint.getOcrText() != null)
+                : Optional.empty();
+        return count("ocr", exact)
+                .map(ImageFingerprint::getOcrText);
+    }
+
+    @Override
+    @Transactional
+    public void saveOcrText(ImageHash hash, String ocrText) {
+        getOrCreate(hash).updateOcrText(ocrText);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ImageFingerprint> findSolved(ImageHash hash, String ask) {
+        if (!enabled) {
+            return count("solve", Optional.empty());
+        }
+        String askHash = ImageHash.sha256(ask.strip());
+        Predicate<ImageFingerprint> solved = fingerprint -> fingerprint.getQuestion() != null
+                && askHash.equals(fingerprint.getAskHash());
+        Optional<ImageFingerprint> exact = findExact(hash);
+        Optional<ImageFingerprint> found = exact.filter(solved);
+        if (found.isEmpty()) {
+            // 8x8 밝기 hash 는 숫자 하나 다른 문제도 같은 값이 나오고, ask 는 대부분 "풀어줘" 같은 말이라 단서가 되지 않음.
+            // 비슷한 이미지는 이 파일의 OCR 결과가 있고 후보의 OCR 결과와 같을 때만 같은 문제로 봄
+            found = exact.map(ImageFingerprint::getOcrText)
+                    .map(String::strip)
+                    .flatMap(ocrText -> similar(hash)
+                            .filter(solved)
+                            .filter(fingerprint -> fingerprint.getOcrText() != null
+                                    && ocrText.equals(fingerprint.getOcrText().strip()))
+                            .findFirst());
+        }
+        return count("solve", found);
+    }
+
+    @Override
+    @Transactional
+    public void saveSolved(ImageHash hash, String ask, Integer questionId) {
+        getOrCreate(hash).updateSolved(questionRepository.getReferenceById(questionId), ImageHash.sha256(ask.strip()));
+    }
+
+    private Optional<ImageFingerprint> findExact(ImageHash hash) {
+        return imageFingerprintRepository.findByContentHash(hash.contentHash());
+    }
+
+    private Stream<ImageFingerprint> similar(ImageHash hash) {
+        Long perceptualHash = hash.perceptualHash();
+        int distance = Math.min(maxDistance, MAX_INDEXED_DISTANCE);
+        if (perceptualHash == null || distance < 0) {
+            return Stream.empty();
+        }
+        return imageFingerprintRepository.findByAnyBand(
+                        ImageFingerprint.band(perceptualHash, 0), ImageFingerprint.band(perceptualHash, 1),
+                        ImageFingerprint.band(perceptualHash, 2), ImageFingerprint.band(perceptualHash, 3),
+                        PageRequest.of(0, MAX_CANDIDATES))
+                .stream()
+                .filter(fingerprint -> !Objects.equals(fingerprint.getContentHash(), hash.contentHash()))
+                .filter(fingerprint -> fingerprint.distanceTo(perceptualHash) <= distance)
+                .sorted(Comparator.comparingInt(fingerprint -> fingerprint.distanceTo(perceptualHash)));
+    }
+
+    // image.dedupe{type=ocr|solve, result=hit|miss}
+    private Optional<ImageFingerprint> count(String type, Optional<ImageFingerprint> found) {
+        Counter.builder("image.dedupe")
+                .tag("type", type)
+                .tag("result", found.isPresent() ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+        return found;
+    }
+
+    private ImageFingerprint getOrCreate(ImageHash hash) {
+        return imageFingerprintRepository.findByContentHash(hash.contentHash())
+                .orElseGet(() -> imageFingerprintRepository.save(ImageFingerprint.of(hash)));
+    }
+}
@@ -1,13 +1,41 @@
 package com.ssafy.odab.mcpLLM.mcpServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.odab.mcpLLM.dto.ClaudeRequestApiDto;
 import com.ssafy.odab.mcpLLM.dto.ThoughtData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.*;
 
+/**
+ * sequentialThinking tool 구현.
+ * 생각 기록은 대화(sessionId)별로 따로 보관하고, 오래 쓰이지 않거나 세션이 너무 많아지면 버림.
+ */
 @Component
 public class SequentialThinkingServer {
-    private final List<ThoughtData> thoughtHistory = new ArrayList<>();
-    private final Map<String, List<ThoughtData>> branches = new HashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(SequentialThinkingServer.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Cache<String, ThinkingSession> sessions;
+    private final int maxThoughts;
+    private final int maxBranches;
+
+    public SequentialThinkingServer(@Value("${sequential-thinking.session-ttl-minutes:10}") long sessionTtlMinutes,
+                                    @Value("${sequential-thinking.max-sessions:1000}") long maxSessions,
+                                    @Value("${sequential-thinking.max-thoughts:50}") int maxThoughts,
+                                    @Value("${sequential-thinking.max-branches:10}") int maxBranches) {
+        this.sessions = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(sessionTtlMinutes))
+                .maximumSize(maxSessions)
+                .build();
+        this.maxThoughts = maxThoughts;
+        this.maxBranches = maxBranches;
+    }
 
     private ThoughtData validateThoughtData(Map<String, Object> input) {
         if (!(input.get("thought") instanceof String)) {
@@ -66,8 +94,14 @@ public class SequentialThinkingServer {
                 border, header, border, td.thought, border);
     }
 
-    public Map<String, Object> processThought(Map<String, Object> input, String toolUseId) {
-        Map<String, Object> result = new HashMap<>();
+    /**
+     * sessionId 는 대화 하나를 구분하는 값. 대화가 끝나면 endSession 으로 정리해야 함
+     * 검증 실패, 세션 한도 초과는 tool_result 의 is_error 로 알려서 그 생각만 거절하고 대화는 계속함
+     * (content 에 type=error 블록을 넣으면 Messages API 가 400 을 돌려줌)
+     */
+    public ClaudeRequestApiDto.ToolResultContent processThought(String sessionId, String toolUseId, Map<String, Object> input) {
+        String text;
+        Boolean isError = null;
         try {
             ThoughtData data = validateThoughtData(input);
 
@@ -75,37 +109,50 @@ public class SequentialThinkingServer {
                 data.totalThoughts = data.thoughtNumber;
             }
 
-            thoughtHistory.add(data);
+            ThinkingSession session = sessions.get(sessionId, id -> new ThinkingSession(maxThoughts, maxBranches));
+            session.add(data);
 
-            if (data.branchFromThought != null && data.branchId != null) {
-                branches.computeIfAbsent(data.branchId, k -> new ArrayList<>()).add(data);
+            if (logger.isDebugEnabled()) {
+                logger.debug("[{}]\n{}", sessionId, formatThought(data));
             }
 
-            System.err.println(formatThought(data));
-
             Map<String, Object> content = new LinkedHashMap<>();
             content.put("thoughtNumber", data.thoughtNumber);
             content.put("totalThoughts", data.totalThoughts);
             content.put("nextThoughtNeeded", data.nextThoughtNeeded);
-            content.put("branches", branches.keySet());
-            content.put("thoughtHistoryLength", thoughtHistory.size());
-
-            result.put("type", "text");
-            result.put("text", prettyPrintJson(content));
+            content.put("branches", session.getBranchIds());
+            content.put("thoughtHistoryLength", session.getThoughtHistoryLength());
+            text = prettyPrintJson(content);
         } catch (Exception e) {
-            e.printStackTrace();
-            result.put("isError", true);
-            result.put("type", "error");
-            result.put("text", prettyPrintJson(Map.of(
-                    "error", e.getMessage(),
-                    "status", "failed")));
+            logger.warn("sequentialThinking 실패 [{}]: {}", sessionId, e.getMessage());
+            isError = true;
+            text = prettyPrintJson(Map.of(
+                    "error", String.valueOf(e.getMessage()),
+                    "status", "failed"));
         }
-        return result;
+
+        Map<String, Object> textBlock = new LinkedHashMap<>();
+        textBlock.put("type", "text");
+        textBlock.put("text", text);
+        return ClaudeRequestApiDto.ToolResultContent.builder()
+                .type("tool_result")
+                .tool_use_id(toolUseId)
+                .content(List.of(textBlock))
+                .is_error(isError)
+                .build();
+    }
+
+    public void endSession(String sessionId) {
+        sessions.invalidate(sessionId);
+    }
+
+    public long sessionCount() {
+        return sessions.estimatedSize();
     }
 
     private String prettyPrintJson(Object obj) {
         try {
-            return new com.fasterxml.jackson.databind.ObjectMapper()
+            return OBJECT_MAPPER
                     .writerWithDefaultPrettyPrinter()
                     .writeValueAsString(obj);
         } catch (Exception e) {
@@ -0,0 +1,50 @@
+package com.ssafy.odab.mcpLLM.mcpServer;
+
+import com.ssafy.odab.mcpLLM.dto.ThoughtData;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대화 한 건의 sequentialThinking 기록.
+ * 같은 대화의 tool 호출은 순서대로 오지만, 만료 처리와 겹칠 수 있어 메소드 단위로 동기화함.
+ */
+public class ThinkingSession {
+    private final int maxThoughts;
+    private final int maxBranches;
+    private final List<ThoughtData> thoughtHistory = new ArrayList<>();
+    private final Map<String, List<ThoughtData>> branches = new LinkedHashMap<>();
+
+    public ThinkingSession(int maxThoughts, int maxBranches) {
+        this.maxThoughts = maxThoughts;
+        this.maxBranches = maxBranches;
+    }
+
+    /**
+     * 생각을 기록함. 세션 한도를 넘으면 IllegalStateException
+     */
+    public synchronized void add(ThoughtData data) {
+        if (thoughtHistory.size() >= maxThoughts) {
+            throw new IllegalStateException("Thought limit exceeded: max " + maxThoughts + " thoughts per session");
+        }
+        if (data.branchFromThought != null && data.branchId != null) {
+            if (!branches.containsKey(data.branchId) && branches.size() >= maxBranches) {
+                throw new IllegalStateException("Branch limit exceeded: max " + maxBranches + " branches per session");
+            }
+            branches.computeIfAbsent(data.branchId, k -> new ArrayList<>()).add(data);
+        }
+        thoughtHistory.add(data);
+    }
+
+    public synchronized int getThoughtHistoryLength() {
+        return thoughtHistory.size();
+    }
+
+    public synchronized Set<String> getBranchIds() {
+        return new LinkedHashSet<>(branches.keySet());
+    }
+}
@@ -0,0 +1,14 @@
+package com.ssafy.odab.mcpLLM.rag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 유사 문제 검색 결과 (similarity 는 코사인 유사도, 1 에 가까울수록 유사)
+@Getter
+@ToString
+@AllArgsConstructor
+public class RagMatch {
+    private Integer questionId;
+    private float similarity;
+}
@@ -0,0 +1,12 @@
+package com.ssafy.odab.mcpLLM.rag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 벡터 인덱스 적재용 (문제 id, 문제 텍스트)
+@Getter
+@AllArgsConstructor
+public class RagQuestionTextDto {
+    private Integer questionId;
+    private String questionText;
+}
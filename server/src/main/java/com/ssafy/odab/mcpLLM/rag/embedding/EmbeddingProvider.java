@@ -0,0 +1,16 @@
+package com.ssafy.odab.mcpLLM.rag.embedding;
+
+import java.util.List;
+
+/**
+ * 문제 텍스트를 벡터로 바꿔줌. 반환 벡터는 L2 정규화되어 있어야 함 (내적 = 코사인 유사도)
+ * rag.embedding.provider 로 구현체를 선택함 (remote / hashing)
+ */
+public interface EmbeddingProvider {
+
+    List<float[]> embedAll(List<String> texts);
+
+    default float[] embed(String text) {
+        return embedAll(List.of(text)).get(0);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ssafy.odab.mcpLLM.rag.embedding;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 글자 2, 3-gram 을 해싱해서 만드는 로컬 임베딩. python 서버 없이 개발, 테스트할 때 사용.
+ * 의미가 아니라 표기가 비슷한 문제를 찾으므로 운영에서는 remote 를 사용함.
+ */
+@Component
+@ConditionalOnProperty(name = "rag.embedding.provider", havingValue = "hashing")
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+    private final int dimension;
+
+    public HashingEmbeddingProvider(@Value("${rag.embedding.hashing-dimension:512}") int dimension) {
+        this.dimension = dimension;
+    }
+
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            vectors.add(embedOne(text));
+        }
+        return vectors;
+    }
+
+    private float[] embedOne(String text) {
+        float[] vector = new float[dimension];
+        String normalized = text == null ? "" : text.replaceAll("\\s+", "");
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= normalized.length(); i++) {
+                int hash = normalized.substring(i, i + n).hashCode();
+                // 부호도 해시로 정해서 충돌끼리 상쇄되도록 함
+                float sign = (hash & 0x40000000) == 0 ? 1f : -1f;
+                vector[Math.floorMod(hash, dimension)] += sign;
+            }
+        }
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < dimension; i++) {
+                vector[i] *= scale;
+            }
+        }
+        return vector;
+    }
+}
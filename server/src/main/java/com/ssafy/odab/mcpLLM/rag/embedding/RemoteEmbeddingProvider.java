@@ -0,0 +1,50 @@
+package com.ssafy.odab.mcpLLM.rag.embedding;
+
+import com.ssafy.odab.mcpLLM.dto.EmbedRequest;
+import com.ssafy.odab.mcpLLM.dto.EmbedResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * python 서버의 /api/python/embed (BAAI/bge-m3) 를 내부망으로 호출함. 블로킹 호출이므로 boundedElastic 등에서 사용
+ */
+@Component
+@ConditionalOnProperty(name = "rag.embedding.provider", havingValue = "remote", matchIfMissing = true)
+public class RemoteEmbeddingProvider implements EmbeddingProvider {
+    private final RestTemplate restTemplate;
+    private final String embedUrl;
+    private final Timer embedTimer;
+
+    public RemoteEmbeddingProvider(RestTemplateBuilder restTemplateBuilder,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${rag.embedding.url}") String embedUrl) {
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(Duration.ofSeconds(3))
+                .readTimeout(Duration.ofSeconds(30))
+                .build();
+        this.embedUrl = embedUrl;
+        this.embedTimer = Timer.builder("rag.embedding")
+                .tag("provider", "remote")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        EmbedResponse response = embedTimer.record(
+                () -> restTemplate.postForObject(embedUrl, new EmbedRequest(texts), EmbedResponse.class));
+        if (response == null || response.getVectors() == null || response.getVectors().length != texts.size()) {
+            throw new IllegalStateException("임베딩 서버 응답이 올바르지 않습니다.");
+        }
+        return Arrays.asList(response.getVectors());
+    }
+}
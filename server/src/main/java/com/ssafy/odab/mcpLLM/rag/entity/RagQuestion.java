@@ -15,6 +15,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(RagQuestionEntityListener.class)
 public class RagQuestion {
 
     @Id
@@ -0,0 +1,55 @@
+package com.ssafy.odab.mcpLLM.rag.entity;
+
+import com.ssafy.odab.mcpLLM.rag.index.RagVectorIndex;
+import com.ssafy.odab.mcpLLM.rag.service.RagPromptService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * rag 테이블이 바뀌면 렌더링해둔 참고문제 캐시를 지우고 벡터 인덱스에 반영함.
+ * Hibernate 가 Spring 빈으로 생성하므로 의존성은 ObjectProvider 로 늦게 가져옴.
+ */
+@Component
+public class RagQuestionEntityListener {
+    private static final Logger logger = LoggerFactory.getLogger(RagQuestionEntityListener.class);
+
+    private final ObjectProvider<RagPromptService> ragPromptService;
+    private final ObjectProvider<RagVectorIndex> ragVectorIndex;
+
+    public RagQuestionEntityListener(ObjectProvider<RagPromptService> ragPromptService,
+                                     ObjectProvider<RagVectorIndex> ragVectorIndex) {
+        this.ragPromptService = ragPromptService;
+        this.ragVectorIndex = ragVectorIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        if (entity instanceof RagQuestion question) {
+            ragPromptService.getObject().evictFragment(question.getId());
+            // 임베딩은 외부 호출이라 트랜잭션 밖에서 처리
+            Mono.fromRunnable(() -> ragVectorIndex.getObject().upsert(question.getId(), question.getQuestionText()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe(null, e -> logger.warn("RAG 인덱스 반영 실패 [{}]: {}", question.getId(), e.getMessage()));
+        } else if (entity instanceof RagQuestionSolution solution) {
+            ragPromptService.getObject().evictFragment(solution.getQuestion().getId());
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof RagQuestion question) {
+            ragPromptService.getObject().evictFragment(question.getId());
+            ragVectorIndex.getObject().remove(question.getId());
+        } else if (entity instanceof RagQuestionSolution solution) {
+            ragPromptService.getObject().evictFragment(solution.getQuestion().getId());
+        }
+    }
+}
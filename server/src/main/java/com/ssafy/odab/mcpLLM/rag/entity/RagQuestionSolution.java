@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(RagQuestionEntityListener.class)
 public class RagQuestionSolution {
 
     @Id
@@ -0,0 +1,227 @@
+package com.ssafy.odab.mcpLLM.rag.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스.
+ * 벡터는 L2 정규화되어 있다고 가정하고 거리 = 1 - 내적(코사인) 을 사용함.
+ * 삭제는 표시만 하고 그래프에는 남겨둠 (탐색 경로로는 쓰이고 결과에서만 빠짐).
+ * 동기화는 하지 않으므로 호출하는 쪽(RagVectorIndex)에서 read/write lock 으로 감싸야 함.
+ */
+public class HnswIndex {
+    private static final Comparator<Candidate> NEAREST_FIRST = Comparator.comparingDouble(c -> c.distance);
+    private static final Comparator<Candidate> FARTHEST_FIRST = NEAREST_FIRST.reversed();
+
+    private final MappedVectorStore vectors;
+    private final int m;               // 레벨 1 이상에서 노드당 이웃 수
+    private final int maxM0;           // 레벨 0 에서 노드당 이웃 수
+    private final int efConstruction;  // 삽입시 후보 수
+    private final double levelMultiplier;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final List<int[][]> links = new ArrayList<>();   // links.get(node)[level] = 이웃 목록 (0번째 칸은 개수)
+    private final BitSet deleted = new BitSet();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswIndex(MappedVectorStore vectors, int m, int efConstruction) {
+        this.vectors = vectors;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+    }
+
+    /**
+     * 벡터를 추가하고 노드 번호를 반환함
+     */
+    public int add(float[] vector) {
+        int node = vectors.add(vector);
+        int level = randomLevel();
+        int[][] nodeLinks = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            nodeLinks[l] = new int[maxLinks(l) + 1];
+        }
+        links.add(nodeLinks);
+
+        if (entryPoint == -1) {
+            entryPoint = node;
+            maxLevel = level;
+            return node;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(vector, current, efConstruction, l);
+            List<Candidate> neighbours = candidates.subList(0, Math.min(m, candidates.size()));
+            for (Candidate neighbour : neighbours) {
+                addLink(node, neighbour.node, l);
+                addLink(neighbour.node, node, l);
+            }
+            current = candidates.get(0).node;
+        }
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+        return node;
+    }
+
+    public void markDeleted(int node) {
+        deleted.set(node);
+    }
+
+    /**
+     * 가까운 순으로 최대 k 개. ef 가 클수록 정확하지만 느림
+     */
+    public List<Candidate> search(float[] query, int k, int ef) {
+        if (entryPoint == -1) {
+            return List.of();
+        }
+        int current = entryPoint;
+        for (int l = maxLevel; l > 0; l--) {
+            current = greedyClosest(query, current, l);
+        }
+        List<Candidate> candidates = searchLayer(query, current, Math.max(ef, k), 0);
+        List<Candidate> result = new ArrayList<>(k);
+        for (Candidate candidate : candidates) {
+            if (deleted.get(candidate.node)) {
+                continue;
+            }
+            result.add(candidate);
+            if (result.size() == k) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return vectors.size();
+    }
+
+    public int liveSize() {
+        return vectors.size() - deleted.cardinality();
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float currentDistance = distance(query, current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] neighbours = links.get(current)[level];
+            for (int i = 1; i <= neighbours[0]; i++) {
+                float d = distance(query, neighbours[i]);
+                if (d < currentDistance) {
+                    currentDistance = d;
+                    current = neighbours[i];
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 레벨 안에서 best-first 탐색. 가까운 순으로 최대 ef 개 반환
+     */
+    private List<Candidate> searchLayer(float[] query, int start, int ef, int level) {
+        BitSet visited = new BitSet(vectors.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(NEAREST_FIRST);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(FARTHEST_FIRST);
+        Candidate first = new Candidate(start, distance(query, start));
+        visited.set(start);
+        candidates.add(first);
+        results.add(first);
+
+        while (!candidates.isEmpty()) {
+            Candidate closest = candidates.poll();
+            if (closest.distance > results.peek().distance && results.size() >= ef) {
+                break;
+            }
+            int[] neighbours = links.get(closest.node)[level];
+            for (int i = 1; i <= neighbours[0]; i++) {
+                int neighbour = neighbours[i];
+                if (visited.get(neighbour)) {
+                    continue;
+                }
+                visited.set(neighbour);
+                float d = distance(query, neighbour);
+                if (results.size() < ef || d < results.peek().distance) {
+                    Candidate candidate = new Candidate(neighbour, d);
+                    candidates.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(NEAREST_FIRST);
+        return sorted;
+    }
+
+    // 이웃이 가득 차면 가장 먼 이웃을 빼고 넣음
+    private void addLink(int from, int to, int level) {
+        int[] neighbours = links.get(from)[level];
+        int count = neighbours[0];
+        if (count < neighbours.length - 1) {
+            neighbours[++count] = to;
+            neighbours[0] = count;
+            return;
+        }
+        float newDistance = 1f - vectors.dot(from, to);
+        int farthestIndex = -1;
+        float farthestDistance = newDistance;
+        for (int i = 1; i <= count; i++) {
+            float d = 1f - vectors.dot(from, neighbours[i]);
+            if (d > farthestDistance) {
+                farthestDistance = d;
+                farthestIndex = i;
+            }
+        }
+        if (farthestIndex != -1) {
+            neighbours[farthestIndex] = to;
+        }
+    }
+
+    private float distance(float[] query, int node) {
+        return 1f - vectors.dot(node, query);
+    }
+
+    private int maxLinks(int level) {
+        return level == 0 ? maxM0 : m;
+    }
+
+    private int randomLevel() {
+        return (int) Math.floor(-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    public static final class Candidate {
+        private final int node;
+        private final float distance;
+
+        private Candidate(int node, float distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+
+        public int getNode() {
+            return node;
+        }
+
+        // 코사인 유사도 (1 - 거리)
+        public float getSimilarity() {
+            return 1f - distance;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ssafy.odab.mcpLLM.rag.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * float32 벡터를 memory-mapped 파일에 순서대로 저장함 (힙 밖, OS 페이지 캐시 사용).
+ * 동기화는 하지 않으므로 HnswIndex 의 lock 안에서만 사용해야 함.
+ * 매핑 하나는 2GB 까지라서 dimension 1024 기준 약 50만개까지 저장 가능.
+ */
+public class MappedVectorStore implements Closeable {
+    private static final long MAX_MAPPED_BYTES = Integer.MAX_VALUE;
+
+    private final int dimension;
+    private final Path path;
+    private final FileChannel channel;
+    private FloatBuffer floats;
+    private int capacity;
+    private int size;
+
+    public MappedVectorStore(Path path, int dimension, int initialCapacity) throws IOException {
+        this.dimension = dimension;
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        remap(Math.max(initialCapacity, 16));
+    }
+
+    /**
+     * 임시 파일에 저장하고, 종료시 삭제함
+     */
+    public static MappedVectorStore temporary(int dimension, int initialCapacity) throws IOException {
+        Path path = Files.createTempFile("rag-vectors-", ".f32");
+        path.toFile().deleteOnExit();
+        return new MappedVectorStore(path, dimension, initialCapacity);
+    }
+
+    public int add(float[] vector) {
+        checkDimension(vector);
+        if (size == capacity) {
+            remap(capacity * 2);
+        }
+        floats.put(size * dimension, vector);
+        return size++;
+    }
+
+    public float[] get(int id) {
+        float[] vector = new float[dimension];
+        floats.get(id * dimension, vector);
+        return vector;
+    }
+
+    // 저장된 벡터와 query 의 내적
+    public float dot(int id, float[] query) {
+        int base = id * dimension;
+        float sum = 0f;
+        for (int i = 0; i < dimension; i++) {
+            sum += floats.get(base + i) * query[i];
+        }
+        return sum;
+    }
+
+    public float dot(int a, int b) {
+        int baseA = a * dimension;
+        int baseB = b * dimension;
+        float sum = 0f;
+        for (int i = 0; i < dimension; i++) {
+            sum += floats.get(baseA + i) * floats.get(baseB + i);
+        }
+        return sum;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public void close() throws IOException {
+        floats = null;
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    private void remap(int newCapacity) {
+        long bytes = (long) newCapacity * dimension * Float.BYTES;
+        if (bytes > MAX_MAPPED_BYTES) {
+            throw new IllegalStateException("벡터 저장 공간이 부족합니다. capacity=" + newCapacity);
+        }
+        try {
+            // 파일 크기보다 크게 매핑하면 파일이 늘어남
+            floats = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer();
+        } catch (IOException e) {
+            throw new IllegalStateException("벡터 파일 매핑 실패: " + path, e);
+        }
+        capacity = newCapacity;
+    }
+
+    private void checkDimension(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("dimension 불일치: expected " + dimension + ", actual " + vector.length);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.ssafy.odab.mcpLLM.rag.index;
+
+import com.ssafy.odab.mcpLLM.rag.dto.RagMatch;
+import com.ssafy.odab.mcpLLM.rag.dto.RagQuestionTextDto;
+import com.ssafy.odab.mcpLLM.rag.embedding.EmbeddingProvider;
+import com.ssafy.odab.mcpLLM.rag.repository.RagQuestionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * rag_question 문제들의 임베딩을 서버 안의 HNSW 인덱스로 들고 있음 (FAISS 서버 대체).
+ * 서버가 뜬 뒤 백그라운드로 전체를 적재하고, 이후에는 새로 추가된 문제만 주기적으로 반영함.
+ * 처음 적재가 실패하면 (임베딩 서버가 아직 안 떴을 때 등) 성공할 때까지 간격을 늘려가며 다시 시도함.
+ * 적재가 끝나기 전에는 검색 결과가 비어있음.
+ */
+@Component
+public class RagVectorIndex {
+    private static final Logger logger = LoggerFactory.getLogger(RagVectorIndex.class);
+
+    private final EmbeddingProvider embeddingProvider;
+    private final RagQuestionRepository ragQuestionRepository;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int batchSize;
+    private final Duration startupRetryMin;
+    private final Duration startupRetryMax;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Integer> questionIdByNode = new ArrayList<>();
+    private final Map<Integer, Integer> nodeByQuestionId = new HashMap<>();
+    private MappedVectorStore vectors;
+    private HnswIndex index;
+    private int lastIndexedId = 0;
+    private volatile boolean ready;
+    private volatile Disposable startupLoad;
+
+    public RagVectorIndex(EmbeddingProvider embeddingProvider,
+                          RagQuestionRepository ragQuestionRepository,
+                          @Value("${rag.index.m:16}") int m,
+                          @Value("${rag.index.ef-construction:200}") int efConstruction,
+                          @Value("${rag.index.ef-search:64}") int efSearch,
+                          @Value("${rag.index.batch-size:64}") int batchSize,
+                          @Value("${rag.index.startup-retry-min-ms:2000}") long startupRetryMinMs,
+                          @Value("${rag.index.startup-retry-max-ms:60000}") long startupRetryMaxMs) {
+        this.embeddingProvider = embeddingProvider;
+        this.ragQuestionRepository = ragQuestionRepository;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.batchSize = batchSize;
+        this.startupRetryMin = Duration.ofMillis(startupRetryMinMs);
+        this.startupRetryMax = Duration.ofMillis(startupRetryMaxMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        // 실패해도 lastIndexedId 까지 넣은 것은 남아있으므로 다시 시도하면 그 뒤부터 이어서 적재함
+        startupLoad = Mono.fromRunnable(this::syncNewQuestions)
+                .subscribeOn(Schedulers.boundedElastic())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, startupRetryMin)
+                        .maxBackoff(startupRetryMax)
+                        .doBeforeRetry(signal -> logger.warn("RAG 인덱스 적재 실패, 다시 시도함 ({}회째): {}",
+                                signal.totalRetries() + 1, signal.failure().getMessage())))
+                .subscribe(null, e -> logger.error("RAG 인덱스 적재 실패: {}", e.getMessage(), e));
+    }
+
+    /**
+     * 마지막으로 반영한 id 이후의 문제들을 임베딩해서 추가함
+     */
+    @Scheduled(fixedDelayString = "${rag.index.sync-interval-ms:600000}",
+            initialDelayString = "${rag.index.sync-interval-ms:600000}")
+    public synchronized void syncNewQuestions() {
+        int added = 0;
+        while (true) {
+            List<RagQuestionTextDto> batch = ragQuestionRepository.findTextsAfter(lastIndexedId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<float[]> embeddings = embeddingProvider.embedAll(batch.stream().map(RagQuestionTextDto::getQuestionText).toList());
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < batch.size(); i++) {
+                    insert(batch.get(i).getQuestionId(), embeddings.get(i));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastIndexedId = batch.get(batch.size() - 1).getQuestionId();
+            added += batch.size();
+        }
+        if (!ready) {
+            ready = true;
+            logger.info("RAG 인덱스 적재 완료: {}개", size());
+        } else if (added > 0) {
+            logger.info("RAG 인덱스에 {}개 추가", added);
+        }
+    }
+
+    /**
+     * 문제 하나를 추가하거나, 이미 있으면 새 텍스트로 교체함
+     */
+    public void upsert(Integer questionId, String questionText) {
+        float[] embedding = embeddingProvider.embed(questionText);
+        lock.writeLock().lock();
+        try {
+            insert(questionId, embedding);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer questionId) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeByQuestionId.remove(questionId);
+            if (node != null) {
+                index.markDeleted(node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가장 유사한 문제 k 개 (유사도 높은 순). 임베딩 호출이 있으므로 블로킹
+     */
+    public List<RagMatch> search(String text, int k) {
+        if (!ready || text == null || text.isBlank()) {
+            return List.of();
+        }
+        float[] query = embeddingProvider.embed(text);
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                return List.of();
+            }
+            List<RagMatch> matches = new ArrayList<>(k);
+            for (HnswIndex.Candidate candidate : index.search(query, k, efSearch)) {
+                matches.add(new RagMatch(questionIdByNode.get(candidate.getNode()), candidate.getSimilarity()));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index == null ? 0 : index.liveSize();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        Disposable load = startupLoad;
+        if (load != null) {
+            load.dispose();
+        }
+        lock.writeLock().lock();
+        try {
+            if (vectors != null) {
+                vectors.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // write lock 안에서 호출
+    private void insert(Integer questionId, float[] embedding) {
+        if (index == null) {
+            try {
+                vectors = MappedVectorStore.temporary(embedding.length, 1024);
+            } catch (IOException e) {
+                throw new IllegalStateException("벡터 파일 생성 실패", e);
+            }
+            index = new HnswIndex(vectors, m, efConstruction);
+        }
+        Integer previous = nodeByQuestionId.get(questionId);
+        if (previous != null) {
+            index.markDeleted(previous);
+        }
+        int node = index.add(embedding);
+        questionIdByNode.add(questionId);
+        nodeByQuestionId.put(questionId, node);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssafy.odab.mcpLLM.rag.repository;
 
 import com.ssafy.odab.domain.question.entity.Question;
+import com.ssafy.odab.mcpLLM.rag.dto.RagQuestionTextDto;
 import com.ssafy.odab.mcpLLM.rag.entity.RagQuestion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +17,12 @@ public interface RagQuestionRepository extends JpaRepository<RagQuestion, Intege
 
     @Query("SELECT q FROM RagQuestion q LEFT JOIN FETCH q.questionSolutions WHERE q.id = :id")
     Optional<RagQuestion> findByIdWithSolutions(@Param("id") Integer id);
+
+    @Query("SELECT DISTINCT q FROM RagQuestion q LEFT JOIN FETCH q.questionSolutions WHERE q.id IN :ids")
+    List<RagQuestion> findAllByIdInWithSolutions(@Param("ids") Collection<? extends Integer> ids);
+
+    // afterId 보다 큰 문제들을 id 순서로 (벡터 인덱스 적재용)
+    @Query("SELECT new com.ssafy.odab.mcpLLM.rag.dto.RagQuestionTextDto(q.id, q.questionText) "
+            + "FROM RagQuestion q WHERE q.id > :afterId AND q.questionText IS NOT NULL ORDER BY q.id")
+    List<RagQuestionTextDto> findTextsAfter(@Param("afterId") Integer afterId, Pageable pageable);
 }
@@ -0,0 +1,14 @@
+package com.ssafy.odab.mcpLLM.rag.service;
+
+import com.ssafy.odab.mcpLLM.rag.dto.RagMatch;
+
+import java.util.List;
+
+public interface RagPromptService {
+
+    List<RagMatch> retrieve(String problem);
+
+    String buildPrompt(String problem, List<RagMatch> matches);
+
+    void evictFragment(Integer ragQuestionId);
+}
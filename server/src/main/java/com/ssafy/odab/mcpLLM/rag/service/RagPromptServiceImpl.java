@@ -0,0 +1,121 @@
+package com.ssafy.odab.mcpLLM.rag.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.odab.mcpLLM.rag.dto.RagMatch;
+import com.ssafy.odab.mcpLLM.rag.entity.RagQuestion;
+import com.ssafy.odab.mcpLLM.rag.entity.RagQuestionSolution;
+import com.ssafy.odab.mcpLLM.rag.index.RagVectorIndex;
+import com.ssafy.odab.mcpLLM.rag.repository.RagQuestionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 유사 문제 검색 + 참고문제 프롬프트 생성.
+ * 참고문제와 풀이를 렌더링한 문자열을 rag 문제 id 별로 캐시해서, 캐시에 있으면 DB 를 조회하지 않음.
+ * rag 테이블이 JPA 로 바뀌면 RagQuestionEntityListener 가 캐시를 지움. SQL 로 직접 바꾸는 경우를 위해 TTL 도 둠.
+ */
+@Service
+public class RagPromptServiceImpl implements RagPromptService {
+    private final RagVectorIndex ragVectorIndex;
+    private final RagQuestionRepository ragQuestionRepository;
+    private final Cache<Integer, String> fragments;
+    private final Timer retrievalTimer;
+    private final int topK;
+    private final float similarityThreshold;
+
+    public RagPromptServiceImpl(RagVectorIndex ragVectorIndex,
+                                RagQuestionRepository ragQuestionRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${rag.retrieval.top-k:3}") int topK,
+                                @Value("${rag.retrieval.similarity-threshold:0.5}") float similarityThreshold,
+                                @Value("${rag.retrieval.cache-size:10000}") long cacheSize,
+                                @Value("${rag.retrieval.cache-ttl-minutes:360}") long cacheTtlMinutes) {
+        this.ragVectorIndex = ragVectorIndex;
+        this.ragQuestionRepository = ragQuestionRepository;
+        this.topK = topK;
+        this.similarityThreshold = similarityThreshold;
+        this.fragments = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .build();
+        // 임베딩 호출 + 인덱스 검색 (예전 FAISS 서버 호출 구간)
+        this.retrievalTimer = Timer.builder("rag.retrieval")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 유사도가 threshold 이상인 문제를 최대 top-k 개 (유사도 높은 순). 임베딩 호출이 있으므로 블로킹
+     */
+    @Override
+    public List<RagMatch> retrieve(String problem) {
+        return retrievalTimer.record(() -> ragVectorIndex.search(problem, topK)).stream()
+                .filter(match -> match.getSimilarity() >= similarityThreshold)
+                .toList();
+    }
+
+    /**
+     * 참고문제, 풀이를 붙인 프롬프트를 만듦. 캐시에 없는 참고문제만 한 번에 조회함 (블로킹)
+     */
+    @Override
+    public String buildPrompt(String problem, List<RagMatch> matches) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("너는 최고의 선생님이야 다음 로직을 따라서 문제를 풀어줘.\n")
+                .append("문제 : \n")
+                .append(problem)
+                .append("\n");
+        if (matches.isEmpty()) {
+            return sb.toString();
+        }
+        Map<Integer, String> rendered = fragments.getAll(
+                matches.stream().map(RagMatch::getQuestionId).toList(),
+                this::loadFragments);
+        sb.append("다음은 기존 데이터 베이스에서 유사한 문제를 찾아서 보여주는거야.\n")
+                .append("필요하다면 활용해서 풀어도 돼.\n");
+        for (RagMatch match : matches) {
+            String fragment = rendered.get(match.getQuestionId());
+            if (fragment != null) {
+                sb.append(fragment);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void evictFragment(Integer ragQuestionId) {
+        fragments.invalidate(ragQuestionId);
+    }
+
+    private Map<Integer, String> loadFragments(Set<? extends Integer> ids) {
+        Map<Integer, String> loaded = new HashMap<>();
+        for (RagQuestion question : ragQuestionRepository.findAllByIdInWithSolutions(ids)) {
+            loaded.put(question.getId(), render(question));
+        }
+        return loaded;
+    }
+
+    private String render(RagQuestion question) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("""
+                참고문제 : %s
+                """, question.getQuestionText()));
+        question.getQuestionSolutions().stream()
+                .sorted(Comparator.comparing(RagQuestionSolution::getStep,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(solution -> sb.append(String.format("""
+                        참고 문제 풀이
+                        step %d : %s
+                        """, solution.getStep(), solution.getSolutionContent())));
+        return sb.toString();
+    }
+}
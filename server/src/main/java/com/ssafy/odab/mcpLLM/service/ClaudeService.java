@@ -2,6 +2,8 @@ package com.ssafy.odab.mcpLLM.service;
 
 import com.ssafy.odab.mcpLLM.dto.*;
 import org.springframework.stereotype.Service;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -12,9 +14,16 @@ public interface ClaudeService {
 
     Mono<Boolean> isCorrectAnswer(String answer, String questionText, String userAnswerText, Integer userId);
 
+    // isCorrectAnswer 와 같지만 호출 실패시 오답 대신 에러를 그대로 전달함
+    Mono<Boolean> gradeAnswer(String answer, String questionText, String userAnswerText, Integer userId);
+
     Mono<ApiResponseDto> searchSimilarQuestions(ApiRequestDto apiRequestDto, Integer userId);
 
+    Flux<ServerSentEvent<Object>> streamSimilarQuestions(ApiRequestDto apiRequestDto, Integer userId);
+
     Mono<FixProblemResponseDto> fixProblem(FixProblemRequestDto fixProblemRequestDto, Integer userId);
 
     Mono<String> extractTextByAnswer(String userAnswerImg);
+
+    Mono<String> extractTextByAnswer(byte[] userAnswerImg);
 }
@@ -2,73 +2,108 @@ package com.ssafy.odab.mcpLLM.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.odab.common.service.PresignedUploadService;
 import com.ssafy.odab.common.service.S3ServiceImpl;
-import com.ssafy.odab.domain.concept.entity.QuestionConcept;
-import com.ssafy.odab.domain.concept.entity.SubConcept;
-import com.ssafy.odab.domain.concept.repository.QuestionConceptRepository;
-import com.ssafy.odab.domain.concept.repository.SubConceptRepository;
-import com.ssafy.odab.domain.learning.entity.LastLearningTime;
-import com.ssafy.odab.domain.learning.repository.LastLearningDateRepository;
-import com.ssafy.odab.domain.question.entity.Question;
-import com.ssafy.odab.domain.question.entity.QuestionSolution;
-import com.ssafy.odab.domain.question.repository.QuestionRepository;
-import com.ssafy.odab.domain.question.repository.QuestionSolutionRepository;
-import com.ssafy.odab.domain.question_result.entity.QuestionResult;
-import com.ssafy.odab.domain.question_result.repository.QuestionResultRepository;
-import com.ssafy.odab.domain.user.entity.User;
+import com.ssafy.odab.domain.concept.catalog.ConceptCatalog;
 import com.ssafy.odab.domain.user.repository.UserRepository;
 import com.ssafy.odab.domain.user.service.JwtService;
-import com.ssafy.odab.mcpLLM.config.ClaudeConfig;
+import com.ssafy.odab.mcpLLM.client.ClaudeApiClient;
+import com.ssafy.odab.mcpLLM.client.ClaudeMetrics;
+import com.ssafy.odab.mcpLLM.client.PermitTimeoutException;
+import com.ssafy.odab.mcpLLM.conversation.ClaudeConversation;
 import com.ssafy.odab.mcpLLM.dto.*;
 import com.ssafy.odab.mcpLLM.image.ImageEncode;
-import com.ssafy.odab.mcpLLM.rag.entity.RagQuestion;
-import com.ssafy.odab.mcpLLM.rag.entity.RagQuestionSolution;
-import com.ssafy.odab.mcpLLM.rag.repository.RagQuestionRepository;
+import com.ssafy.odab.mcpLLM.image.ImageHash;
+import com.ssafy.odab.mcpLLM.image.PreparedImage;
+import com.ssafy.odab.mcpLLM.image.service.ImageFingerprintService;
+import com.ssafy.odab.mcpLLM.mcpServer.SequentialThinkingServer;
+import com.ssafy.odab.mcpLLM.rag.service.RagPromptService;
 import com.ssafy.odab.mcpLLM.toolFactory.SequentialThinkingFactory;
 import com.ssafy.odab.mcpLLM.toolFactory.ToolUtil;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @RequiredArgsConstructor
 public class ClaudeServiceImpl implements ClaudeService {
     private final SequentialThinkingFactory sequentialThinkingFactory;
     private final ToolUtil toolUtil;
+    private final SequentialThinkingServer sequentialThinkingServer;
     private static final Logger logger = LoggerFactory.getLogger(ClaudeServiceImpl.class);
-    private final ClaudeConfig claudeConfig;
     private final ImageEncode imageEncode;
-    private final QuestionRepository questionRepository;
-    private final UserRepository userRepository;
     private final S3ServiceImpl s3ServiceImpl;
-    private final QuestionSolutionRepository questionSolutionRepository;
-    private final SubConceptRepository subConceptRepository;
-    private final QuestionConceptRepository questionConceptRepository;
-    private final LastLearningDateRepository lastLearningDateRepository;
-    private final RagQuestionRepository ragQuestionRepository;
+    private final ConceptCatalog conceptCatalog;
+    private final UserRepository userRepository;
+    private final RagPromptService ragPromptService;
     private final JwtService jwtService;
-    private final QuestionResultRepository questionResultRepository;
-    // !!!!!!수정포인트!!!!!!
-    private String modelVersion = "claude-3-5-sonnet-20240620";    //사용할 모델명
-    //    private String modelVersion = "claude-3-7-sonnet-20250219";	//사용할 모델명
+    private final ClaudeApiClient claudeApiClient;
+    private final ClaudeMetrics claudeMetrics;
+    private final SolvedQuestionService solvedQuestionService;
+    private final ImageFingerprintService imageFingerprintService;
+    private final PresignedUploadService presignedUploadService;
+    private final Scheduler jpaScheduler;
+    @Value("${claude-api.model:claude-3-5-sonnet-20240620}")
+    private String modelVersion;                     //사용할 모델명
+    @Value("${claude-api.grading-model:claude-3-7-sonnet-20250219}")
+    private String gradingModelVersion;              //채점에 사용할 모델명
     private int maxTokens = 4000;                    //최대 사용 가능한 토큰 수
     private final int MAX_DEPTH = 20;
-    private final int REQUEST_TIMEOUT_SECONDS = 30; // 타임아웃 시간 (초)
+    private final int MAX_MESSAGES = 40;
     private final int MAX_RETRIES = 3; // 최대 재시도 횟수
-    @Transactional
+    private static final String SUMMARY_REQUEST = """
+            지금까지의 대화 내용을 바탕으로 system prompt 의 [정리 형식]에 맞춰 정리해줘.
+            형식 이외의 대답은 넣지마.
+            """;
+    private static final String SOLVE_SYSTEM_HEADER = """
+            너는 최고의 선생님이야. 사용자가 보낸 문제를 sequentialThinking 도구로 단계적으로 풀어줘.
+            사용자가 정리를 요청하기 전에는 아래 [정리 형식]으로 답하지 마.
+
+            [정리 형식]
+            정리를 요청받으면 아래에 맞춰 답변해줘.
+            1. 지금까지의 대화 내용을 바탕으로 정리해줘.
+            2. [[]] 안의 내용은 너가 채워 넣어야하는 부분이야.
+            3. question 은 문제야.
+            4. step 은 너가 문제 푼 내용이야. step10 이내로 만들어줘.
+            5. concept 은 사용된 수학 개념을 적어줘. 수학개념은 아래 목록에서 가장 적절한 개념을 최대 5개 골라서 사용해줘. 적절한 것이 없을경우 빈배열로 반환해줘. 각 개념에 맞는 숫자로 반환해줘.
+            """;
+    private static final String SOLVE_SYSTEM_FORMAT = """
+            6. 아래 형식에 맞춰서 정리해주고 형식 이외의 대답은 넣지마.
+
+            {
+              "question":"[[문제 내용]]",
+              "steps": [
+                "[[step1의 대한 내용]]",
+                "[[step2의 대한 내용]]",
+                "[[step3의 대한 내용]]"
+              ],
+              "answer":"[[정답]]",
+              "concept": [
+                "[[사용된 수학 개념1. ex) 1]]",
+                "[[사용된 수학 개념2. ex) 2]]"
+              ]
+            }
+            """;
     public Mono<FixProblemResponseDto> fixProblem(FixProblemRequestDto fixProblemRequestDto, Integer userId) {
         List<Object> contents = new ArrayList<>();
         String prompt = String.format("""
@@ -100,9 +135,9 @@ public class ClaudeServiceImpl implements ClaudeService {
                 .build();
 
 
-        return sendClaudeApi(request, sendMessages, 0, true, userId)
+        return sendClaudeApi("fix_problem", request, userId)
                 .flatMap(response -> {
-                    System.out.println("response = " + response.getContent().get(0).getText());;
+                    logger.debug("문제 수정 응답: {}", response.getContent().get(0).getText());
                     FixProblemResponseDto fixProblemResponseDto = FixProblemResponseDto.builder()
                             .problem(response.getContent().get(0).getText())
                             .build();
@@ -111,8 +146,12 @@ public class ClaudeServiceImpl implements ClaudeService {
     }
 
     @Override
-    @Transactional
     public Mono<String> extractTextByAnswer(String userAnswerImg) {
+        return extractTextByAnswer(Base64.getDecoder().decode(userAnswerImg));
+    }
+
+    @Override
+    public Mono<String> extractTextByAnswer(byte[] userAnswerImg) {
         List<Object> contents = new ArrayList<>();
         String prompt = """
                 해당 이미지를 텍스트로 변환해줘.
@@ -134,6 +173,7 @@ public class ClaudeServiceImpl implements ClaudeService {
                 .content(contents)
                 .build());
 
+        PreparedImage image = imageEncode.prepareImage(userAnswerImg);
         contents.add(ClaudeRequestApiDto
                 .ImageContent.builder()
                 .type("image")
@@ -141,8 +181,8 @@ public class ClaudeServiceImpl implements ClaudeService {
                         .Source
                         .builder()
                         .type("base64")
-                        .media_type("image/png")
-                        .data(userAnswerImg)
+                        .media_type(image.mediaType())
+                        .data(image.bytes())
                         .build())
                 .build());
 
@@ -153,13 +193,13 @@ public class ClaudeServiceImpl implements ClaudeService {
                 .build();
 
 
-        return sendClaudeApi(request, sendMessages, 0, true, null)
+        return sendClaudeApi("extract_answer", request, null)
                 .map(response -> {
                     String fullResponse = response.getContent().get(0).getText();
 
 //                    // 추출된 답변 부분만 가져오기
 //                    String extractedAnswer = extractFromResponse(fullResponse, "추출된 답변:");
-                    System.out.println("추출된 답변 : "+fullResponse);
+                    logger.debug("추출된 답변: {}", fullResponse);
 //                    if (extractedAnswer.contains("추출 불가")) {
 //                        return "추출 불가";
 //                    }
@@ -167,14 +207,48 @@ public class ClaudeServiceImpl implements ClaudeService {
                     return fullResponse;
                 })
                 .onErrorResume(e -> {
-                    System.err.println("텍스트 추출 중 오류 발생: " + e.getMessage());
-                    e.printStackTrace();
+                    logger.warn("텍스트 추출 중 오류 발생: {}", e.getMessage(), e);
                     return Mono.just("추출 오류 발생");
                 });
     }
 
-    @Transactional
     public Mono<ClaudeTextApiResponseDto> extractProblem(ApiRequestDto apiRequestDto, Integer userId) {
+        // 이미지 읽기(S3 포함), 축소, 재인코딩은 boundedElastic 에서 실행
+        return Mono.fromCallable(() -> {
+                    byte[] original = readImage(apiRequestDto, userId);
+                    // 축소, 재인코딩한 이미지와 실제 형식 (업로드의 Content-Type 은 믿지 않음)
+                    PreparedImage image = imageEncode.prepareImage(original);
+                    return new UploadedImage(image, ImageHash.of(original, image));
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .publishOn(jpaScheduler)
+                // 같은 사진(또는 다시 저장된 비슷한 사진)을 이미 읽은 적이 있으면 Claude 를 부르지 않음
+                .flatMap(uploaded -> imageFingerprintService.findOcrText(uploaded.hash())
+                        .map(text -> Mono.just(ClaudeTextApiResponseDto.builder().questionText(text).build()))
+                        .orElseGet(() -> extractProblem(uploaded.image(), uploaded.hash(), userId)));
+    }
+
+    private record UploadedImage(PreparedImage image, ImageHash hash) {
+    }
+
+    // 풀이 요청에서 한 번 읽은 원본과 그 hash. 중복 검사와 S3 업로드에 같은 바이트를 씀
+    private record SolveImage(byte[] original, ImageHash hash) {
+    }
+
+    /**
+     * presigned 업로드 key 가 있으면 S3 에서, 없으면 multipart 파일에서 읽음
+     */
+    private byte[] readImage(ApiRequestDto apiRequestDto, Integer userId) throws IOException {
+        if (apiRequestDto.getImageKey() != null) {
+            return presignedUploadService.read(userId, apiRequestDto.getImageKey());
+        }
+        if (apiRequestDto.getImageData() == null) {
+            throw new IllegalArgumentException("이미지가 없습니다.");
+        }
+        return apiRequestDto.getImageData().getBytes();
+    }
+
+    private Mono<ClaudeTextApiResponseDto> extractProblem(PreparedImage image, ImageHash imageHash, Integer userId) {
         List<Object> contents = new ArrayList<>();
         String prompt = """
                 해당 이미지를 텍스트로 변환해줘.
@@ -185,23 +259,15 @@ public class ClaudeServiceImpl implements ClaudeService {
                 .type("text")
                 .text(prompt)
                 .build());
-        try {
-            String base64Image = imageEncode.encodeImageToBase64(apiRequestDto.getImageData());
-            String mimeType = apiRequestDto.getImageData().getContentType();
-            ClaudeRequestApiDto.ImageContent content = ClaudeRequestApiDto.ImageContent.builder()
-                    .type("image")
-                    .source(ClaudeRequestApiDto.Source.builder()
-                            .type("base64")
-                            .media_type(mimeType)
-                            .data(base64Image)
-                            .build()
-                    )
-                    .build();
-            contents.add(content);
-        } catch (IOException e) {
-            e.printStackTrace();
-            throw new RuntimeException("이미지 인코딩 실패", e);
-        }
+        contents.add(ClaudeRequestApiDto.ImageContent.builder()
+                .type("image")
+                .source(ClaudeRequestApiDto.Source.builder()
+                        .type("base64")
+                        .media_type(image.mediaType())
+                        .data(image.bytes())
+                        .build()
+                )
+                .build());
         // 보낼 메시지 생성
         List<ClaudeRequestApiDto.Message> sendMessages = new ArrayList<>();
         sendMessages.add(ClaudeRequestApiDto.Message.builder()
@@ -215,19 +281,37 @@ public class ClaudeServiceImpl implements ClaudeService {
                 .build();
 
 
-        return sendClaudeApi(request, sendMessages, 0, true, userId)
+        return sendClaudeApi("extract_problem", request, userId)
                 .flatMap(response -> {
                     String problem = response.getContent().get(0).getText();
                     ClaudeTextApiResponseDto apiResponseDto = ClaudeTextApiResponseDto.builder()
                             .questionText(problem)
                             .build();
-                    return Mono.just(apiResponseDto);
+                    if ("error".equals(response.getType())) {
+                        return Mono.just(apiResponseDto);
+                    }
+                    // 색인 저장에 실패해도 (동시에 같은 사진이 올라온 경우 등) 결과는 그대로 돌려줌
+                    return Mono.fromRunnable(() -> imageFingerprintService.saveOcrText(imageHash, problem))
+                            .subscribeOn(jpaScheduler)
+                            .onErrorResume(e -> {
+                                logger.warn("OCR 결과 색인 저장 실패: {}", e.getMessage());
+                                return Mono.empty();
+                            })
+                            .thenReturn(apiResponseDto);
                 });
     }
 
     @Override
-    @Transactional
     public Mono<Boolean> isCorrectAnswer(String answer, String questionText, String userAnswerText, Integer userId) {
+        return gradeAnswer(answer, questionText, userAnswerText, userId)
+                .onErrorResume(e -> {
+                    logger.warn("정답 확인 중 오류 발생: {}", e.getMessage(), e);
+                    return Mono.just(false);
+                });
+    }
+
+    @Override
+    public Mono<Boolean> gradeAnswer(String answer, String questionText, String userAnswerText, Integer userId) {
         List<Object> contents = new ArrayList<>();
         // 정답을 추출하기 위한 프롬프트
         String extractPrompt = String.format("""
@@ -275,24 +359,27 @@ public class ClaudeServiceImpl implements ClaudeService {
                 .build());
 
         ClaudeRequestApiDto request = ClaudeRequestApiDto.builder()
-                .model("claude-3-7-sonnet-20250219")
+                .model(gradingModelVersion)
                 .max_tokens(maxTokens)
                 .messages(sendMessages)
                 .build();
 
         // 응답 처리
-        Mono<Boolean> isCorrect = sendClaudeApi(request, sendMessages, 0, true, userId)
+        Mono<Boolean> isCorrect = sendClaudeApi("grade", request, userId)
                 .map(response -> {
+                    if ("error".equals(response.getType())) {
+                        throw new RuntimeException(response.getContent().get(0).getText());
+                    }
                     String fullResponse = response.getContent().get(0).getText().trim();
 //                System.out.println("===== Claude 응답 시작 =====");
 //                System.out.println(fullResponse);
 //                System.out.println("===== Claude 응답 끝 =====");
 
                     // 정답 추출 및 판단
-                    String extractedAnswer = extractFromResponse(fullResponse, "추출된 답변:");
-                    String completeMatch = extractFromResponse(fullResponse, "완전 일치 여부:");
-                    String mismatchReason = extractFromResponse(fullResponse, "불일치 이유:");
-                    String finalJudgment = extractFromResponse(fullResponse, "최종 판정:");
+                    String extractedAnswer = ResponseLabels.extract(fullResponse, "추출된 답변:");
+                    String completeMatch = ResponseLabels.extract(fullResponse, "완전 일치 여부:");
+                    String mismatchReason = ResponseLabels.extract(fullResponse, "불일치 이유:");
+                    String finalJudgment = ResponseLabels.extract(fullResponse, "최종 판정:");
 
 //                System.out.println("추출된 답변: " + extractedAnswer);
 //                System.out.println("완전 일치 여부: " + completeMatch);
@@ -310,100 +397,106 @@ public class ClaudeServiceImpl implements ClaudeService {
 
 //                System.out.println("정답으로 최종 판정합니다.");
                     return true;
-                })
-                .onErrorResume(e -> {
-                    System.err.println("정답 확인 중 오류 발생: " + e.getMessage());
-                    e.printStackTrace();
-                    return Mono.just(false);
                 });
 
         return isCorrect;
     }
 
-    // 응답에서 특정 라벨 다음의 내용을 추출하는 헬퍼 메서드
-    private String extractFromResponse(String response, String label) {
-        if (!response.contains(label)) {
-            return "";
-        }
+    // 유사한 문제를 찾아서 참고해서 풀이함
+    public Mono<ApiResponseDto> searchSimilarQuestions(ApiRequestDto apiRequestDto, Integer userId) {
+        return solveWithRag(apiRequestDto, userId, null);
+    }
 
-        int startIndex = response.indexOf(label) + label.length();
-        int endIndex = response.indexOf("\n", startIndex);
+    /**
+     * searchSimilarQuestions 의 스트리밍 버전.
+     * sequentialThinking 단계(thought), 모델 토큰(delta), 정리된 풀이(summary),
+     * 저장된 문제(question) 를 만들어지는 즉시 SSE 이벤트로 내려줌.
+     */
+    @Override
+    public Flux<ServerSentEvent<Object>> streamSimilarQuestions(ApiRequestDto apiRequestDto, Integer userId) {
+        Sinks.Many<ServerSentEvent<Object>> events = Sinks.many().unicast().onBackpressureBuffer();
+        Mono<ApiResponseDto> solve = solveWithRag(apiRequestDto, userId, events)
+                .doOnNext(apiResponseDto -> events.tryEmitNext(
+                        ServerSentEvent.<Object>builder(apiResponseDto).event("question").build()))
+                .onErrorResume(e -> {
+                    logger.error("문제 풀이 스트리밍 오류: {}", e.getMessage());
+                    events.tryEmitNext(ServerSentEvent.<Object>builder(
+                            Collections.singletonMap("message", String.valueOf(e.getMessage()))).event("error").build());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> events.tryEmitComplete());
+        return Flux.merge(events.asFlux(), solve.thenMany(Flux.<ServerSentEvent<Object>>empty()));
+    }
 
-        if (endIndex == -1) {
-            return response.substring(startIndex).trim();
-        } else {
-            return response.substring(startIndex, endIndex).trim();
-        }
+    private Mono<ApiResponseDto> solveWithRag(ApiRequestDto apiRequestDto, Integer userId,
+                                              Sinks.Many<ServerSentEvent<Object>> events) {
+        String problem = apiRequestDto.getUserAsk();
+        // 같은 사진을 같은 문제 텍스트로 이미 풀었으면 그 풀이를 복사해서 저장함 (Claude 호출 없음).
+        // 이미지는 재사용하지 않고 이 회원이 올린 것을 저장함
+        // 이미지는 여기서 한 번만 읽고 디코딩함 (S3 GET 포함)
+        return readSolveImage(apiRequestDto, userId)
+                .publishOn(jpaScheduler)
+                .flatMap(image -> Mono.justOrEmpty(solvedQuestionService.findSolvedQuestion(image.hash(), problem))
+                        .flatMap(solved -> saveSolvedQuestion(apiRequestDto, userId, image, solved))
+                        .switchIfEmpty(Mono.defer(() -> solveWithClaude(apiRequestDto, userId, events, image)
+                                .flatMap(saved -> rememberSolved(image.hash(), problem, saved)))));
     }
 
+    private Mono<SolveImage> readSolveImage(ApiRequestDto apiRequestDto, Integer userId) {
+        return Mono.fromCallable(() -> {
+                    byte[] original = readImage(apiRequestDto, userId);
+                    return new SolveImage(original, imageEncode.hashImage(original));
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
 
-    @Transactional
-    // FAISS 서버에 질문을 보내고 유사한 문제 ID와 유사도 점수를 받는 메소드 (동기 방식)
-    public Mono<ApiResponseDto> searchSimilarQuestions(ApiRequestDto apiRequestDto, Integer userId) {
-        try {
-            // RestTemplate 생성
-            RestTemplate restTemplate = new RestTemplate();
-
-            // 요청 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.APPLICATION_JSON);
-            String problem = apiRequestDto.getUserAsk();
-            // 요청 본문 생성
-            FaissRequest request = new FaissRequest(problem);
-
-            // HTTP 요청 엔티티 생성
-            HttpEntity<FaissRequest> entity = new HttpEntity<>(request, headers);
-
-            // FAISS 서버에 POST 요청 보내기
-            // !!!!!!수정포인트!!!!!!
-            ResponseEntity<FaissResponse> response = restTemplate.exchange(
-                    "https://k12b103.p.ssafy.io/api/python/search",
-//                    "http://localhost:8000/search",
-                    HttpMethod.POST,
-                    entity,
-                    FaissResponse.class
-            );
-            Integer questionId = Objects.requireNonNull(response.getBody()).getQuestion_id();
-            RagQuestion question = ragQuestionRepository.findByIdWithSolutions(questionId).orElseThrow(
-                    () -> new RuntimeException("not find question by questionId")
-            );
-            StringBuilder sb = new StringBuilder();
-            sb.append("너는 최고의 선생님이야 다음 로직을 따라서 문제를 풀어줘.\n")
-                    .append("문제 : \n")
-                    .append(problem)
-                    .append("\n")
-                    .append("다음은 기존 데이터 베이스에서 유사한 문제를 찾아서 보여주는거야.\n")
-                    .append("필요하다면 활용해서 풀어도 돼.\n");
-            sb.append(String.format("""
-                    문제 : %s
-                    다음은 기존 데이터 베이스에서 유사한 문제를 찾아서 보여주는거야. 필요하다면 활용해서 풀어도 돼.
-                    참고문제 : %s
-                    """, problem, question.getQuestionText()));
-
-            for (RagQuestionSolution solution : question.getQuestionSolutions()) {
-                sb.append(String.format("""
-                        참고 문제 풀이
-                        step %d : %s
-                        """, solution.getStep(), solution.getSolutionContent()));
-            }
-            ApiRequestDto requestDto = new ApiRequestDto();
-            requestDto.setUserAsk(sb.toString());
-            requestDto.setImageData(apiRequestDto.getImageData());
-
-            return sendMathProblem(requestDto, userId);
-        } catch (Exception e) {
-            e.printStackTrace();
-            System.out.println("FAISS 서버 요청 오류: " + e.getMessage());
-            return null;
-        }
+    private Mono<ApiResponseDto> solveWithClaude(ApiRequestDto apiRequestDto, Integer userId,
+                                                 Sinks.Many<ServerSentEvent<Object>> events, SolveImage image) {
+        String problem = apiRequestDto.getUserAsk();
+        // 임베딩 호출은 boundedElastic, 캐시에 없는 참고문제 조회는 jpaScheduler 에서 실행
+        return Mono.fromCallable(() -> ragPromptService.retrieve(problem))
+                .subscribeOn(Schedulers.boundedElastic())
+                .publishOn(jpaScheduler)
+                .map(matches -> ragPromptService.buildPrompt(problem, matches))
+                .flatMap(prompt -> {
+                    ApiRequestDto requestDto = new ApiRequestDto();
+                    requestDto.setUserAsk(prompt);
+                    requestDto.setImageData(apiRequestDto.getImageData());
+                    requestDto.setImageKey(apiRequestDto.getImageKey());
+                    return sendMathProblem(requestDto, userId, events, image);
+                });
+    }
+
+    // 색인 저장에 실패해도 풀이 결과는 그대로 돌려줌
+    private Mono<ApiResponseDto> rememberSolved(ImageHash imageHash, String problem, ApiResponseDto saved) {
+        return Mono.fromRunnable(() -> imageFingerprintService.saveSolved(imageHash, problem, saved.getQuestionId()))
+                .subscribeOn(jpaScheduler)
+                .onErrorResume(e -> {
+                    logger.warn("풀이 결과 색인 저장 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .thenReturn(saved);
     }
 
 
+    public Mono<ApiResponseDto> sendMathProblem(ApiRequestDto apiRequestDto, Integer userId) {
+        return readSolveImage(apiRequestDto, userId)
+                .flatMap(image -> sendMathProblem(apiRequestDto, userId, null, image));
+    }
+
     /**
-     * historyMessages 에는 과거 메시지와 내가 현재 질문할
+     * events 가 null 이 아니면 풀이 진행 상황을 이벤트로 흘려보냄
      */
-    @Transactional
-    public Mono<ApiResponseDto> sendMathProblem(ApiRequestDto apiRequestDto, Integer userId) {
+    private Mono<ApiResponseDto> sendMathProblem(ApiRequestDto apiRequestDto, Integer userId,
+                                                 Sinks.Many<ServerSentEvent<Object>> events, SolveImage image) {
+        return Mono.fromCallable(() -> buildSolveSystemPrompt(userId))
+                .subscribeOn(jpaScheduler)
+                .flatMap(systemPrompt -> sendMathProblem(apiRequestDto, userId, events, image, systemPrompt));
+    }
+
+    private Mono<ApiResponseDto> sendMathProblem(ApiRequestDto apiRequestDto, Integer userId,
+                                                 Sinks.Many<ServerSentEvent<Object>> events, SolveImage image,
+                                                 String systemPrompt) {
         List<Object> contents = new ArrayList<>();
         // 유저 대화내용 content 생성후 contents 에 넣음.
         contents.add(ClaudeRequestApiDto.TextContent.builder()
@@ -421,24 +514,28 @@ public class ClaudeServiceImpl implements ClaudeService {
         // tool 추가해주기
         List<ClaudeRequestApiDto.Tool> tools = new ArrayList<>();
         sequentialThinkingFactory.addSequentialThinkingTools(tools);
+        // 지시문, 개념 목록, 정리 형식은 system 에 두고 tools 와 함께 캐시함
+        List<ClaudeRequestApiDto.TextContent> system = new ArrayList<>();
+        system.add(ClaudeRequestApiDto.TextContent.builder()
+                .type("text")
+                .text(systemPrompt)
+                .cache_control(ClaudeRequestApiDto.CacheControl.ephemeral())
+                .build());
         // 요청 DTO 생성하기
         ClaudeRequestApiDto request = ClaudeRequestApiDto.builder()
                 .model(modelVersion)
                 .max_tokens(maxTokens)
+                .system(system)
                 .tools(tools)
                 .messages(sendMessages)
                 .build();
-        return sendClaudeApi(request, sendMessages, 0, false, userId)
+        ClaudeConversation conversation = ClaudeConversation.of("solve", request, true, userId, events);
+        return sendClaudeApi(conversation)
                 .flatMap(response -> {
-                    User user = userRepository.findByIdWithLastLearningTimes(userId).orElseThrow(
-                            () -> new RuntimeException("User not found")
-                    );
-                    String dirName = "product";
-                    String imageUrl = s3ServiceImpl.uploadFile(apiRequestDto.getImageData(), dirName);
-
-                    ClaudeRequestApiDto.Message message = sendMessages.get(sendMessages.size() - 1);
-                    ClaudeRequestApiDto.TextContent content = (ClaudeRequestApiDto.TextContent) message.getContent().get(0);
-                    String str = content.getText();
+                    String str = response.getContent().get(0).getText();
+                    if ("error".equals(response.getType())) {
+                        return Mono.error(new RuntimeException(str));
+                    }
 
                     ObjectMapper objectMapper = new ObjectMapper();
                     QuestionJsonDto questionJsonDto;
@@ -447,258 +544,166 @@ public class ClaudeServiceImpl implements ClaudeService {
                     } catch (JsonProcessingException e) {
                         return Mono.error(new RuntimeException(e));
                     }
-                    Question question = Question.builder()
-                            .user(user)
-                            .questionText(questionJsonDto.getQuestion())
-                            .answer(questionJsonDto.getAnswer())
-                            .questionImg(imageUrl)
-                            .registedAt(LocalDateTime.now())
-                            .build();
-
-                    question = questionRepository.save(question); // 저장 후 반환된 엔티티를 받음
-                    // QuestionSolution 생성 및 리스트에 추가
-                    List<QuestionSolution> solutions = new ArrayList<>();
-                    List<String> solutionsForDto = new ArrayList<>();
-                    Byte i = 1;
-                    for (String step : questionJsonDto.getSteps()) {
-                        solutionsForDto.add(step);
-                        QuestionSolution questionSolution = QuestionSolution.builder()
-                                .question(question)
-                                .step(i)
-                                .solutionContent(step)
-                                .build();
-                        solutions.add(questionSolution);
-                        i++;
-                    }
-                    // 한 번에 모든 QuestionSolution 저장
-                    questionSolutionRepository.saveAll(solutions);
-
-                    List<QuestionConcept> concepts = new ArrayList<>();
-                    List<String> conceptsForDto = new ArrayList<>();
-                    for (Integer concept : questionJsonDto.getConcept()) {
-                        SubConcept subConcept = subConceptRepository.findById(concept).orElseThrow(
-                                () -> new RuntimeException("Sub concept not found")
-                        );
-                        // 마지막 학습시간을 현재시간으로 업데이트
-                        for (LastLearningTime lastLearningTime : user.getLastLearningTimes()) {
-                            if (Objects.equals(lastLearningTime.getSubConcept().getId(), subConcept.getId())) {
-                                lastLearningTime.updateLastLearningDate(LocalDateTime.now());
-                                lastLearningDateRepository.save(lastLearningTime);
-                            }
-                        }
-                        conceptsForDto.add(subConcept.getConceptType());
-                        QuestionConcept questionConcept = QuestionConcept.builder()
-                                .question(question)
-                                .subConcept(subConcept)
-                                .build();
-                        concepts.add(questionConcept);
-                    }
-                    questionConceptRepository.saveAll(concepts);
-                    ApiResponseDto apiResponseDto = ApiResponseDto.builder()
-                            .questionText(questionJsonDto.getQuestion())
-                            .answer(questionJsonDto.getAnswer())
-                            .imageUrl(imageUrl)
-                            .questionSolution(solutionsForDto)
-                            .subConcepts(conceptsForDto)
-                            .build();
-                    QuestionResult questionResult = QuestionResult.builder()
-                            .question(question)
-                            .user(user)
-                            .solvedAt(LocalDateTime.now())
-                            .isCorrect(false)
-                            .solutionImage(null)
-                            .solutionImage("https://odab-s3-1.s3.ap-northeast-2.amazonaws.com/product/defaultImg.png")
-                            .times(0)
-                            .build();
-                    questionResultRepository.save(questionResult);
-                    return Mono.just(apiResponseDto);
+                    conversation.emit("summary", questionJsonDto);
+                    return saveSolvedQuestion(apiRequestDto, userId, image, questionJsonDto);
                 });
     }
 
     /**
-     * request 의 Messages 는 설정 안해도 됨.
-     * sendMessages 로만 보낼 메시지 적용됨.
+     * jpaScheduler 에서 트랜잭션으로 저장함. 이미지 URL 은 내용으로 정해지므로 S3 업로드는 기다리지 않음
+     * presigned 업로드로 이미 S3 에 있는 이미지는 그 URL 을 그대로 쓰고, multipart 는 이미 읽어 둔 바이트를 올림
      */
-    @Transactional
-    public Mono<ClaudeResponseApiDto> sendClaudeApi(
-            ClaudeRequestApiDto request,
-            List<ClaudeRequestApiDto.Message> sendMessages,
-            int depth,
-            boolean isFirst,
-            Integer userId) {
-        System.out.println("request = " + request);
-        ArrayDeque<Integer> toolUseIndexQueue = new ArrayDeque<>();
-//        System.out.println("request = " + request.getMessages());
-        return claudeConfig.getWebClient().post()
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(ClaudeResponseApiDto.class)
-                .timeout(Duration.ofSeconds(REQUEST_TIMEOUT_SECONDS))
-                .doOnNext(response -> {
-                    List<Object> contents = new ArrayList<>();
-                    // 답변받은 내용 저장
-                    for (int i = 0; i < response.getContent().size(); i++) {
-                        ClaudeResponseApiDto.Content content = response.getContent().get(i);
-                        if (!toolUtil.hasToolUse(content)) {
-                            contents.add(ClaudeRequestApiDto.TextContent.builder()
-                                    .type(content.getType())
-                                    .text(content.getText())
-                                    .build());
-                        } else {
-                            toolUseIndexQueue.add(i);
-                            contents.add(ClaudeRequestApiDto.ToolUseContent.builder()
-                                    .type(content.getType())
-                                    .id(content.getId())
-                                    .name(content.getName())
-                                    .input(content.getInput())
-                                    .build());
-                        }
+    private Mono<ApiResponseDto> saveSolvedQuestion(ApiRequestDto apiRequestDto, Integer userId, SolveImage image,
+                                                    QuestionJsonDto questionJsonDto) {
+        String dirName = "product";
+        return Mono.fromCallable(() -> {
+                    if (apiRequestDto.getImageKey() != null) {
+                        return presignedUploadService.confirmedUrl(userId, apiRequestDto.getImageKey());
                     }
-                    ClaudeRequestApiDto.Message responseMessage = ClaudeRequestApiDto.Message.builder()
-                            .role(response.getRole())
-                            .content(contents)
-                            .build();
-                    sendMessages.add(responseMessage);
-                    // 답변받은 내용 저장 끝
+                    MultipartFile file = apiRequestDto.getImageData();
+                    return s3ServiceImpl.uploadFileAsync(image.original(), file.getContentType(),
+                            file.getOriginalFilename(), dirName);
                 })
-                .flatMap(response -> {
-                    boolean isToolUse = !toolUseIndexQueue.isEmpty();
-                    while (!toolUseIndexQueue.isEmpty()) {
-                        int index = toolUseIndexQueue.poll();
-                        ClaudeResponseApiDto.Content content = response.getContent().get(index);
-                        toolUtil.useTool(content, sendMessages);
-                    }
-                    // 최대 왔다갔다 설정
-                    if (depth > MAX_DEPTH) return Mono.just(response);
-                    // 메시지 개수 설정
-                    if (sendMessages.size() > 40) {
-                        return Mono.error(new RuntimeException("메시지가 너무 많습니다"));
-                    }
-                    if (isToolUse) {
-                        return sendClaudeApi(request, sendMessages, depth + 1, false, userId);
-                    } else if (!isFirst) {
-                        // toolUse가 없을 때 마지막으로 요청을 한 번 더 보내 총 정리를 수행
-                        return sendClaudeApiForSummary(request, sendMessages);
-                    } else {
-                        return Mono.just(response);
-                    }
+                .subscribeOn(Schedulers.boundedElastic())
+                .publishOn(jpaScheduler)
+                .map(imageUrl -> solvedQuestionService.saveSolvedQuestion(userId, imageUrl, questionJsonDto));
+    }
+
+    /**
+     * 도구 없이 한 번만 주고받는 요청
+     */
+    private Mono<ClaudeResponseApiDto> sendClaudeApi(String call, ClaudeRequestApiDto request, Integer userId) {
+        return sendClaudeApi(ClaudeConversation.of(call, request, false, userId, null));
+    }
+
+    /**
+     * tool_use 가 없을 때까지 요청을 반복함. 재귀 대신 expand 로 한 턴씩 이어감.
+     * summaryRequired 이면 마지막에 정리 요청을 한 번 더 보내고, 마지막 응답을 반환함.
+     */
+    private Mono<ClaudeResponseApiDto> sendClaudeApi(ClaudeConversation conversation) {
+        return Mono.defer(() -> {
+                    Timer.Sample sample = claudeMetrics.start();
+                    return callClaude(conversation)
+                            .expand(response -> nextTurn(conversation, response))
+                            .last()
+                            .doOnSuccess(response -> claudeMetrics.recordConversation(
+                                    sample, conversation.getCall(), conversation.getDepth(), false))
+                            .doOnError(e -> claudeMetrics.recordConversation(
+                                    sample, conversation.getCall(), conversation.getDepth(), true));
                 })
-                .retry(MAX_RETRIES)
+                // 대화가 끝나면 생각 기록은 필요 없음
+                .doFinally(signal -> sequentialThinkingServer.endSession(conversation.getId()))
                 //에러날 시 error 답변 받기
                 .onErrorResume(error -> {
-                    error.printStackTrace();
                     String errorMessage = error.getMessage();
                     if (error instanceof java.util.concurrent.TimeoutException) {
                         errorMessage = "요청 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.";
                         logger.error("Claude API 요청 타임아웃: {}", errorMessage);
                     } else {
-                        logger.error("Claude Api Error: {}", errorMessage);
+                        logger.error("Claude Api Error: {}", errorMessage, error);
                     }
-                    System.out.println("Claude Api Error: " + errorMessage);
                     return Mono.just(ClaudeResponseApiDto.getClaudeErrorDto(errorMessage));
                 });
     }
 
-
-    @Transactional
-    public Mono<ClaudeResponseApiDto> sendClaudeApiForSummary(
-            ClaudeRequestApiDto request,
-            List<ClaudeRequestApiDto.Message> sendMessages) {
-        List<Object> summaryContents = new ArrayList<>();
-        List<SubConcept> subConcepts = subConceptRepository.findAll();
-        StringBuilder sb = new StringBuilder();
-
-        sb.append("""
-                아래에 맞춰 답변해줘.
-                1. 지금까지의 대화 내용을 바탕으로 정리해줘.
-                2. [[]] 안의 내용은 너가 채워 넣어야하는 부분이야.
-                3. question 은 문제야.
-                4. step 은 너가 문제 푼 내용이야. step10 이내로 만들어줘.
-                5. concept 은 사용된 수학 개념을 적어줘. 수학개념은 아래에서 가장 적절한 개념을 최대 5개 골라서 사용해줘. 적절한 것이 없을경우 빈배열로 반환해줘. 각 개념에 맞는 숫자로 반환해줘.
-                """);
-
-        int conceptIndex = 1;
-        for (SubConcept concept : subConcepts) {
-            sb.append(String.format("""
-                            5-%d. %s = %d%n
-                    """, conceptIndex++, concept.getConceptType(), concept.getId()));
+    /**
+     * 직전 응답을 보고 다음 요청을 만듦. 더 보낼 것이 없으면 empty
+     */
+    private Mono<ClaudeResponseApiDto> nextTurn(ClaudeConversation conversation, ClaudeResponseApiDto response) {
+        if (conversation.isSummarized()) {
+            return Mono.empty();
         }
+        List<ClaudeResponseApiDto.Content> toolUses = response.getContent().stream()
+                .filter(toolUtil::hasToolUse)
+                .toList();
+        for (ClaudeResponseApiDto.Content content : toolUses) {
+            if ("sequentialThinking".equals(content.getName())) {
+                conversation.emit("thought", content.getInput());
+            }
+            toolUtil.useTool(conversation.getId(), content, conversation.getMessages());
+        }
+        // 메시지 개수 설정
+        if (conversation.getMessages().size() > MAX_MESSAGES) {
+            return Mono.error(new RuntimeException("메시지가 너무 많습니다"));
+        }
+        // 최대 왔다갔다 설정
+        if (!toolUses.isEmpty() && conversation.getDepth() < MAX_DEPTH) {
+            return callClaude(conversation);
+        }
+        if (conversation.isSummaryRequired()) {
+            // toolUse가 없을 때 마지막으로 요청을 한 번 더 보내 총 정리를 수행
+            return summarize(conversation);
+        }
+        return Mono.empty();
+    }
 
-
-        sb.append("""
-                6. 아래 형식에 맞춰서 정리해주고 형식 이외의 대답은 넣지마.
-                
-                {
-                  "question":"[[문제 내용]]",
-                  "steps": [
-                    "[[step1의 대한 내용]]",
-                    "[[step2의 대한 내용]]",
-                    "[[step3의 대한 내용]]"
-                  ],
-                  "answer":"[[정답]]",
-                  "concept": [
-                    "[[사용된 수학 개념1. ex) 1]]",
-                    "[[사용된 수학 개념2. ex) 2]]"
-                  ]
-                }
-                """);
-        System.out.println("sb.toString() = " + sb);
-        summaryContents.add(ClaudeRequestApiDto.TextContent.builder()
-                .type("text")
-                .text(sb.toString())
-                .build());
-        ClaudeRequestApiDto.Message summaryMessage = ClaudeRequestApiDto.Message.builder()
-                .role("user")
-                .content(summaryContents)
-                .build();
-        sendMessages.add(summaryMessage);
-
-
-        //POST 요청하고 답변받기
-        Mono<ClaudeResponseApiDto> a = claudeConfig.getWebClient().post()
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(ClaudeResponseApiDto.class)
-                .timeout(Duration.ofSeconds(REQUEST_TIMEOUT_SECONDS))
-                .doOnNext(response -> {
-                    List<Object> contents = new ArrayList<>();
-                    // 답변받은 내용 저장
-                    for (int i = 0; i < response.getContent().size(); i++) {
-                        ClaudeResponseApiDto.Content content = response.getContent().get(i);
-                        if (!toolUtil.hasToolUse(content)) {
-                            contents.add(ClaudeRequestApiDto.TextContent.builder()
-                                    .type(content.getType())
-                                    .text(content.getText())
-                                    .build());
-                        } else {
-                            contents.add(ClaudeRequestApiDto.ToolUseContent.builder()
-                                    .type(content.getType())
-                                    .id(content.getId())
-                                    .name(content.getName())
-                                    .input(content.getInput())
-                                    .build());
-                        }
-                    }
-                    ClaudeRequestApiDto.Message responseMessage = ClaudeRequestApiDto.Message.builder()
-                            .role(response.getRole())
-                            .content(contents)
-                            .build();
-                    sendMessages.add(responseMessage);
-                    // 답변받은 내용 저장 끝
+    /**
+     * API 호출 한 번. 재시도는 이 호출에만 적용되므로 tool 실행이나 메시지 추가가 중복되지 않음
+     */
+    private Mono<ClaudeResponseApiDto> callClaude(ClaudeConversation conversation) {
+        // 사용자에게 이미 내보낸 delta 는 되돌릴 수 없으므로, 하나라도 내보낸 뒤에는 재시도하지 않음
+        AtomicBoolean streamed = new AtomicBoolean();
+        return Mono.defer(() -> {
+                    conversation.moveCacheBreakpoint();
+                    return claudeApiClient.stream(conversation.getCall(), conversation.getRequest(),
+                            text -> {
+                                streamed.set(true);
+                                conversation.emit("delta", text);
+                            });
                 })
-                //에러날 시 error 답변 받기
-                .onErrorResume(error -> {
-                    error.printStackTrace();
-                    String errorMessage = error.getMessage();
-                    if (error instanceof java.util.concurrent.TimeoutException) {
-                        errorMessage = "요청 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.";
-                        logger.error("Claude API 요청 타임아웃: {}", errorMessage);
-                    } else {
-                        logger.error("Claude Api Error: {}", errorMessage);
+                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofSeconds(1))
+                        .filter(error -> !streamed.get() && isRetryable(error))
+                        .doBeforeRetry(signal -> claudeMetrics.countRetry(conversation.getCall(), signal.failure()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .doOnNext(response -> {
+                    ClaudeResponseApiDto.Usage usage = response.getUsage();
+                    if (usage != null) {
+                        logger.debug("Claude usage: input={}, cache_read={}, cache_write={}, output={}",
+                                usage.getInput_tokens(), usage.getCache_read_input_tokens(),
+                                usage.getCache_creation_input_tokens(), usage.getOutput_tokens());
                     }
-                    System.out.println("Claude Api Error: " + errorMessage);
-                    return Mono.just(ClaudeResponseApiDto.getClaudeErrorDto(errorMessage));
+                    conversation.nextTurn();
+                    conversation.appendAssistant(response);
                 });
-        return a;
+    }
+
+    // 429, 5xx(529 overloaded 포함), 연결 실패, 응답 대기 타임아웃만 재시도. 자리 대기 타임아웃은 재시도하지 않음
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        if (error instanceof PermitTimeoutException) {
+            return false;
+        }
+        if (error instanceof java.util.concurrent.TimeoutException) {
+            return true;
+        }
+        if (error instanceof WebClientRequestException requestException) {
+            Throwable cause = requestException.getMostSpecificCause();
+            return cause instanceof ConnectException
+                    || cause instanceof SocketTimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException;
+        }
+        return false;
+    }
+
+    // 정리 형식은 system prompt 에 있으므로 짧은 요청만 추가함 (앞부분은 캐시에서 읽음)
+    private Mono<ClaudeResponseApiDto> summarize(ClaudeConversation conversation) {
+        return Mono.defer(() -> {
+            conversation.appendUserText(SUMMARY_REQUEST);
+            conversation.markSummarized();
+            return callClaude(conversation);
+        });
+    }
+
+    /**
+     * 문제 풀이 대화의 system prompt (블로킹).
+     * 개념 목록은 카탈로그에 미리 만들어 둔 것을 사용자 학년 기준으로 골라서 넣음.
+     * 같은 학년이면 글자 그대로 같으므로 프롬프트 캐시가 적중함
+     */
+    private String buildSolveSystemPrompt(Integer userId) {
+        Integer grade = userId == null ? null : userRepository.findGradeById(userId).orElse(null);
+        return SOLVE_SYSTEM_HEADER + conceptCatalog.conceptPrompt(grade) + SOLVE_SYSTEM_FORMAT;
     }
 }
@@ -0,0 +1,27 @@
+package com.ssafy.odab.mcpLLM.service;
+
+/**
+ * 채점 응답(isCorrectAnswer)처럼 "라벨: 내용" 줄로 된 Claude 응답에서 값을 꺼냄
+ */
+final class ResponseLabels {
+
+    private ResponseLabels() {
+    }
+
+    // label 이 처음 나온 곳부터 그 줄 끝까지 (앞뒤 공백 제거). label 이 없으면 빈 문자열
+    static String extract(String response, String label) {
+        int labelIndex = response.indexOf(label);
+        if (labelIndex < 0) {
+            return "";
+        }
+
+        int startIndex = labelIndex + label.length();
+        int endIndex = response.indexOf("\n", startIndex);
+
+        if (endIndex == -1) {
+            return response.substring(startIndex).trim();
+        } else {
+            return response.substring(startIndex, endIndex).trim();
+        }
+    }
+}
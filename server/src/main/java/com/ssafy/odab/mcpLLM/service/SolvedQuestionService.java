@@ -0,0 +1,15 @@
+package com.ssafy.odab.mcpLLM.service;
+
+import com.ssafy.odab.mcpLLM.dto.ApiResponseDto;
+import com.ssafy.odab.mcpLLM.dto.QuestionJsonDto;
+import com.ssafy.odab.mcpLLM.image.ImageHash;
+
+import java.util.Optional;
+
+public interface SolvedQuestionService {
+
+    ApiResponseDto saveSolvedQuestion(Integer userId, String imageUrl, QuestionJsonDto questionJsonDto);
+
+    // 같은 이미지, 같은 문제 텍스트로 이미 풀이한 문제의 텍스트, 풀이, 개념 (다른 회원의 이미지 URL 은 넘기지 않음)
+    Optional<QuestionJsonDto> findSolvedQuestion(ImageHash imageHash, String ask);
+}
@@ -0,0 +1,151 @@
+package com.ssafy.odab.mcpLLM.service;
+
+import com.ssafy.odab.domain.concept.entity.QuestionConcept;
+import com.ssafy.odab.domain.concept.entity.SubConcept;
+import com.ssafy.odab.domain.concept.repository.QuestionConceptRepository;
+import com.ssafy.odab.domain.concept.repository.SubConceptRepository;
+import com.ssafy.odab.domain.learning.entity.LastLearningTime;
+import com.ssafy.odab.domain.learning.repository.LastLearningDateRepository;
+import com.ssafy.odab.domain.question.entity.Question;
+import com.ssafy.odab.domain.question.entity.QuestionSolution;
+import com.ssafy.odab.domain.question.repository.QuestionRepository;
+import com.ssafy.odab.domain.question.repository.QuestionSolutionRepository;
+import com.ssafy.odab.domain.question_result.entity.QuestionResult;
+import com.ssafy.odab.domain.question_result.repository.QuestionResultRepository;
+import com.ssafy.odab.domain.user.entity.User;
+import com.ssafy.odab.domain.user.repository.UserRepository;
+import com.ssafy.odab.mcpLLM.dto.ApiResponseDto;
+import com.ssafy.odab.mcpLLM.dto.QuestionJsonDto;
+import com.ssafy.odab.mcpLLM.image.ImageHash;
+import com.ssafy.odab.mcpLLM.image.service.ImageFingerprintService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Claude 가 정리한 풀이를 저장함.
+ * Reactor 파이프라인에서는 jpaScheduler 위에서 호출해야 함.
+ */
+@Service
+@RequiredArgsConstructor
+public class SolvedQuestionServiceImpl implements SolvedQuestionService {
+    private static final String DEFAULT_SOLUTION_IMAGE = "https://odab-s3-1.s3.ap-northeast-2.amazonaws.com/product/defaultImg.png";
+
+    private final UserRepository userRepository;
+    private final QuestionRepository questionRepository;
+    private final QuestionSolutionRepository questionSolutionRepository;
+    private final SubConceptRepository subConceptRepository;
+    private final QuestionConceptRepository questionConceptRepository;
+    private final LastLearningDateRepository lastLearningDateRepository;
+    private final QuestionResultRepository questionResultRepository;
+    private final ImageFingerprintService imageFingerprintService;
+
+    /**
+     * 정리된 풀이를 문제, 풀이, 개념, 첫 풀이 결과로 저장함
+     */
+    @Override
+    @Transactional
+    public ApiResponseDto saveSolvedQuestion(Integer userId, String imageUrl, QuestionJsonDto questionJsonDto) {
+        User user = userRepository.findByIdWithLastLearningTimes(userId).orElseThrow(
+                () -> new RuntimeException("User not found")
+        );
+
+        Question question = Question.builder()
+                .user(user)
+                .questionText(questionJsonDto.getQuestion())
+                .answer(questionJsonDto.getAnswer())
+                .questionImg(imageUrl)
+                .registedAt(LocalDateTime.now())
+                .build();
+
+        question = questionRepository.save(question); // 저장 후 반환된 엔티티를 받음
+        // QuestionSolution 생성 및 리스트에 추가
+        List<QuestionSolution> solutions = new ArrayList<>();
+        List<String> solutionsForDto = new ArrayList<>();
+        Byte i = 1;
+        for (String step : questionJsonDto.getSteps()) {
+            solutionsForDto.add(step);
+            QuestionSolution questionSolution = QuestionSolution.builder()
+                    .question(question)
+                    .step(i)
+                    .solutionContent(step)
+                    .build();
+            solutions.add(questionSolution);
+            i++;
+        }
+        // 한 번에 모든 QuestionSolution 저장
+        questionSolutionRepository.saveAll(solutions);
+
+        List<QuestionConcept> concepts = new ArrayList<>();
+        List<String> conceptsForDto = new ArrayList<>();
+        for (Integer concept : questionJsonDto.getConcept()) {
+            SubConcept subConcept = subConceptRepository.findById(concept).orElseThrow(
+                    () -> new RuntimeException("Sub concept not found")
+            );
+            // 마지막 학습시간을 현재시간으로 업데이트
+            for (LastLearningTime lastLearningTime : user.getLastLearningTimes()) {
+                if (Objects.equals(lastLearningTime.getSubConcept().getId(), subConcept.getId())) {
+                    lastLearningTime.updateLastLearningDate(LocalDateTime.now());
+                    lastLearningDateRepository.save(lastLearningTime);
+                }
+            }
+            conceptsForDto.add(subConcept.getConceptType());
+            QuestionConcept questionConcept = QuestionConcept.builder()
+                    .question(question)
+                    .subConcept(subConcept)
+                    .build();
+            concepts.add(questionConcept);
+        }
+        questionConceptRepository.saveAll(concepts);
+
+        QuestionResult questionResult = QuestionResult.builder()
+                .question(question)
+                .user(user)
+                .solvedAt(LocalDateTime.now())
+                .isCorrect(false)
+                .solutionImage(DEFAULT_SOLUTION_IMAGE)
+                .times(0)
+                .build();
+        questionResultRepository.save(questionResult);
+
+        return ApiResponseDto.builder()
+                .questionId(question.getId())
+                .questionText(questionJsonDto.getQuestion())
+                .answer(questionJsonDto.getAnswer())
+                .imageUrl(imageUrl)
+                .questionSolution(solutionsForDto)
+                .subConcepts(conceptsForDto)
+                .build();
+    }
+
+    /**
+     * 이미 풀이된 문제의 텍스트, 풀이, 개념만 꺼냄. 이미지는 요청한 회원이 올린 것을 따로 저장해야 함
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<QuestionJsonDto> findSolvedQuestion(ImageHash imageHash, String ask) {
+        return imageFingerprintService.findSolved(imageHash, ask)
+                .map(fingerprint -> toQuestionJson(fingerprint.getQuestion()));
+    }
+
+    private QuestionJsonDto toQuestionJson(Question question) {
+        return QuestionJsonDto.builder()
+                .question(question.getQuestionText())
+                .answer(question.getAnswer())
+                .steps(question.getQuestionSolutions().stream()
+                        .sorted(Comparator.comparing(QuestionSolution::getStep))
+                        .map(QuestionSolution::getSolutionContent)
+                        .toList())
+                .concept(question.getQuestionConcepts().stream()
+                        .map(questionConcept -> questionConcept.getSubConcept().getId())
+                        .toList())
+                .build();
+    }
+}
@@ -2,13 +2,66 @@ package com.ssafy.odab.mcpLLM.toolFactory;
 import com.ssafy.odab.mcpLLM.dto.ClaudeRequestApiDto;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * tool 정의는 바뀌지 않으므로 한 번만 만들어서 재사용함.
+ * prompt cache 는 요청 앞부분이 글자 단위로 같아야 적중하므로 properties 순서도 고정함.
+ */
 @Component
 public class SequentialThinkingFactory {
+    private final ClaudeRequestApiDto.Tool sequentialThinkingTool = createSequentialThinkingTool();
+
     public void addSequentialThinkingTools(List<ClaudeRequestApiDto.Tool> tools) {
-        ClaudeRequestApiDto.Tool tool = ClaudeRequestApiDto.Tool.builder()
+        tools.add(sequentialThinkingTool);
+    }
+
+    private static ClaudeRequestApiDto.Tool createSequentialThinkingTool() {
+        Map<String, ClaudeRequestApiDto.Property> properties = new LinkedHashMap<>();
+        properties.put("thought", ClaudeRequestApiDto.Property.builder()
+                .type("string")
+                .description("Your current thinking step")
+                .build());
+        properties.put("nextThoughtNeeded", ClaudeRequestApiDto.Property.builder()
+                .type("boolean")
+                .description("Whether another thought step is needed")
+                .build());
+        properties.put("thoughtNumber", ClaudeRequestApiDto.Property.builder()
+                .type("integer")
+                .description("Current thought number")
+                .minimum(1)
+                .build());
+        properties.put("totalThoughts", ClaudeRequestApiDto.Property.builder()
+                .type("integer")
+                .description("Estimated total thoughts needed")
+                .minimum(1)
+                .build());
+        properties.put("isRevision", ClaudeRequestApiDto.Property.builder()
+                .type("boolean")
+                .description("Whether this revises previous thinking")
+                .build());
+        properties.put("revisesThought", ClaudeRequestApiDto.Property.builder()
+                .type("integer")
+                .description("Which thought is being reconsidered")
+                .minimum(1)
+                .build());
+        properties.put("branchFromThought", ClaudeRequestApiDto.Property.builder()
+                .type("integer")
+                .description("Branching point thought number")
+                .minimum(1)
+                .build());
+        properties.put("branchId", ClaudeRequestApiDto.Property.builder()
+                .type("string")
+                .description("Branch identifier")
+                .build());
+        properties.put("needsMoreThoughts", ClaudeRequestApiDto.Property.builder()
+                .type("boolean")
+                .description("If more thoughts are needed")
+                .build());
+
+        return ClaudeRequestApiDto.Tool.builder()
                 .name("sequentialThinking")
                 .description("""
                         A detailed tool for dynamic and reflective problem-solving through thoughts.
@@ -68,56 +121,7 @@ public class SequentialThinkingFactory {
                         """)
                 .input_schema(ClaudeRequestApiDto.InputSchema.builder()
                         .type("object")
-                        .properties(Map.of(
-                                "thought", ClaudeRequestApiDto.Property.builder()
-                                        .type("string")
-                                        .description("Your current thinking step")
-                                        .build(),
-
-                                "nextThoughtNeeded", ClaudeRequestApiDto.Property.builder()
-                                        .type("boolean")
-                                        .description("Whether another thought step is needed")
-                                        .build(),
-
-                                "thoughtNumber", ClaudeRequestApiDto.Property.builder()
-                                        .type("integer")
-                                        .description("Current thought number")
-                                        .minimum(1)
-                                        .build(),
-
-                                "totalThoughts", ClaudeRequestApiDto.Property.builder()
-                                        .type("integer")
-                                        .description("Estimated total thoughts needed")
-                                        .minimum(1)
-                                        .build(),
-
-                                "isRevision", ClaudeRequestApiDto.Property.builder()
-                                        .type("boolean")
-                                        .description("Whether this revises previous thinking")
-                                        .build(),
-
-                                "revisesThought", ClaudeRequestApiDto.Property.builder()
-                                        .type("integer")
-                                        .description("Which thought is being reconsidered")
-                                        .minimum(1)
-                                        .build(),
-
-                                "branchFromThought", ClaudeRequestApiDto.Property.builder()
-                                        .type("integer")
-                                        .description("Branching point thought number")
-                                        .minimum(1)
-                                        .build(),
-
-                                "branchId", ClaudeRequestApiDto.Property.builder()
-                                        .type("string")
-                                        .description("Branch identifier")
-                                        .build(),
-
-                                "needsMoreThoughts", ClaudeRequestApiDto.Property.builder()
-                                        .type("boolean")
-                                        .description("If more thoughts are needed")
-                                        .build()
-                        ))
+                        .properties(properties)
                         .required(List.of(
                                 "thought",
                                 "nextThoughtNeeded",
@@ -125,7 +129,8 @@ public class SequentialThinkingFactory {
                                 "totalThoughts"
                         ))
                         .build())
+                // 마지막 tool 에 breakpoint 를 걸어 tool 정의 전체를 캐시함
+                .cache_control(ClaudeRequestApiDto.CacheControl.ephemeral())
                 .build();
-        tools.add(tool);
     }
 }
@@ -8,7 +8,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 @Component
@@ -24,18 +23,13 @@ public class ToolUtil {
     }
 
     /**
-     * content 와 historyMessages 를 넣어줘야함
+     * sessionId(대화 id), content 와 historyMessages 를 넣어줘야함
      */
-    public void useTool(ClaudeResponseApiDto.Content content, List<ClaudeRequestApiDto.Message> historyMessages) {
+    public void useTool(String sessionId, ClaudeResponseApiDto.Content content, List<ClaudeRequestApiDto.Message> historyMessages) {
         List<Object> contents = new ArrayList<>();
         switch (content.getName()) {
             case "sequentialThinking":
-                Map<String, Object> result = sequentialThinkingServer.processThought(content.input, content.getId());
-                contents.add(ClaudeRequestApiDto.ToolResultContent.builder()
-                                .type("tool_result")
-                                .tool_use_id(content.getId())
-                                .content(List.of(result))
-                        .build());
+                contents.add(sequentialThinkingServer.processThought(sessionId, content.getId(), content.input));
                 ClaudeRequestApiDto.Message message = ClaudeRequestApiDto.Message.builder()
                         .role("user")
                         .content(contents)
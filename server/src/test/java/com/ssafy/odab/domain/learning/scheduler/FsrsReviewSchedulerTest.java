@@ -0,0 +1,101 @@
+package com.ssafy.odab.domain.learning.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class FsrsReviewSchedulerTest {
+
+    private static final LocalDate FIRST_WRONG = LocalDate.of(2025, 5, 1);
+
+    private final FsrsReviewScheduler scheduler = new FsrsReviewScheduler(0.9, 365);
+
+    @Test
+    void 처음_틀리면_Again_의_초기값으로_시작() {
+        ReviewState state = scheduler.start(FIRST_WRONG);
+
+        assertThat(state.reviewOrder()).isEqualTo(1);
+        assertThat(state.stability()).isCloseTo(0.4872, within(1e-9));
+        assertThat(state.difficulty()).isCloseTo(7.6214, within(1e-9));
+        assertThat(state.intervalDays()).isEqualTo(1);
+        assertThat(state.dueDate()).isEqualTo(FIRST_WRONG.plusDays(1));
+    }
+
+    @Test
+    void 복습일에_계속_맞히면_간격이_늘어남() {
+        ReviewState state = scheduler.start(FIRST_WRONG);
+        List<Integer> intervals = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            state = scheduler.review(state, true, state.dueDate());
+            intervals.add(state.intervalDays());
+        }
+
+        assertThat(intervals).containsExactly(2, 6, 15, 37, 84, 182);
+        assertThat(state.reviewOrder()).isEqualTo(7);
+        assertThat(state.dueDate()).isEqualTo(state.lastReviewedDate().plusDays(182));
+    }
+
+    @Test
+    void 틀리면_안정도가_줄고_난이도가_오름() {
+        ReviewState state = scheduler.start(FIRST_WRONG);
+        for (int i = 0; i < 6; i++) {
+            state = scheduler.review(state, true, state.dueDate());
+        }
+        double stability = state.stability();
+        double difficulty = state.difficulty();
+
+        ReviewState forgotten = scheduler.review(state, false, state.dueDate());
+
+        assertThat(forgotten.stability()).isLessThan(stability);
+        assertThat(forgotten.difficulty()).isGreaterThan(difficulty).isLessThanOrEqualTo(10.0);
+        assertThat(forgotten.intervalDays()).isEqualTo(9);
+    }
+
+    @Test
+    void 간격은_max_interval_days_를_넘지_않음() {
+        FsrsReviewScheduler capped = new FsrsReviewScheduler(0.9, 30);
+        ReviewState state = capped.start(FIRST_WRONG);
+        for (int i = 0; i < 6; i++) {
+            state = capped.review(state, true, state.dueDate());
+        }
+
+        assertThat(state.intervalDays()).isEqualTo(30);
+    }
+
+    @Test
+    void 목표_기억률이_높을수록_자주_복습함() {
+        ReviewState strict = reviewTwice(new FsrsReviewScheduler(0.95, 365));
+        ReviewState loose = reviewTwice(new FsrsReviewScheduler(0.8, 365));
+
+        assertThat(strict.intervalDays()).isLessThan(loose.intervalDays());
+    }
+
+    @Test
+    void 다른_스케줄러로_만든_상태는_처음_틀렸을_때_값부터_시작() {
+        ReviewState fixed = new FixedIntervalReviewScheduler(List.of(1, 4, 6, 13)).start(FIRST_WRONG);
+
+        ReviewState state = scheduler.review(fixed, true, fixed.dueDate());
+
+        assertThat(state.intervalDays()).isEqualTo(2);
+        assertThat(state.stability()).isNotNull();
+        assertThat(state.difficulty()).isNotNull();
+    }
+
+    @Test
+    void 목표_기억률은_0과_1_사이() {
+        assertThatThrownBy(() -> new FsrsReviewScheduler(1.0, 365)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FsrsReviewScheduler(0.0, 365)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ReviewState reviewTwice(FsrsReviewScheduler scheduler) {
+        ReviewState state = scheduler.start(FIRST_WRONG);
+        state = scheduler.review(state, true, state.dueDate());
+        return scheduler.review(state, true, state.dueDate());
+    }
+}
@@ -0,0 +1,83 @@
+package com.ssafy.odab.domain.learning.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class Sm2ReviewSchedulerTest {
+
+    private static final LocalDate FIRST_WRONG = LocalDate.of(2025, 5, 1);
+
+    private final Sm2ReviewScheduler scheduler = new Sm2ReviewScheduler();
+
+    @Test
+    void 처음_틀리면_다음날_복습() {
+        ReviewState state = scheduler.start(FIRST_WRONG);
+
+        assertThat(state.reviewOrder()).isEqualTo(1);
+        assertThat(state.repetitions()).isZero();
+        assertThat(state.ease()).isEqualTo(2.5);
+        assertThat(state.intervalDays()).isEqualTo(1);
+        assertThat(state.dueDate()).isEqualTo(FIRST_WRONG.plusDays(1));
+        assertThat(state.lastReviewedDate()).isNull();
+    }
+
+    @Test
+    void 연속으로_맞히면_1일_6일_간격_곱하기_ease_로_늘어남() {
+        ReviewState state = scheduler.start(FIRST_WRONG);
+
+        state = scheduler.review(state, true, state.dueDate());
+        assertThat(state.intervalDays()).isEqualTo(1);
+        state = scheduler.review(state, true, state.dueDate());
+        assertThat(state.intervalDays()).isEqualTo(6);
+        state = scheduler.review(state, true, state.dueDate());
+        assertThat(state.intervalDays()).isEqualTo(15);
+
+        assertThat(state.reviewOrder()).isEqualTo(4);
+        assertThat(state.repetitions()).isEqualTo(3);
+        // 4점이면 ease 는 그대로
+        assertThat(state.ease()).isCloseTo(2.5, within(1e-9));
+        assertThat(state.dueDate()).isEqualTo(state.lastReviewedDate().plusDays(15));
+    }
+
+    @Test
+    void 틀리면_처음부터_다시_시작하고_ease_가_줄어듦() {
+        ReviewState state = scheduler.start(FIRST_WRONG);
+        state = scheduler.review(state, true, state.dueDate());
+        state = scheduler.review(state, true, state.dueDate());
+
+        LocalDate reviewedOn = state.dueDate();
+        state = scheduler.review(state, false, reviewedOn);
+
+        assertThat(state.repetitions()).isZero();
+        assertThat(state.intervalDays()).isEqualTo(1);
+        assertThat(state.dueDate()).isEqualTo(reviewedOn.plusDays(1));
+        assertThat(state.ease()).isCloseTo(1.96, within(1e-9));
+    }
+
+    @Test
+    void ease_는_1_3_아래로_내려가지_않음() {
+        ReviewState state = scheduler.start(FIRST_WRONG);
+        for (int i = 0; i < 5; i++) {
+            state = scheduler.review(state, false, state.dueDate());
+        }
+
+        assertThat(state.ease()).isEqualTo(1.3);
+    }
+
+    @Test
+    void 다른_스케줄러로_만든_상태는_기본값부터_시작() {
+        ReviewState fixed = new FixedIntervalReviewScheduler(List.of(1, 4, 6, 13)).start(FIRST_WRONG);
+
+        ReviewState state = scheduler.review(fixed, true, fixed.dueDate());
+
+        assertThat(state.repetitions()).isEqualTo(1);
+        assertThat(state.intervalDays()).isEqualTo(1);
+        assertThat(state.ease()).isCloseTo(2.5, within(1e-9));
+        assertThat(state.reviewOrder()).isEqualTo(2);
+    }
+}
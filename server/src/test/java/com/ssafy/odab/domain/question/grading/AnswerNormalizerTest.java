@@ -0,0 +1,49 @@
+package com.ssafy.odab.domain.question.grading;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswerNormalizerTest {
+
+    @Test
+    void null_이면_빈_문자열() {
+        assertThat(AnswerNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void 공백과_정답_접두어와_끝의_마침표를_뺌() {
+        assertThat(AnswerNormalizer.normalize("  정답: x = 3 .")).isEqualTo("x=3");
+        assertThat(AnswerNormalizer.normalize("Answer : 12")).isEqualTo("12");
+    }
+
+    @Test
+    void 위첨자는_거듭제곱으로_바꿈() {
+        assertThat(AnswerNormalizer.normalize("x² + 1")).isEqualTo("x^2+1");
+        assertThat(AnswerNormalizer.normalize("x¹⁰")).isEqualTo("x^10");
+        assertThat(AnswerNormalizer.normalize("x**2")).isEqualTo("x^2");
+    }
+
+    @Test
+    void 연산_기호와_전각_문자를_통일함() {
+        assertThat(AnswerNormalizer.normalize("3×4÷2")).isEqualTo("3*4/2");
+        assertThat(AnswerNormalizer.normalize("x − 1 ≦ 2")).isEqualTo("x-1≤2");
+        assertThat(AnswerNormalizer.normalize("１２")).isEqualTo("12");
+        assertThat(AnswerNormalizer.normalize("½")).isEqualTo("1/2");
+    }
+
+    @Test
+    void LaTeX_분수와_제곱근을_풀어씀() {
+        assertThat(AnswerNormalizer.normalize("$\\frac{1}{2}$")).isEqualTo("1/2");
+        assertThat(AnswerNormalizer.normalize("\\dfrac{x+1}{2}")).isEqualTo("(x+1)/2");
+        assertThat(AnswerNormalizer.normalize("\\frac{\\frac{1}{2}}{3}")).isEqualTo("(1/2)/3");
+        assertThat(AnswerNormalizer.normalize("2\\sqrt{3}")).isEqualTo("2√3");
+        assertThat(AnswerNormalizer.normalize("x \\leq 3")).isEqualTo("x≤3");
+    }
+
+    @Test
+    void 수식의_형태는_바꾸지_않음() {
+        assertThat(AnswerNormalizer.normalize("2/4")).isEqualTo("2/4");
+        assertThat(AnswerNormalizer.normalize("x + x")).isEqualTo("x+x");
+    }
+}
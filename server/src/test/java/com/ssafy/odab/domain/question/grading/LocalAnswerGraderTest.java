@@ -0,0 +1,47 @@
+package com.ssafy.odab.domain.question.grading;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalAnswerGraderTest {
+
+    private final LocalAnswerGrader grader = new LocalAnswerGrader();
+
+    @Test
+    void 표기만_다르면_정답() {
+        assertThat(grader.grade("x^2+1", "x² + 1")).isEqualTo(GradingVerdict.CORRECT);
+        assertThat(grader.grade("1/2", "$\\frac{1}{2}$")).isEqualTo(GradingVerdict.CORRECT);
+    }
+
+    @Test
+    void 답안이_비어있으면_오답() {
+        assertThat(grader.grade("3", "  ")).isEqualTo(GradingVerdict.INCORRECT);
+        assertThat(grader.grade("3", null)).isEqualTo(GradingVerdict.INCORRECT);
+    }
+
+    @Test
+    void 정답이_없으면_판단하지_않음() {
+        assertThat(grader.grade(null, "3")).isEqualTo(GradingVerdict.AMBIGUOUS);
+    }
+
+    @Test
+    void 숫자_값이_다르면_오답() {
+        assertThat(grader.grade("3", "4")).isEqualTo(GradingVerdict.INCORRECT);
+        assertThat(grader.grade("-1.5", "1.5")).isEqualTo(GradingVerdict.INCORRECT);
+        assertThat(grader.grade("1/3", "0.33")).isEqualTo(GradingVerdict.INCORRECT);
+    }
+
+    @Test
+    void 값이_같고_형태만_다르면_Claude_에게_넘김() {
+        assertThat(grader.grade("1/2", "2/4")).isEqualTo(GradingVerdict.AMBIGUOUS);
+        assertThat(grader.grade("0.5", "1/2")).isEqualTo(GradingVerdict.AMBIGUOUS);
+        assertThat(grader.grade("3", "3.0")).isEqualTo(GradingVerdict.AMBIGUOUS);
+    }
+
+    @Test
+    void 숫자가_아니면_Claude_에게_넘김() {
+        assertThat(grader.grade("x+1", "1+x")).isEqualTo(GradingVerdict.AMBIGUOUS);
+        assertThat(grader.grade("1/0", "3")).isEqualTo(GradingVerdict.AMBIGUOUS);
+    }
+}
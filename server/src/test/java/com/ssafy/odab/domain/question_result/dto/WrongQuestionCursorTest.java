@@ -0,0 +1,68 @@
+package com.ssafy.odab.domain.question_result.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WrongQuestionCursorTest {
+
+    @Test
+    void 인코딩한_cursor_를_그대로_되돌림() {
+        LocalDateTime registedAt = LocalDateTime.of(2025, 5, 1, 13, 45, 30, 123_000_000);
+        WrongQuestionCursor decoded = WrongQuestionCursor.decode(new WrongQuestionCursor(registedAt, 42).encode());
+
+        assertThat(decoded.getRegistedAt()).isEqualTo(registedAt);
+        assertThat(decoded.getQuestionId()).isEqualTo(42);
+    }
+
+    @Test
+    void 등록일이_없는_문제도_되돌림() {
+        WrongQuestionCursor decoded = WrongQuestionCursor.decode(new WrongQuestionCursor(null, 7).encode());
+
+        assertThat(decoded.getRegistedAt()).isNull();
+        assertThat(decoded.getQuestionId()).isEqualTo(7);
+    }
+
+    @Test
+    void 조회_결과의_마지막_줄로_만듦() {
+        LocalDateTime registedAt = LocalDateTime.of(2025, 5, 1, 9, 0);
+        WrongQuestionCursor cursor = WrongQuestionCursor.from(new WrongQuestionRowDto(3, "img", "text", "1", registedAt));
+
+        assertThat(cursor.getRegistedAt()).isEqualTo(registedAt);
+        assertThat(cursor.getQuestionId()).isEqualTo(3);
+    }
+
+    @Test
+    void URL_에_그대로_쓸_수_있는_문자만_씀() {
+        String encoded = new WrongQuestionCursor(LocalDateTime.of(2025, 12, 31, 23, 59, 59), 123456).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 비어있으면_첫_페이지() {
+        assertThat(WrongQuestionCursor.decode(null)).isNull();
+        assertThat(WrongQuestionCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void 형식이_틀리면_IllegalArgumentException() {
+        assertThatThrownBy(() -> WrongQuestionCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WrongQuestionCursor.decode(encode("2025-05-01T09:00")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WrongQuestionCursor.decode(encode("yesterday_3")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WrongQuestionCursor.decode(encode("-_abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,92 @@
+package com.ssafy.odab.mcpLLM.client;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FifoRequestLimiterTest {
+
+    private final FifoRequestLimiter limiter = new FifoRequestLimiter(1, Duration.ofSeconds(10), Schedulers.parallel());
+    private final List<Integer> started = new CopyOnWriteArrayList<>();
+    private final List<Boolean> waitEnds = new CopyOnWriteArrayList<>();
+
+    @Test
+    void 자리가_나면_들어온_순서대로_실행함() {
+        Sinks.One<Integer> first = Sinks.one();
+        limiter.submit(first.asMono(), waitEnds::add).subscribe();
+        for (int i = 1; i <= 5; i++) {
+            limiter.submit(task(i), waitEnds::add).subscribe();
+        }
+        assertThat(started).isEmpty();
+        assertThat(limiter.queued()).isEqualTo(5);
+
+        first.tryEmitValue(0);
+
+        assertThat(started).containsExactly(1, 2, 3, 4, 5);
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+        assertThat(waitEnds).containsOnly(true);
+    }
+
+    @Test
+    void 기다리다_취소한_작업은_실행하지_않음() {
+        Sinks.One<Integer> first = Sinks.one();
+        limiter.submit(first.asMono(), waitEnds::add).subscribe();
+        Disposable cancelled = limiter.submit(task(1), waitEnds::add).subscribe();
+        limiter.submit(task(2), waitEnds::add).subscribe();
+
+        cancelled.dispose();
+        first.tryEmitValue(0);
+
+        assertThat(started).containsExactly(2);
+        assertThat(limiter.queued()).isZero();
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void 실행_중에_취소하면_자리를_돌려줌() {
+        Disposable running = limiter.submit(Mono.never(), waitEnds::add).subscribe();
+        limiter.submit(task(1), waitEnds::add).subscribe();
+        assertThat(limiter.availablePermits()).isZero();
+
+        running.dispose();
+
+        assertThat(started).containsExactly(1);
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void 실패한_작업도_자리를_돌려줌() {
+        Mono<Integer> failing = limiter.submit(Mono.error(new IllegalStateException("boom")), waitEnds::add);
+
+        assertThatThrownBy(failing::block).isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기_시간을_넘기면_PermitTimeoutException() {
+        FifoRequestLimiter shortWait = new FifoRequestLimiter(1, Duration.ofMillis(50), Schedulers.parallel());
+        shortWait.submit(Mono.never(), waitEnds::add).subscribe();
+
+        assertThatThrownBy(() -> shortWait.submit(task(1), waitEnds::add).block(Duration.ofSeconds(5)))
+                .hasCauseInstanceOf(PermitTimeoutException.class);
+        assertThat(started).isEmpty();
+        assertThat(shortWait.queued()).isZero();
+        assertThat(waitEnds).containsExactly(true, false);
+    }
+
+    private Mono<Integer> task(int id) {
+        return Mono.fromCallable(() -> {
+            started.add(id);
+            return id;
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package com.ssafy.odab.mcpLLM.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExifOrientationTest {
+
+    @Test
+    void big_endian_Orientation_을_읽음() {
+        assertThat(ExifOrientation.read(jpegWithOrientation(6, false))).isEqualTo(6);
+    }
+
+    @Test
+    void little_endian_Orientation_을_읽음() {
+        assertThat(ExifOrientation.read(jpegWithOrientation(8, true))).isEqualTo(8);
+    }
+
+    @Test
+    void Exif_가_없으면_1() {
+        byte[] jpeg = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xDA, 0, 2, (byte) 0xFF, (byte) 0xD9};
+
+        assertThat(ExifOrientation.read(jpeg)).isEqualTo(1);
+    }
+
+    @Test
+    void 범위를_벗어난_값이면_1() {
+        assertThat(ExifOrientation.read(jpegWithOrientation(9, false))).isEqualTo(1);
+    }
+
+    @Test
+    void 잘린_Exif_는_무시하고_1() {
+        byte[] jpeg = jpegWithOrientation(6, false);
+
+        assertThat(ExifOrientation.read(Arrays.copyOf(jpeg, 24))).isEqualTo(1);
+    }
+
+    /**
+     * SOI, APP1(Exif, IFD0 에 Orientation 하나), SOS 로 된 최소 JPEG
+     */
+    static byte[] jpegWithOrientation(int orientation, boolean littleEndian) {
+        ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+        tiff.writeBytes((littleEndian ? "II" : "MM").getBytes(StandardCharsets.US_ASCII));
+        writeShort(tiff, 42, littleEndian);
+        writeInt(tiff, 8, littleEndian);              // IFD0 위치
+        writeShort(tiff, 1, littleEndian);            // entry 수
+        writeShort(tiff, 0x0112, littleEndian);       // Orientation
+        writeShort(tiff, 3, littleEndian);            // SHORT
+        writeInt(tiff, 1, littleEndian);
+        writeShort(tiff, orientation, littleEndian);
+        writeShort(tiff, 0, littleEndian);
+        writeInt(tiff, 0, littleEndian);              // 다음 IFD 없음
+
+        byte[] exif = tiff.toByteArray();
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        jpeg.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1});
+        writeShort(jpeg, 2 + 6 + exif.length, false);
+        jpeg.writeBytes("Exif".getBytes(StandardCharsets.US_ASCII));
+        jpeg.writeBytes(new byte[]{0, 0});
+        jpeg.writeBytes(exif);
+        jpeg.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xDA, 0, 2, (byte) 0xFF, (byte) 0xD9});
+        return jpeg.toByteArray();
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value, boolean littleEndian) {
+        if (littleEndian) {
+            out.write(value & 0xFF);
+            out.write((value >> 8) & 0xFF);
+        } else {
+            out.write((value >> 8) & 0xFF);
+            out.write(value & 0xFF);
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value, boolean littleEndian) {
+        if (littleEndian) {
+            writeShort(out, value & 0xFFFF, true);
+            writeShort(out, value >>> 16, true);
+        } else {
+            writeShort(out, value >>> 16, false);
+            writeShort(out, value & 0xFFFF, false);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.ssafy.odab.mcpLLM.image;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImagePreprocessorTest {
+
+    private final ImagePreprocessor preprocessor = new ImagePreprocessor(true, 1568, 1_150_000, 50_000_000, true, 0.85f);
+
+    @Test
+    void magic_number_로_형식을_판별함() throws IOException {
+        assertThat(ImagePreprocessor.detectMediaType(encode(solid(20, 20), "jpeg"))).isEqualTo("image/jpeg");
+        assertThat(ImagePreprocessor.detectMediaType(encode(solid(20, 20), "png"))).isEqualTo("image/png");
+        assertThat(ImagePreprocessor.detectMediaType(encode(solid(20, 20), "gif"))).isEqualTo("image/gif");
+        assertThat(ImagePreprocessor.detectMediaType(encode(solid(20, 20), "bmp"))).isEqualTo("image/bmp");
+        assertThat(ImagePreprocessor.detectMediaType("RIFF\0\0\0\0WEBPVP8 ".getBytes())).isEqualTo("image/webp");
+    }
+
+    @Test
+    void 짧거나_모르는_형식이면_null() {
+        assertThat(ImagePreprocessor.detectMediaType(null)).isNull();
+        assertThat(ImagePreprocessor.detectMediaType(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})).isNull();
+        assertThat(ImagePreprocessor.detectMediaType("%PDF-1.7 hello".getBytes())).isNull();
+    }
+
+    @Test
+    void 이미지가_아니면_IllegalArgumentException() {
+        assertThatThrownBy(() -> preprocessor.prepare("%PDF-1.7 hello".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 큰_이미지는_목표_크기의_JPEG_로_줄임() throws IOException {
+        byte[] original = encode(noisy(2400, 1800), "png");
+
+        PreparedImage prepared = preprocessor.prepare(original);
+
+        assertThat(prepared.mediaType()).isEqualTo("image/jpeg");
+        assertThat(prepared.perceptualHash()).isNotNull();
+        assertThat(prepared.bytes().length).isLessThan(original.length);
+        BufferedImage result = decode(prepared.bytes());
+        assertThat(Math.max(result.getWidth(), result.getHeight())).isLessThanOrEqualTo(1568);
+        assertThat((long) result.getWidth() * result.getHeight()).isLessThanOrEqualTo(1_150_000);
+    }
+
+    @Test
+    void EXIF_방향대로_돌려서_가로_세로가_바뀜() throws IOException {
+        byte[] jpeg = withOrientation(encode(solid(300, 200), "jpeg"), 6);
+
+        BufferedImage result = decode(preprocessor.prepare(jpeg).bytes());
+
+        assertThat(result.getWidth()).isEqualTo(200);
+        assertThat(result.getHeight()).isEqualTo(300);
+    }
+
+    @Test
+    void 작은_PNG_는_원본을_그대로_씀() throws IOException {
+        byte[] original = encode(solid(40, 40), "png");
+
+        PreparedImage prepared = preprocessor.prepare(original);
+
+        assertThat(prepared.mediaType()).isEqualTo("image/png");
+        assertThat(prepared.bytes()).isSameAs(original);
+        assertThat(prepared.perceptualHash()).isNotNull();
+    }
+
+    @Test
+    void 전처리를_끄면_원본을_보내고_hash_는_없음() throws IOException {
+        ImagePreprocessor disabled = new ImagePreprocessor(false, 1568, 1_150_000, 50_000_000, true, 0.85f);
+        byte[] png = encode(solid(40, 40), "png");
+
+        PreparedImage prepared = disabled.prepare(png);
+
+        assertThat(prepared.bytes()).isSameAs(png);
+        assertThat(prepared.perceptualHash()).isNull();
+        // Claude 가 받지 않는 형식은 그대로 보낼 수 없음
+        assertThatThrownBy(() -> disabled.prepare(encode(solid(40, 40), "bmp")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 원본_해상도가_제한을_넘으면_디코딩하지_않음() throws IOException {
+        ImagePreprocessor small = new ImagePreprocessor(true, 1568, 1_150_000, 10_000, true, 0.85f);
+
+        assertThatThrownBy(() -> small.prepare(encode(solid(200, 200), "png")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BufferedImage solid(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        g.fillRect(width / 4, height / 4, width / 2, height / 2);
+        g.dispose();
+        return image;
+    }
+
+    // PNG 압축이 잘 되지 않도록 픽셀마다 값을 다르게 채움
+    private static BufferedImage noisy(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int seed = 12345;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                seed = seed * 1103515245 + 12345;
+                image.setRGB(x, y, seed >>> 8);
+            }
+        }
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * SOI 바로 뒤에 Orientation 만 담은 APP1(Exif) 세그먼트를 끼워 넣음
+     */
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = ExifOrientationTest.jpegWithOrientation(orientation, false);
+        // SOI 와 끝의 SOS, EOI(6 byte) 를 뺀 APP1 세그먼트만 사용
+        byte[] app1 = Arrays.copyOfRange(exif, 2, exif.length - 6);
+        byte[] result = new byte[jpeg.length + app1.length];
+        System.arraycopy(jpeg, 0, result, 0, 2);
+        System.arraycopy(app1, 0, result, 2, app1.length);
+        System.arraycopy(jpeg, 2, result, 2 + app1.length, jpeg.length - 2);
+        return result;
+    }
+}
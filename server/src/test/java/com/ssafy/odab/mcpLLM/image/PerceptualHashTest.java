@@ -0,0 +1,88 @@
+package com.ssafy.odab.mcpLLM.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerceptualHashTest {
+
+    @Test
+    void 중앙값보다_밝은_칸을_1_로_씀() {
+        // 왼쪽 절반은 검정, 오른쪽 절반은 흰색 -> 행마다 00001111
+        BufferedImage image = halves(160, 80, BufferedImage.TYPE_INT_RGB, Color.BLACK, Color.WHITE);
+
+        assertThat(PerceptualHash.of(image)).isEqualTo(0x0F0F_0F0F_0F0F_0F0FL);
+    }
+
+    @Test
+    void 밝기를_뒤집으면_모든_bit_가_뒤집힘() {
+        long hash = PerceptualHash.of(halves(160, 80, BufferedImage.TYPE_INT_RGB, Color.BLACK, Color.WHITE));
+        long inverted = PerceptualHash.of(halves(160, 80, BufferedImage.TYPE_INT_RGB, Color.WHITE, Color.BLACK));
+
+        assertThat(inverted).isEqualTo(~hash);
+    }
+
+    @Test
+    void 흑백_이미지와_컬러_이미지가_같은_값을_냄() {
+        long rgb = PerceptualHash.of(halves(160, 80, BufferedImage.TYPE_INT_RGB, Color.BLACK, Color.WHITE));
+        long gray = PerceptualHash.of(halves(160, 80, BufferedImage.TYPE_BYTE_GRAY, Color.BLACK, Color.WHITE));
+
+        assertThat(gray).isEqualTo(rgb);
+    }
+
+    @Test
+    void 크기만_다른_이미지는_거의_같은_값() {
+        BufferedImage original = worksheet(800, 600);
+        BufferedImage resized = resize(original, 400, 300);
+
+        long distance = Long.bitCount(PerceptualHash.of(original) ^ PerceptualHash.of(resized));
+
+        assertThat(distance).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void 배치가_다른_이미지는_값이_크게_다름() {
+        long worksheet = PerceptualHash.of(worksheet(800, 600));
+        long halves = PerceptualHash.of(halves(800, 600, BufferedImage.TYPE_INT_RGB, Color.BLACK, Color.WHITE));
+
+        assertThat(Long.bitCount(worksheet ^ halves)).isGreaterThan(10);
+    }
+
+    private static BufferedImage halves(int width, int height, int type, Color left, Color right) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D g = image.createGraphics();
+        g.setColor(left);
+        g.fillRect(0, 0, width / 2, height);
+        g.setColor(right);
+        g.fillRect(width / 2, 0, width - width / 2, height);
+        g.dispose();
+        return image;
+    }
+
+    // 위쪽에 굵은 제목 띠, 아래쪽에 풀이 칸이 있는 문제지
+    private static BufferedImage worksheet(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        g.fillRect(width / 20, height / 10, width * 6 / 10, height / 8);
+        g.fillRect(width / 20, height / 2, width * 9 / 10, height / 3);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return target;
+    }
+}
@@ -0,0 +1,143 @@
+package com.ssafy.odab.mcpLLM.image.service;
+
+import com.ssafy.odab.domain.question.entity.Question;
+import com.ssafy.odab.domain.question.repository.QuestionRepository;
+import com.ssafy.odab.mcpLLM.image.ImageHash;
+import com.ssafy.odab.mcpLLM.image.ImagePreprocessor;
+import com.ssafy.odab.mcpLLM.image.PreparedImage;
+import com.ssafy.odab.mcpLLM.image.entity.ImageFingerprint;
+import com.ssafy.odab.mcpLLM.image.repository.ImageFingerprintRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageFingerprintServiceImplTest {
+
+    private final ImagePreprocessor preprocessor = new ImagePreprocessor(true, 1568, 1_150_000, 50_000_000, true, 0.85f);
+    private ImageFingerprintRepository repository;
+    private ImageFingerprintServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ImageFingerprintRepository.class);
+        service = new ImageFingerprintServiceImpl(repository, mock(QuestionRepository.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "maxDistance", 2);
+    }
+
+    @Test
+    void 같은_파일이면_OCR_결과를_재사용함() throws IOException {
+        ImageHash hash = hashOf(worksheet("3x+2=5"));
+        ImageFingerprint stored = fingerprint(hash, "3x+2=5");
+        when(repository.findByContentHash(hash.contentHash())).thenReturn(Optional.of(stored));
+
+        assertThat(service.findOcrText(hash)).contains("3x+2=5");
+    }
+
+    @Test
+    void 숫자만_다른_문제는_OCR_결과를_재사용하지_않음() throws IOException {
+        ImageHash stored = hashOf(worksheet("3x+2=5"));
+        ImageHash uploaded = hashOf(worksheet("3x+7=5"));
+        candidates(fingerprint(stored, "3x+2=5"));
+
+        assertThat(service.findOcrText(uploaded)).isEmpty();
+    }
+
+    @Test
+    void perceptual_hash_가_같아도_다른_파일이면_OCR_결과를_재사용하지_않음() {
+        ImageHash stored = new ImageHash("a".repeat(64), 0x0F0F_0F0F_0F0F_0F0FL);
+        ImageHash uploaded = new ImageHash("b".repeat(64), 0x0F0F_0F0F_0F0F_0F0FL);
+        candidates(fingerprint(stored, "3x+2=5"));
+
+        assertThat(service.findOcrText(uploaded)).isEmpty();
+    }
+
+    @Test
+    void 같은_파일이면_문제_텍스트가_같을_때만_풀이를_재사용함() {
+        ImageHash hash = new ImageHash("a".repeat(64), 0x0F0F_0F0F_0F0F_0F0FL);
+        ImageFingerprint solved = solved(hash, "3x+2=5", null);
+        when(repository.findByContentHash(hash.contentHash())).thenReturn(Optional.of(solved));
+
+        assertThat(service.findSolved(hash, "3x+2=5")).contains(solved);
+        assertThat(service.findSolved(hash, "3x+7=5")).isEmpty();
+    }
+
+    @Test
+    void 비슷한_이미지는_OCR_결과가_없으면_풀이를_재사용하지_않음() {
+        ImageHash stored = new ImageHash("a".repeat(64), 0x0F0F_0F0F_0F0F_0F0FL);
+        ImageHash uploaded = new ImageHash("b".repeat(64), 0x0F0F_0F0F_0F0F_0F0EL);
+        candidates(solved(stored, "풀어줘", "3x+2=5"));
+
+        assertThat(service.findSolved(uploaded, "풀어줘")).isEmpty();
+    }
+
+    @Test
+    void 비슷한_이미지는_OCR_결과가_같을_때만_풀이를_재사용함() {
+        ImageHash stored = new ImageHash("a".repeat(64), 0x0F0F_0F0F_0F0F_0F0FL);
+        ImageHash uploaded = new ImageHash("b".repeat(64), 0x0F0F_0F0F_0F0F_0F0EL);
+        ImageFingerprint solved = solved(stored, "풀어줘", "3x+2=5");
+        when(repository.findByAnyBand(any(), any(), any(), any(), any())).thenReturn(List.of(solved));
+
+        when(repository.findByContentHash(uploaded.contentHash())).thenReturn(Optional.of(fingerprint(uploaded, "3x+2=5")));
+        assertThat(service.findSolved(uploaded, "풀어줘")).contains(solved);
+
+        // 배치가 같아 perceptual hash 가 가까워도 숫자가 다르면 다른 문제
+        when(repository.findByContentHash(uploaded.contentHash())).thenReturn(Optional.of(fingerprint(uploaded, "3x+7=5")));
+        assertThat(service.findSolved(uploaded, "풀어줘")).isEmpty();
+    }
+
+    private void candidates(ImageFingerprint... fingerprints) {
+        when(repository.findByContentHash(anyString())).thenReturn(Optional.empty());
+        when(repository.findByAnyBand(any(), any(), any(), any(), any())).thenReturn(List.of(fingerprints));
+    }
+
+    private static ImageFingerprint fingerprint(ImageHash hash, String ocrText) {
+        ImageFingerprint fingerprint = ImageFingerprint.of(hash);
+        fingerprint.updateOcrText(ocrText);
+        return fingerprint;
+    }
+
+    private static ImageFingerprint solved(ImageHash hash, String ask, String ocrText) {
+        ImageFingerprint fingerprint = ImageFingerprint.of(hash);
+        fingerprint.updateOcrText(ocrText);
+        fingerprint.updateSolved(new Question(), ImageHash.sha256(ask));
+        return fingerprint;
+    }
+
+    private ImageHash hashOf(byte[] original) {
+        PreparedImage prepared = preprocessor.prepare(original);
+        return ImageHash.of(original, prepared);
+    }
+
+    // 같은 양식의 문제지에 식만 다르게 씀
+    private static byte[] worksheet(String equation) throws IOException {
+        BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 800, 600);
+        g.setColor(Color.BLACK);
+        g.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 32));
+        g.drawString("1. 다음 방정식을 푸시오.", 40, 80);
+        g.drawString(equation, 80, 160);
+        g.drawRect(40, 220, 720, 320);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,135 @@
+package com.ssafy.odab.mcpLLM.rag.index;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    private final Random random = new Random(7);
+    private MappedVectorStore vectors;
+    private HnswIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        vectors = MappedVectorStore.temporary(DIMENSION, 16);
+        index = new HnswIndex(vectors, 16, 200);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        vectors.close();
+    }
+
+    @Test
+    void 비어있으면_결과가_없음() {
+        assertThat(index.search(randomUnitVector(), 5, 64)).isEmpty();
+    }
+
+    @Test
+    void 저장된_벡터로_찾으면_자기_자신이_가장_가까움() {
+        List<float[]> stored = addRandom(300);
+
+        for (int node : List.of(0, 150, 299)) {
+            List<HnswIndex.Candidate> result = index.search(stored.get(node), 1, 64);
+
+            assertThat(result.get(0).getNode()).isEqualTo(node);
+            assertThat(result.get(0).getSimilarity()).isCloseTo(1f, within(1e-5f));
+        }
+    }
+
+    @Test
+    void 전수_조사와_비교해_top_10_을_대부분_찾음() {
+        List<float[]> stored = addRandom(1000);
+        int queries = 50;
+        int found = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnitVector();
+            Set<Integer> expected = new HashSet<>(bruteForce(stored, query, 10));
+            for (HnswIndex.Candidate candidate : index.search(query, 10, 64)) {
+                if (expected.contains(candidate.getNode())) {
+                    found++;
+                }
+            }
+        }
+
+        assertThat(found / (double) (queries * 10)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void 결과는_유사도_높은_순() {
+        addRandom(200);
+
+        List<HnswIndex.Candidate> result = index.search(randomUnitVector(), 10, 64);
+
+        assertThat(result).hasSize(10);
+        for (int i = 1; i < result.size(); i++) {
+            assertThat(result.get(i).getSimilarity()).isLessThanOrEqualTo(result.get(i - 1).getSimilarity());
+        }
+    }
+
+    @Test
+    void 삭제한_노드는_결과에서_빠짐() {
+        List<float[]> stored = addRandom(100);
+
+        index.markDeleted(42);
+
+        assertThat(index.search(stored.get(42), 5, 64))
+                .extracting(HnswIndex.Candidate::getNode)
+                .doesNotContain(42);
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index.liveSize()).isEqualTo(99);
+    }
+
+    private List<float[]> addRandom(int count) {
+        List<float[]> stored = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            float[] vector = randomUnitVector();
+            stored.add(vector);
+            assertThat(index.add(vector)).isEqualTo(i);
+        }
+        return stored;
+    }
+
+    private List<Integer> bruteForce(List<float[]> stored, float[] query, int k) {
+        return IntStream.range(0, stored.size()).boxed()
+                .sorted(Comparator.comparingDouble(node -> -dot(stored.get(node), query)))
+                .limit(k)
+                .toList();
+    }
+
+    private float[] randomUnitVector() {
+        float[] vector = new float[DIMENSION];
+        double norm = 0;
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
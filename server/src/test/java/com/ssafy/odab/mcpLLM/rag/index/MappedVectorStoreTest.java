@@ -0,0 +1,77 @@
+package com.ssafy.odab.mcpLLM.rag.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class MappedVectorStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 넣은_순서대로_번호를_주고_그대로_읽음() throws IOException {
+        try (MappedVectorStore store = new MappedVectorStore(dir.resolve("vectors.f32"), 3, 16)) {
+            assertThat(store.add(new float[]{1f, 2f, 3f})).isZero();
+            assertThat(store.add(new float[]{-1f, 0.5f, 0f})).isEqualTo(1);
+
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.dimension()).isEqualTo(3);
+            assertThat(store.get(0)).containsExactly(1f, 2f, 3f);
+            assertThat(store.get(1)).containsExactly(-1f, 0.5f, 0f);
+        }
+    }
+
+    @Test
+    void 공간이_부족하면_늘리고_이전_벡터는_유지함() throws IOException {
+        try (MappedVectorStore store = new MappedVectorStore(dir.resolve("vectors.f32"), 4, 16)) {
+            for (int i = 0; i < 100; i++) {
+                store.add(new float[]{i, i + 1, i + 2, i + 3});
+            }
+
+            assertThat(store.size()).isEqualTo(100);
+            assertThat(store.get(0)).containsExactly(0f, 1f, 2f, 3f);
+            assertThat(store.get(15)).containsExactly(15f, 16f, 17f, 18f);
+            assertThat(store.get(99)).containsExactly(99f, 100f, 101f, 102f);
+        }
+    }
+
+    @Test
+    void 내적을_계산함() throws IOException {
+        try (MappedVectorStore store = new MappedVectorStore(dir.resolve("vectors.f32"), 3, 16)) {
+            store.add(new float[]{1f, 2f, 3f});
+            store.add(new float[]{4f, -5f, 6f});
+
+            assertThat(store.dot(0, new float[]{1f, 1f, 1f})).isCloseTo(6f, within(1e-6f));
+            assertThat(store.dot(0, 1)).isCloseTo(12f, within(1e-6f));
+        }
+    }
+
+    @Test
+    void dimension_이_다르면_IllegalArgumentException() throws IOException {
+        try (MappedVectorStore store = new MappedVectorStore(dir.resolve("vectors.f32"), 3, 16)) {
+            assertThatThrownBy(() -> store.add(new float[]{1f, 2f}))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(store.size()).isZero();
+        }
+    }
+
+    @Test
+    void 닫으면_파일을_지움() throws IOException {
+        Path path = dir.resolve("vectors.f32");
+        MappedVectorStore store = new MappedVectorStore(path, 3, 16);
+        store.add(new float[]{1f, 2f, 3f});
+        assertThat(Files.exists(path)).isTrue();
+
+        store.close();
+
+        assertThat(Files.exists(path)).isFalse();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ssafy.odab.mcpLLM.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseLabelsTest {
+
+    private static final String RESPONSE = """
+            풀이 1단계: 양변에 같은 수를 더한다.
+            추출된 답변:  x = 2 또는 x = 3\s
+            완전 일치 여부: 완전 일치
+            불일치 이유: 없음
+            최종 판정: 정답""";
+
+    @Test
+    void 라벨_다음부터_줄_끝까지_공백을_빼고_꺼냄() {
+        assertThat(ResponseLabels.extract(RESPONSE, "추출된 답변:")).isEqualTo("x = 2 또는 x = 3");
+        assertThat(ResponseLabels.extract(RESPONSE, "완전 일치 여부:")).isEqualTo("완전 일치");
+        assertThat(ResponseLabels.extract(RESPONSE, "불일치 이유:")).isEqualTo("없음");
+    }
+
+    @Test
+    void 마지막_줄이면_응답_끝까지_꺼냄() {
+        assertThat(ResponseLabels.extract(RESPONSE, "최종 판정:")).isEqualTo("정답");
+    }
+
+    @Test
+    void 라벨이_없으면_빈_문자열() {
+        assertThat(ResponseLabels.extract(RESPONSE, "없는 라벨:")).isEmpty();
+    }
+
+    @Test
+    void 라벨이_여러_번_나오면_처음_것을_씀() {
+        assertThat(ResponseLabels.extract("최종 판정: 오답\n최종 판정: 정답", "최종 판정:")).isEqualTo("오답");
+    }
+
+    @Test
+    void 라벨_뒤에_내용이_없으면_빈_문자열() {
+        assertThat(ResponseLabels.extract("최종 판정:\n", "최종 판정:")).isEmpty();
+    }
+}